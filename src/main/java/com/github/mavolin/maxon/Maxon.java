@@ -6,12 +6,27 @@ import com.github.mavolin.maxon.convert.ObjectConverter;
 import com.github.mavolin.maxon.converter.*;
 import com.github.mavolin.maxon.exceptions.MissingAnnotationException;
 import com.github.mavolin.maxon.jsonvalues.*;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
 import com.github.mavolin.maxon.parsing.JsonValueConverter;
-import com.github.mavolin.maxon.utils.JsonPrinter;
-
+import com.github.mavolin.maxon.utils.JsonWriter;
+import com.github.mavolin.maxon.utils.KeyCache;
+import com.github.mavolin.maxon.utils.Utf8Writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 /**
  * The {@code Maxon} class is the heart of this JSON converter. Using the {@code getAsJson} and {@code getFromJson}
@@ -20,10 +35,6 @@ import java.util.concurrent.ConcurrentSkipListMap;
 public class Maxon {
 
 
-    /**
-     * The {@link JsonValueConverter JsonValueConverter}.
-     */
-    private static final JsonValueConverter JSON_VALUE_CONVERTER = new JsonValueConverter();
     /**
      * The {@link UniversalEnumConverter EnumConverter}.
      */
@@ -40,6 +51,10 @@ public class Maxon {
      * The {@link ListConverter ListConverter}.
      */
     private static final ListConverter LIST_CONVERTER = new ListConverter();
+    /**
+     * The {@link ArrayConverter ArrayConverter}.
+     */
+    private static final ArrayConverter ARRAY_CONVERTER = new ArrayConverter();
 
     /**
      * The character used as whitespace when {@link PrintStyle#SINGLE_WHITESPACE PrintStyle.SINGLE_WHITESPACE} or {@link
@@ -60,6 +75,14 @@ public class Maxon {
      * com.github.mavolin.maxon.jsonvalues.JsonObject JsonObjects} are to be serialized or not;
      */
     private final boolean ignoreNull;
+    /**
+     * The {@link JsonValueConverter JsonValueConverter}.
+     */
+    private final JsonValueConverter jsonValueConverter;
+    /**
+     * The {@link KeyCache KeyCache} used by all {@link JsonWriter JsonWriters} or {@code null}.
+     */
+    private final KeyCache keyCache;
 
     /**
      * Holds the different {@link ObjectConverter ObjectConverter} and is called when a conversion is needed by one of
@@ -93,6 +116,9 @@ public class Maxon {
         this.whitespaceCharQty = maxonConfigurator.whitespaceCharQty;
         this.printStyle = maxonConfigurator.printStyle;
         this.ignoreNull = maxonConfigurator.ignoreNull;
+        this.jsonValueConverter = new JsonValueConverter(maxonConfigurator.numberMode,
+                                                         maxonConfigurator.symbolTable);
+        this.keyCache = maxonConfigurator.keyCache;
 
         this.registerConverter(new PrimitivesConverter());
         this.registerConverter(new AtomicObjectConverter());
@@ -101,7 +127,8 @@ public class Maxon {
 
 
     /**
-     * Returns the JSON representation of the passed {@link Object Object}.
+     * Returns the JSON representation of the passed {@link Object Object}. The {@link Object Object} is written
+     * straight into the JSON, without building a {@link JsonValue JsonValue} first.
      *
      * @param source
      *         the {@link Object Object} that is to be converted.
@@ -110,7 +137,11 @@ public class Maxon {
      */
     public String getAsJson(Object source) {
 
-        return this.getAsJson(this.getAsJsonValue(source));
+        StringBuilder stringBuilder = new StringBuilder();
+
+        this.writeJson(source, stringBuilder);
+
+        return stringBuilder.toString();
     }
 
     /**
@@ -123,17 +154,161 @@ public class Maxon {
      */
     public String getAsJson(JsonValue jsonValue) {
 
-        if (jsonValue instanceof JsonPrimitive) {
-            return JsonPrinter.printJsonPrimitive((JsonPrimitive) jsonValue);
-        } else if (jsonValue instanceof JsonArray) {
-            return JsonPrinter.printJsonArray((JsonArray) jsonValue, this.whitespaceChar, this.whitespaceCharQty,
-                                              this.ignoreNull, this.printStyle);
-        } else if (jsonValue instanceof JsonObject) {
-            return JsonPrinter.printJsonObject((JsonObject) jsonValue, this.whitespaceChar, this.whitespaceCharQty,
-                                               this.ignoreNull, this.printStyle);
-        } else {
+        if (jsonValue == null) {
             throw new IllegalArgumentException("The passed JsonValue is not supported");
         }
+
+        StringBuilder stringBuilder = new StringBuilder();
+        JsonWriter jsonWriter = this.newJsonWriter(stringBuilder);
+
+        jsonWriter.value(jsonValue);
+        jsonWriter.flush();
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Writes the JSON representation of the passed {@link Object Object} into the passed {@link Appendable Appendable}
+     * in a single pass, without building a {@link JsonValue JsonValue} or the JSON as a {@link String String} first. If
+     * the {@link Appendable Appendable} is a {@link Writer Writer}, it will be flushed, but not closed.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param out
+     *         the {@link Appendable Appendable}
+     *
+     * @throws UncheckedIOException
+     *         if the {@link Appendable Appendable} throws an {@link IOException IOException}
+     */
+    public void writeJson(Object source, Appendable out) {
+
+        JsonWriter jsonWriter = this.newJsonWriter(out);
+
+        this.writeJson(source, jsonWriter);
+        jsonWriter.flush();
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON representation of the passed {@link Object Object}. The characters are encoded
+     * straight into bytes, without building the JSON as a {@link String String} first.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     *
+     * @return the UTF-8 encoded JSON
+     */
+    public byte[] getAsJsonBytes(Object source) {
+
+        Utf8Writer utf8Writer = new Utf8Writer();
+
+        this.writeJson(source, utf8Writer);
+
+        return utf8Writer.toByteArray();
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON representation of the passed {@link Object Object} into the passed {@link
+     * OutputStream OutputStream}. The {@link OutputStream OutputStream} will be flushed, but not closed.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param out
+     *         the {@link OutputStream OutputStream}
+     *
+     * @throws UncheckedIOException
+     *         if the {@link OutputStream OutputStream} throws an {@link IOException IOException}
+     */
+    public void writeJson(Object source, OutputStream out) {
+
+        this.writeJson(source, new Utf8Writer(out));
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON representation of the passed {@link Object Object} into the passed {@link
+     * WritableByteChannel WritableByteChannel}. The {@link WritableByteChannel WritableByteChannel} will not be
+     * closed.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param out
+     *         the {@link WritableByteChannel WritableByteChannel}
+     *
+     * @throws UncheckedIOException
+     *         if the {@link WritableByteChannel WritableByteChannel} throws an {@link IOException IOException}
+     */
+    public void writeJson(Object source, WritableByteChannel out) {
+
+        this.writeJson(source, new Utf8Writer(out));
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON representation of the passed {@link Object Object} into the remaining space of the
+     * passed {@link ByteBuffer ByteBuffer} and advances its position past the JSON.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param out
+     *         the {@link ByteBuffer ByteBuffer}
+     *
+     * @throws java.nio.BufferOverflowException
+     *         if the JSON does not fit into the remaining space of the {@link ByteBuffer ByteBuffer}
+     */
+    public void writeJson(Object source, ByteBuffer out) {
+
+        this.writeJson(source, new Utf8Writer(out));
+    }
+
+    /**
+     * Writes the JSON representation of the passed {@link Object Object} as the next value of the passed {@link
+     * JsonWriter JsonWriter}. Objects, arrays, maps and lists are written field by field and element by element, a
+     * {@link JsonValue JsonValue} is only built by {@link JsonConverter JsonConverters}, that do not write tokens
+     * themselves. The {@link JsonWriter JsonWriter} will not be flushed.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     */
+    public void writeJson(Object source, JsonWriter jsonWriter) {
+
+        if (source == null) {
+            jsonWriter.nullValue();
+        } else if (source instanceof JsonValue) {
+            jsonWriter.value((JsonValue) source);
+        } else if (source.getClass().isArray()) {
+            ARRAY_CONVERTER.writeJson(source, jsonWriter, this);
+        } else if (this.converter.containsKey(source.getClass())) {
+            this.converter.get(source.getClass()).writeJson(source, jsonWriter);
+        } else if (source instanceof Enum) {
+            UNIVERSAL_ENUM_CONVERTER.writeJson(source, jsonWriter);
+        } else if (source instanceof HashMap || source instanceof Hashtable || source instanceof EnumMap ||
+                   source instanceof IdentityHashMap || source instanceof TreeMap || source instanceof WeakHashMap ||
+                   source instanceof ConcurrentHashMap || source instanceof ConcurrentSkipListMap) {
+            MAP_CONVERTER.writeJson(source, jsonWriter, this);
+        } else if (source instanceof ArrayList || source instanceof LinkedList || source instanceof Vector) {
+            LIST_CONVERTER.writeJson(source, jsonWriter, this);
+        } else {
+            UNIVERSAL_OBJECT_CONVERTER.writeJson(source, jsonWriter, this);
+        }
+    }
+
+    /**
+     * Creates a new {@link JsonWriter JsonWriter} writing into the passed {@link Appendable Appendable} in the style
+     * configured for this {@code Maxon}.
+     *
+     * @param out
+     *         the {@link Appendable Appendable}
+     *
+     * @return the {@link JsonWriter JsonWriter}
+     */
+    public JsonWriter newJsonWriter(Appendable out) {
+
+        JsonWriter jsonWriter = new JsonWriter(out, this.whitespaceChar, this.whitespaceCharQty, this.ignoreNull,
+                                               this.printStyle);
+
+        jsonWriter.setKeyCache(this.keyCache);
+
+        return jsonWriter;
     }
 
     /**
@@ -155,67 +330,7 @@ public class Maxon {
         }
 
         if (source.getClass().isArray()) {
-            JsonArray jsonArray = new JsonArray();
-            Class<?> componentType = source.getClass().getComponentType();
-
-            if (componentType.isPrimitive()) {
-                if (boolean.class.isAssignableFrom(componentType)) {
-                    boolean[] booleans = (boolean[]) source;
-
-                    for (boolean bool : booleans) {
-                        jsonArray.add(this.getAsJsonValue(bool));
-                    }
-                } else if (char.class.isAssignableFrom(componentType)) {
-                    char[] chars = (char[]) source;
-
-                    for (char character : chars) {
-                        jsonArray.add(this.getAsJsonValue(character));
-                    }
-                } else if (byte.class.isAssignableFrom(componentType)) {
-                    byte[] bytes = (byte[]) source;
-
-                    for (byte num : bytes) {
-                        jsonArray.add(this.getAsJsonValue(num));
-                    }
-                } else if (short.class.isAssignableFrom(componentType)) {
-                    short[] shorts = (short[]) source;
-
-                    for (short num : shorts) {
-                        jsonArray.add(this.getAsJsonValue(num));
-                    }
-                } else if (int.class.isAssignableFrom(componentType)) {
-                    int[] ints = (int[]) source;
-
-                    for (int num : ints) {
-                        jsonArray.add(this.getAsJsonValue(num));
-                    }
-                } else if (long.class.isAssignableFrom(componentType)) {
-                    long[] longs = (long[]) source;
-
-                    for (long num : longs) {
-                        jsonArray.add(this.getAsJsonValue(num));
-                    }
-                } else if (float.class.isAssignableFrom(componentType)) {
-                    float[] floats = (float[]) source;
-
-                    for (float num : floats) {
-                        jsonArray.add(this.getAsJsonValue(num));
-                    }
-                } else if (double.class.isAssignableFrom(componentType)) {
-                    double[] doubles = (double[]) source;
-
-                    for (double num : doubles) {
-                        jsonArray.add(this.getAsJsonValue(num));
-                    }
-                }
-            } else {
-                Object[] objects = (Object[]) source;
-
-                for (Object object : objects) {
-                    jsonArray.add(this.getAsJsonValue(object));
-                }
-            }
-            return jsonArray;
+            return ARRAY_CONVERTER.getAsJson(source, this);
         }
 
         Class sourceClass = source.getClass();
@@ -250,9 +365,259 @@ public class Maxon {
      */
     public <T> T getFromJson(String source, Class<T> clazz) {
 
-        JsonValue jsonValue = JSON_VALUE_CONVERTER.getFromJson(source);
+        return this.jsonValueConverter.read(source, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the JSON read from the passed {@link Reader Reader} to an {@link Object Object} of the specified {@link
+     * Class Class} and returns it. The JSON is parsed incrementally through a fixed-size buffer and bound straight to
+     * the {@link Object Object}, so that neither the JSON text nor a {@link JsonValue JsonValue} tree is held in
+     * memory. The {@link Reader Reader} will not be closed.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link Reader Reader} providing the JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(Reader source, Class<T> clazz) {
+
+        return this.jsonValueConverter.read(source, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON read from the passed {@link InputStream InputStream} to an {@link Object Object}
+     * of the specified {@link Class Class} and returns it. The JSON is parsed incrementally through a fixed-size buffer
+     * and bound straight to the {@link Object Object}, so that neither the JSON text nor a {@link JsonValue JsonValue}
+     * tree is held in memory. The {@link InputStream InputStream} will not be closed.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link InputStream InputStream} providing the UTF-8 encoded JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(InputStream source, Class<T> clazz) {
+
+        return this.jsonValueConverter.read(source, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON read from the passed {@link ReadableByteChannel ReadableByteChannel} to an {@link
+     * Object Object} of the specified {@link Class Class} and returns it. The JSON is parsed incrementally through a
+     * fixed-size buffer and bound straight to the {@link Object Object}, so that neither the JSON text nor a {@link
+     * JsonValue JsonValue} tree is held in memory. The {@link ReadableByteChannel ReadableByteChannel} must be in
+     * blocking mode and will not be closed.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link ReadableByteChannel ReadableByteChannel} providing the UTF-8 encoded JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(ReadableByteChannel source, Class<T> clazz) {
+
+        return this.jsonValueConverter.read(source, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the passed UTF-8 encoded bytes to an {@link Object Object} of the specified {@link Class Class} and
+     * returns it. The bytes are parsed in place, without decoding them to a {@link String String} first.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the UTF-8 encoded JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(byte[] source, Class<T> clazz) {
+
+        return this.getFromJson(source, 0, source.length, clazz);
+    }
+
+    /**
+     * Converts the specified range of the passed UTF-8 encoded bytes to an {@link Object Object} of the specified
+     * {@link Class Class} and returns it. The bytes are parsed in place, without decoding them to a {@link String
+     * String} first.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the byte array containing the UTF-8 encoded JSON
+     * @param offset
+     *         the index of the first byte of the JSON
+     * @param length
+     *         the number of bytes of the JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(byte[] source, int offset, int length, Class<T> clazz) {
+
+        return this.jsonValueConverter.read(source, offset, length, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the remaining UTF-8 encoded bytes of the passed {@link ByteBuffer ByteBuffer} to an {@link Object
+     * Object} of the specified {@link Class Class} and returns it. The position of the {@link ByteBuffer ByteBuffer}
+     * will not be modified.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(ByteBuffer source, Class<T> clazz) {
+
+        return this.jsonValueConverter.read(source, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON stored in the file at the passed {@link Path Path} to an {@link Object Object}
+     * of the specified {@link Class Class} and returns it. The file is memory-mapped in segments, which are copied
+     * through a small, fixed-size buffer while parsing, so that the file is neither read into the heap nor decoded to a
+     * {@link String String} first.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     *
+     * @throws com.github.mavolin.maxon.exceptions.JsonParsingException
+     *         if the file cannot be read
+     */
+    public <T> T getFromJson(Path source, Class<T> clazz) {
+
+        return this.jsonValueConverter.read(source, jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON Lines (newline-delimited JSON) saved in the passed byte array to a {@link Stream
+     * Stream} of {@link Object Objects} of the specified {@link Class Class}. The lines are parsed and converted in
+     * parallel, as described in {@link JsonValueConverter#getFromJsonLines(ByteBuffer, boolean)}.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the UTF-8 encoded JSON Lines
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Objects}
+     * @param ordered
+     *         whether the {@link Object Objects} must be in the order of their lines
+     *
+     * @return the parallel {@link Stream Stream} of the converted {@link Object Objects}
+     */
+    public <T> Stream<T> getFromJsonLines(byte[] source, Class<T> clazz, boolean ordered) {
+
+        return this.jsonValueConverter.readJsonLines(source, ordered,
+                                                     jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON Lines (newline-delimited JSON) saved in the remaining bytes of the passed {@link
+     * ByteBuffer ByteBuffer} to a {@link Stream Stream} of {@link Object Objects} of the specified {@link Class Class}.
+     * The lines are parsed and converted in parallel, as described in {@link
+     * JsonValueConverter#getFromJsonLines(ByteBuffer, boolean)}.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON Lines
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Objects}
+     * @param ordered
+     *         whether the {@link Object Objects} must be in the order of their lines
+     *
+     * @return the parallel {@link Stream Stream} of the converted {@link Object Objects}
+     */
+    public <T> Stream<T> getFromJsonLines(ByteBuffer source, Class<T> clazz, boolean ordered) {
 
-        return this.getFromJson(jsonValue, clazz);
+        return this.jsonValueConverter.readJsonLines(source, ordered,
+                                                     jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON Lines (newline-delimited JSON) stored in the file at the passed {@link Path
+     * Path} to a {@link Stream Stream} of {@link Object Objects} of the specified {@link Class Class}. The file is
+     * memory-mapped and the lines are parsed and converted in parallel, as described in {@link
+     * JsonValueConverter#getFromJsonLines(ByteBuffer, boolean)}.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON Lines
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Objects}
+     * @param ordered
+     *         whether the {@link Object Objects} must be in the order of their lines
+     *
+     * @return the parallel {@link Stream Stream} of the converted {@link Object Objects}
+     *
+     * @throws com.github.mavolin.maxon.exceptions.JsonParsingException
+     *         if the file cannot be read or is larger than 2 GB
+     */
+    public <T> Stream<T> getFromJsonLines(Path source, Class<T> clazz, boolean ordered) {
+
+        return this.jsonValueConverter.readJsonLines(source, ordered,
+                                                     jsonReader -> this.getFromJson(jsonReader, clazz));
+    }
+
+    /**
+     * Converts the JSON value at the current position of the passed {@link JsonReader JsonReader} to an {@link Object
+     * Object} of the specified {@link Class Class} and returns it. Objects are bound straight from the tokens, a {@link
+     * JsonValue JsonValue} is only built for {@link JsonValue JsonValues}, {@link Enum Enums}, maps and lists, as well
+     * as for {@link JsonConverter JsonConverters}, that do not bind tokens themselves. After the conversion, the
+     * current token of the {@link JsonReader JsonReader} will be the last token of the value.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param clazz
+     *         the desired {@link Class Class} of the output {@link Object Object}
+     *
+     * @return the converted {@link Object Object}
+     */
+    public <T> T getFromJson(JsonReader jsonReader, Class<T> clazz) {
+
+        if (jsonReader.startValue() == JsonToken.NULL) {
+            return null;
+        }
+
+        if (JsonValue.class.isAssignableFrom(clazz)) {
+            JsonValue jsonValue = this.jsonValueConverter.getFromJson(jsonReader);
+
+            return clazz.isInstance(jsonValue) ? clazz.cast(jsonValue) : this.getFromJson(jsonValue, clazz);
+        } else if (this.converter.containsKey(clazz)) {
+            return this.converter.get(clazz).getFromJson(jsonReader, clazz, this.jsonValueConverter);
+        } else if (Enum.class.isAssignableFrom(clazz) || isMap(clazz) || isList(clazz)) {
+            return this.getFromJson(this.jsonValueConverter.getFromJson(jsonReader), clazz);
+        } else if (clazz.isArray()) {
+            return ARRAY_CONVERTER.getFromJson(jsonReader, clazz, this);
+        } else {
+            return UNIVERSAL_OBJECT_CONVERTER.getFromJson(jsonReader, clazz, this);
+        }
     }
 
     /**
@@ -281,15 +646,12 @@ public class Maxon {
             return this.converter.get(clazz).getFromJson(jsonValue, clazz);
         } else if (Enum.class.isAssignableFrom(clazz)) {
             return UNIVERSAL_ENUM_CONVERTER.getFromJson(jsonValue, clazz);
-        } else if (HashMap.class.isAssignableFrom(clazz) || LinkedHashMap.class.isAssignableFrom(clazz) ||
-                   Hashtable.class.isAssignableFrom(clazz) || IdentityHashMap.class.isAssignableFrom(clazz) ||
-                   TreeMap.class.isAssignableFrom(clazz) || WeakHashMap.class.isAssignableFrom(clazz) ||
-                   ConcurrentHashMap.class.isAssignableFrom(clazz) ||
-                   ConcurrentSkipListMap.class.isAssignableFrom(clazz) || EnumMap.class.isAssignableFrom(clazz)) {
+        } else if (isMap(clazz)) {
             return MAP_CONVERTER.getFromJson(jsonValue, clazz, this);
-        } else if (ArrayList.class.isAssignableFrom(clazz) || LinkedList.class.isAssignableFrom(clazz) ||
-                   Vector.class.isAssignableFrom(clazz) || Stack.class.isAssignableFrom(clazz)) {
+        } else if (isList(clazz)) {
             return LIST_CONVERTER.getFromJson(jsonValue, clazz, this);
+        } else if (clazz.isArray()) {
+            return ARRAY_CONVERTER.getFromJson(jsonValue, clazz, this);
         } else {
             return UNIVERSAL_OBJECT_CONVERTER.getFromJson(jsonValue, clazz, this);
         }
@@ -335,6 +697,37 @@ public class Maxon {
         }
     }
 
+    /**
+     * Checks if the passed {@link Class Class} is converted by the {@link MapConverter MapConverter}.
+     *
+     * @param clazz
+     *         the {@link Class Class}
+     *
+     * @return {@code true} if the {@link Class Class} is a supported map; {@code false} otherwise
+     */
+    private static boolean isMap(Class<?> clazz) {
+
+        return HashMap.class.isAssignableFrom(clazz) || LinkedHashMap.class.isAssignableFrom(clazz) ||
+               Hashtable.class.isAssignableFrom(clazz) || IdentityHashMap.class.isAssignableFrom(clazz) ||
+               TreeMap.class.isAssignableFrom(clazz) || WeakHashMap.class.isAssignableFrom(clazz) ||
+               ConcurrentHashMap.class.isAssignableFrom(clazz) || ConcurrentSkipListMap.class.isAssignableFrom(clazz) ||
+               EnumMap.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Checks if the passed {@link Class Class} is converted by the {@link ListConverter ListConverter}.
+     *
+     * @param clazz
+     *         the {@link Class Class}
+     *
+     * @return {@code true} if the {@link Class Class} is a supported list; {@code false} otherwise
+     */
+    private static boolean isList(Class<?> clazz) {
+
+        return ArrayList.class.isAssignableFrom(clazz) || LinkedList.class.isAssignableFrom(clazz) ||
+               Vector.class.isAssignableFrom(clazz) || Stack.class.isAssignableFrom(clazz);
+    }
+
     /**
      * The {@code #converterCheck(JsonConversionManager)} is a utility method used run some basic checks, e. g. if the
      * passed {@link JsonConverter JsonConverter} is null. If there is a problem found with the {@link JsonConverter
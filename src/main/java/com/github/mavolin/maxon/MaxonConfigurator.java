@@ -1,6 +1,8 @@
 package com.github.mavolin.maxon;
 
 import com.github.mavolin.maxon.converter.DateFormatConfiguration;
+import com.github.mavolin.maxon.parsing.SymbolTable;
+import com.github.mavolin.maxon.utils.KeyCache;
 
 import java.time.format.DateTimeFormatter;
 
@@ -35,6 +37,18 @@ public class MaxonConfigurator {
      * {@link java.time java.time}
      */
     DateFormatConfiguration dateFormatConfiguration;
+    /**
+     * The Java representation of JSON numbers with a fraction or an exponent.
+     */
+    NumberMode numberMode;
+    /**
+     * The {@link SymbolTable SymbolTable} used to canonicalize the names of JSON object fields.
+     */
+    SymbolTable symbolTable;
+    /**
+     * The {@link KeyCache KeyCache} used to look up the escaped keys of JSON objects.
+     */
+    KeyCache keyCache;
 
 
     /**
@@ -47,6 +61,7 @@ public class MaxonConfigurator {
         this.printStyle = PrintStyle.SINGLE_WHITESPACE;
         this.ignoreNull = false;
         this.dateFormatConfiguration = new DateFormatConfiguration();
+        this.numberMode = NumberMode.BIG_DECIMAL;
     }
 
     /**
@@ -158,6 +173,70 @@ public class MaxonConfigurator {
         return this;
     }
 
+    /**
+     * <p>
+     *     Sets the {@link NumberMode NumberMode} which defines how JSON numbers with a fraction or an exponent are
+     *     parsed.
+     * </p>
+     * <p>
+     *     The default setting is {@link NumberMode#BIG_DECIMAL NumberMode.BIG_DECIMAL}.
+     * </p>
+     *
+     * @param numberMode
+     *         the {@link NumberMode NumberMode}
+     *
+     * @return itself
+     */
+    public MaxonConfigurator setNumberMode(NumberMode numberMode) {
+
+        this.numberMode = numberMode;
+
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Sets the {@link SymbolTable SymbolTable} used to canonicalize the names of JSON object fields, and short JSON
+     *     string values if configured, during parsing, so that repeated names share the same {@link String String}
+     *     instance.
+     * </p>
+     * <p>
+     *     The default setting is {@code null}, i.e. no canonicalization.
+     * </p>
+     *
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} or {@code null}
+     *
+     * @return itself
+     */
+    public MaxonConfigurator setSymbolTable(SymbolTable symbolTable) {
+
+        this.symbolTable = symbolTable;
+
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Sets the {@link KeyCache KeyCache} used to look up the quoted and escaped keys of JSON objects during
+     *     serialization, so that recurring keys are escaped only once.
+     * </p>
+     * <p>
+     *     The default setting is {@code null}, i.e. keys are escaped every time.
+     * </p>
+     *
+     * @param keyCache
+     *         the {@link KeyCache KeyCache} or {@code null}
+     *
+     * @return itself
+     */
+    public MaxonConfigurator setKeyCache(KeyCache keyCache) {
+
+        this.keyCache = keyCache;
+
+        return this;
+    }
+
     /**
      * Builds the {@link Maxon Maxon} with custom configuration.
      *
@@ -0,0 +1,37 @@
+package com.github.mavolin.maxon;
+
+/**
+ * The enum {@code NumberMode} defines the Java representation of JSON numbers with a fraction or an exponent. Integral
+ * numbers, that fit into a {@code long}, are always represented as {@link Long Longs}.
+ */
+public enum NumberMode {
+
+
+    /**
+     * <p>
+     *     Represents floating-point numbers as {@link java.math.BigDecimal BigDecimals}, so that no precision is lost.
+     * </p>
+     * <p>
+     *     Example:<br>
+     *     <code>
+     *         0.1 -&gt; new BigDecimal("0.1")
+     *     </code>
+     * </p>
+     */
+    BIG_DECIMAL,
+    /**
+     * <p>
+     *     Represents floating-point numbers as {@link Double Doubles}, that are the closest {@code double} to the
+     *     decimal value. This is considerably faster than {@link #BIG_DECIMAL}, if the values are used as {@code
+     *     doubles} anyway.
+     * </p>
+     * <p>
+     *     Example:<br>
+     *     <code>
+     *         0.1 -&gt; 0.1d
+     *     </code>
+     * </p>
+     */
+    DOUBLE
+
+}
@@ -1,6 +1,9 @@
 package com.github.mavolin.maxon.convert;
 
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonValueConverter;
+import com.github.mavolin.maxon.utils.JsonWriter;
 
 /**
  * A {@code JsonConverter} is an interface used for all converters.
@@ -19,6 +22,25 @@ public interface JsonConverter {
      */
     JsonValue getAsJson(Object source);
 
+    /**
+     * Writes the JSON representation of the passed {@link Object Object} as the next value of the passed {@link
+     * JsonWriter JsonWriter}.
+     * <p>
+     * The default implementation writes the {@link JsonValue JsonValue} returned by {@link #getAsJson(Object)}.
+     * Converters, that are able to write the tokens directly, should override this method, so that no {@link JsonValue
+     * JsonValue} is built.
+     * </p>
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     */
+    default void writeJson(Object source, JsonWriter jsonWriter) {
+
+        jsonWriter.value(this.getAsJson(source));
+    }
+
     /**
      * Extracts information from the passed {@link JsonValue JsonValue} and builds a new {@link Object Object} of the
      * type {@code T} out of it.
@@ -34,5 +56,31 @@ public interface JsonConverter {
      */
     <T> T getFromJson(JsonValue source, Class<T> clazz);
 
+    /**
+     * Builds a new {@link Object Object} of the type {@code T} out of the JSON value, whose first token is the current
+     * token of the passed {@link JsonReader JsonReader}. Afterwards, the current token must be the last token of the
+     * value.
+     * <p>
+     * The default implementation builds the {@link JsonValue JsonValue} of the value using the passed {@link
+     * JsonValueConverter JsonValueConverter} and passes it to {@link #getFromJson(JsonValue, Class)}. Converters, that
+     * are able to bind the tokens directly, should override this method.
+     * </p>
+     *
+     * @param <T>
+     *         the type of the {@link Object Object} that is to be produced
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param clazz
+     *         the {@link Class Class} of the {@link Object Object}
+     * @param jsonValueConverter
+     *         the {@link JsonValueConverter JsonValueConverter} used to build a {@link JsonValue JsonValue}
+     *
+     * @return the extracted {@link Object Object}
+     */
+    default <T> T getFromJson(JsonReader jsonReader, Class<T> clazz, JsonValueConverter jsonValueConverter) {
+
+        return this.getFromJson(jsonValueConverter.getFromJson(jsonReader), clazz);
+    }
+
 
 }
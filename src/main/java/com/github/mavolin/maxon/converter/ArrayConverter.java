@@ -0,0 +1,422 @@
+package com.github.mavolin.maxon.converter;
+
+import com.github.mavolin.maxon.Maxon;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
+import com.github.mavolin.maxon.utils.JsonWriter;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code ArrayConverter} is used to convert arrays into JSON arrays and vice versa. Arrays of primitives are
+ * specialized for every primitive type: when reading from a {@link JsonReader JsonReader}, the elements are written
+ * straight into a primitive array, without creating a {@link JsonPrimitive JsonPrimitive} or a wrapper object per
+ * element.
+ */
+public class ArrayConverter {
+
+
+    private static final String NOT_AN_ARRAY_ERR_MSG = "The provided JSON value does not resemble an array";
+    private static final String NULL_ELEMENT_ERR_TMPL = "The JSON array contains null, which is not a valid %s";
+    /**
+     * The initial capacity of the arrays the elements are read into, when reading from a {@link JsonReader
+     * JsonReader}.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+
+    /**
+     * Converts the passed array to a {@link JsonArray JsonArray}, which is then processed further by {@link Maxon
+     * Maxon}. The elements of primitive arrays are converted directly, the elements of all other arrays are converted
+     * using {@link Maxon#getAsJsonValue(Object)}.
+     *
+     * @param source
+     *         the array that is to be converted
+     * @param maxon
+     *         the {@link Maxon Maxon} object used to convert the elements of object arrays
+     *
+     * @return the converted array
+     */
+    public JsonValue getAsJson(Object source, Maxon maxon) {
+
+        Class<?> componentType = source.getClass().getComponentType();
+
+        if (componentType == null) {
+            throw new JsonParsingException(source.getClass().getName() + " is not convertible with this converter");
+        }
+
+        int length = Array.getLength(source);
+        JsonArray jsonArray = new JsonArray(length);
+
+        if (componentType == boolean.class) {
+            for (boolean bool : (boolean[]) source) {
+                jsonArray.add(new JsonPrimitive(bool));
+            }
+        } else if (componentType == char.class) {
+            for (char character : (char[]) source) {
+                jsonArray.add(new JsonPrimitive(character));
+            }
+        } else if (componentType == byte.class) {
+            for (byte num : (byte[]) source) {
+                jsonArray.add(new JsonPrimitive(num));
+            }
+        } else if (componentType == short.class) {
+            for (short num : (short[]) source) {
+                jsonArray.add(new JsonPrimitive(num));
+            }
+        } else if (componentType == int.class) {
+            for (int num : (int[]) source) {
+                jsonArray.add(new JsonPrimitive(num));
+            }
+        } else if (componentType == long.class) {
+            for (long num : (long[]) source) {
+                jsonArray.add(new JsonPrimitive(num));
+            }
+        } else if (componentType == float.class) {
+            for (float num : (float[]) source) {
+                jsonArray.add(new JsonPrimitive(num));
+            }
+        } else if (componentType == double.class) {
+            for (double num : (double[]) source) {
+                jsonArray.add(new JsonPrimitive(num));
+            }
+        } else {
+            for (Object object : (Object[]) source) {
+                jsonArray.add(maxon.getAsJsonValue(object));
+            }
+        }
+
+        return jsonArray;
+    }
+
+    /**
+     * Writes the passed array as the next value of the passed {@link JsonWriter JsonWriter}, without building a {@link
+     * JsonArray JsonArray}. The elements of primitive arrays are written directly, the elements of all other arrays are
+     * written using {@link Maxon#writeJson(Object, JsonWriter)}.
+     *
+     * @param source
+     *         the array that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     * @param maxon
+     *         the {@link Maxon Maxon} object used to write the elements of object arrays
+     */
+    public void writeJson(Object source, JsonWriter jsonWriter, Maxon maxon) {
+
+        Class<?> componentType = source.getClass().getComponentType();
+
+        if (componentType == null) {
+            throw new JsonParsingException(source.getClass().getName() + " is not convertible with this converter");
+        }
+
+        jsonWriter.beginArray();
+
+        if (componentType == boolean.class) {
+            for (boolean bool : (boolean[]) source) {
+                jsonWriter.value(bool);
+            }
+        } else if (componentType == char.class) {
+            for (char character : (char[]) source) {
+                jsonWriter.value(String.valueOf(character));
+            }
+        } else if (componentType == byte.class) {
+            for (byte num : (byte[]) source) {
+                jsonWriter.value(num);
+            }
+        } else if (componentType == short.class) {
+            for (short num : (short[]) source) {
+                jsonWriter.value(num);
+            }
+        } else if (componentType == int.class) {
+            for (int num : (int[]) source) {
+                jsonWriter.value(num);
+            }
+        } else if (componentType == long.class) {
+            for (long num : (long[]) source) {
+                jsonWriter.value(num);
+            }
+        } else if (componentType == float.class) {
+            for (float num : (float[]) source) {
+                jsonWriter.value(num);
+            }
+        } else if (componentType == double.class) {
+            for (double num : (double[]) source) {
+                jsonWriter.value(num);
+            }
+        } else {
+            for (Object object : (Object[]) source) {
+                maxon.writeJson(object, jsonWriter);
+            }
+        }
+
+        jsonWriter.endArray();
+    }
+
+    /**
+     * Extracts information from the passed {@link JsonValue JsonValue} and builds a new array of the type {@code T} out
+     * of it. The array is presized to the number of elements of the {@link JsonArray JsonArray}.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param source
+     *         the JSON representation of the array
+     * @param clazz
+     *         the {@link Class Class} of the array
+     * @param maxon
+     *         the {@link Maxon Maxon} object used to convert the elements
+     *
+     * @return the extracted array
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFromJson(JsonValue source, Class<T> clazz, Maxon maxon) {
+
+        if (!(source instanceof JsonArray) || !clazz.isArray()) {
+            throw new JsonParsingException(NOT_AN_ARRAY_ERR_MSG);
+        }
+        JsonArray jsonArray = (JsonArray) source;
+
+        Class<?> componentType = clazz.getComponentType();
+        Object array = Array.newInstance(componentType, jsonArray.size());
+
+        for (int i = 0; i < jsonArray.size(); i++) {
+            Object element = maxon.getFromJson(jsonArray.getAsJsonValue(i), componentType);
+
+            if (element == null && componentType.isPrimitive()) {
+                throw new JsonParsingException(String.format(NULL_ELEMENT_ERR_TMPL, componentType.getName()));
+            }
+
+            Array.set(array, i, element);
+        }
+
+        return (T) array;
+    }
+
+    /**
+     * Builds a new array of the type {@code T} straight from the tokens of the JSON array, whose {@link
+     * JsonToken#START_ARRAY JsonToken.START_ARRAY} is the current token of the passed {@link JsonReader JsonReader}.
+     * The elements of primitive arrays are read using the primitive getters of the {@link JsonReader JsonReader}, so
+     * that no {@link Number Number} is created for them.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param clazz
+     *         the {@link Class Class} of the array
+     * @param maxon
+     *         the {@link Maxon Maxon} object used to convert the elements of object arrays
+     *
+     * @return the extracted array
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFromJson(JsonReader jsonReader, Class<T> clazz, Maxon maxon) {
+
+        if (jsonReader.currentToken() != JsonToken.START_ARRAY || !clazz.isArray()) {
+            throw new JsonParsingException(NOT_AN_ARRAY_ERR_MSG);
+        }
+
+        Class<?> componentType = clazz.getComponentType();
+
+        if (componentType == boolean.class) {
+            return (T) readBooleans(jsonReader);
+        } else if (componentType == char.class) {
+            return (T) readChars(jsonReader);
+        } else if (componentType == byte.class) {
+            return (T) readBytes(jsonReader);
+        } else if (componentType == short.class) {
+            return (T) readShorts(jsonReader);
+        } else if (componentType == int.class) {
+            return (T) readInts(jsonReader);
+        } else if (componentType == long.class) {
+            return (T) readLongs(jsonReader);
+        } else if (componentType == float.class) {
+            return (T) readFloats(jsonReader);
+        } else if (componentType == double.class) {
+            return (T) readDoubles(jsonReader);
+        }
+
+        List<Object> elements = new ArrayList<>();
+
+        while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(maxon.getFromJson(jsonReader, componentType));
+        }
+
+        return (T) elements.toArray((Object[]) Array.newInstance(componentType, elements.size()));
+    }
+
+    private static boolean[] readBooleans(JsonReader jsonReader) {
+
+        boolean[] array = new boolean[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, boolean.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = jsonReader.getBoolean();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static char[] readChars(JsonReader jsonReader) {
+
+        char[] array = new char[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, char.class)) {
+            String string = jsonReader.getString();
+
+            if (string.length() != 1) {
+                throw new JsonParsingException("Expected a one character long JSON String but found \"" + string +
+                                               "\" at index " + jsonReader.getIndex());
+            }
+
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = string.charAt(0);
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static byte[] readBytes(JsonReader jsonReader) {
+
+        byte[] array = new byte[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, byte.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = (byte) jsonReader.getInt();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static short[] readShorts(JsonReader jsonReader) {
+
+        short[] array = new short[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, short.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = (short) jsonReader.getInt();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static int[] readInts(JsonReader jsonReader) {
+
+        int[] array = new int[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, int.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = jsonReader.getInt();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static long[] readLongs(JsonReader jsonReader) {
+
+        long[] array = new long[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, long.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = jsonReader.getLong();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Reads the elements of a {@code float[]}. The elements are parsed as {@code doubles} and narrowed afterwards.
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     *
+     * @return the {@code float[]}
+     */
+    private static float[] readFloats(JsonReader jsonReader) {
+
+        float[] array = new float[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, float.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = (float) jsonReader.getDouble();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static double[] readDoubles(JsonReader jsonReader) {
+
+        double[] array = new double[INITIAL_CAPACITY];
+        int length = 0;
+
+        while (nextElement(jsonReader, double.class)) {
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+
+            array[length++] = jsonReader.getDouble();
+        }
+
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Reads the next element of a primitive array.
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param componentType
+     *         the primitive component type of the array
+     *
+     * @return {@code true} if the current token is the next element; {@code false} if the end of the array is reached
+     *
+     * @throws JsonParsingException
+     *         if the element is {@code null}
+     */
+    private static boolean nextElement(JsonReader jsonReader, Class<?> componentType) {
+
+        JsonToken token = jsonReader.nextToken();
+
+        if (token == JsonToken.NULL) {
+            throw new JsonParsingException(String.format(NULL_ELEMENT_ERR_TMPL, componentType.getName()));
+        }
+
+        return token != JsonToken.END_ARRAY;
+    }
+
+
+}
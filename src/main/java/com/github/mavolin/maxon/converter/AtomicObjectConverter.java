@@ -8,6 +8,7 @@ import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.utils.JsonWriter;
 
 import java.util.concurrent.atomic.*;
 
@@ -63,6 +64,49 @@ public class AtomicObjectConverter implements JsonConverter {
         }
     }
 
+    /**
+     * Writes the passed {@link Object Object} as the next value of the passed {@link JsonWriter JsonWriter}, without
+     * building a {@link JsonValue JsonValue}.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     */
+    @Override
+    public void writeJson(Object source, JsonWriter jsonWriter) {
+
+        if (source instanceof AtomicBoolean) {
+            jsonWriter.value(((AtomicBoolean) source).get());
+        } else if (source instanceof AtomicInteger) {
+            jsonWriter.value(((AtomicInteger) source).get());
+        } else if (source instanceof AtomicIntegerArray) {
+            AtomicIntegerArray atomicIntegerArray = (AtomicIntegerArray) source;
+
+            jsonWriter.beginArray();
+
+            for (int i = 0; i < atomicIntegerArray.length(); i++) {
+                jsonWriter.value(atomicIntegerArray.get(i));
+            }
+
+            jsonWriter.endArray();
+        } else if (source instanceof AtomicLong) {
+            jsonWriter.value(((AtomicLong) source).get());
+        } else if (source instanceof AtomicLongArray) {
+            AtomicLongArray atomicLongArray = (AtomicLongArray) source;
+
+            jsonWriter.beginArray();
+
+            for (int i = 0; i < atomicLongArray.length(); i++) {
+                jsonWriter.value(atomicLongArray.get(i));
+            }
+
+            jsonWriter.endArray();
+        } else {
+            throw new JsonParsingException(source.getClass().getName() + " is not convertible with this converter");
+        }
+    }
+
     /**
      * Extracts information from the passed {@link JsonValue JsonValue} and builds a new {@link Object Object} of the
      * type {@code T} out of it.
@@ -5,6 +5,7 @@ import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.utils.JsonWriter;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -52,6 +53,40 @@ public class ListConverter {
         return arrayObject;
     }
 
+    /**
+     * Writes the passed {@link Object Object} as the next value of the passed {@link JsonWriter JsonWriter}, without
+     * building a {@link JsonObject JsonObject}. The output is the same as the one of {@link #getAsJson(Object, Maxon)}.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     * @param maxon
+     *         the {@link Maxon Maxon} object used to write the elements of the list
+     */
+    public void writeJson(Object source, JsonWriter jsonWriter, Maxon maxon) {
+
+        if (!(source instanceof List)) {
+            throw new JsonParsingException(source.getClass().getName() + " is not convertible with this converter");
+        }
+
+        List<?> list = (List<?>) source;
+
+        jsonWriter.beginObject();
+
+        if (!list.isEmpty()) {
+            jsonWriter.name("itemClass").value(list.get(0).getClass().getName());
+        }
+
+        jsonWriter.name("array").beginArray();
+
+        for (Object item : list) {
+            maxon.writeJson(item, jsonWriter);
+        }
+
+        jsonWriter.endArray().endObject();
+    }
+
     /**
      * Extracts information from the passed {@link JsonValue JsonValue} and builds a new {@link Object Object} of the
      * type {@code T} out of it.
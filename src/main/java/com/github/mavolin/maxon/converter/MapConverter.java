@@ -5,6 +5,7 @@ import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.utils.JsonWriter;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -60,6 +61,47 @@ public class MapConverter {
         return mapObject;
     }
 
+    /**
+     * Writes the passed {@link Object Object} as the next value of the passed {@link JsonWriter JsonWriter}, without
+     * building a {@link JsonObject JsonObject}. The output is the same as the one of {@link #getAsJson(Object, Maxon)}.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     * @param maxon
+     *         the {@link Maxon Maxon} object used to write the elements of the map
+     */
+    public void writeJson(Object source, JsonWriter jsonWriter, Maxon maxon) {
+
+        if (!(source instanceof Map)) {
+            throw new JsonParsingException(source.getClass().getName() + " is not convertible with this converter");
+        }
+        Map<?, ?> map = (Map<?, ?>) source;
+
+        jsonWriter.beginObject();
+
+        if (!map.isEmpty()) {
+            Map.Entry<?, ?> first = map.entrySet().iterator().next();
+
+            jsonWriter
+                    .name("keyClass").value(first.getKey().getClass().getName())
+                    .name("valueClass").value(first.getValue().getClass().getName());
+        }
+
+        jsonWriter.name("map").beginArray();
+
+        map.forEach((key, value) -> {
+            jsonWriter.beginObject().name("key");
+            maxon.writeJson(key, jsonWriter);
+            jsonWriter.name("value");
+            maxon.writeJson(value, jsonWriter);
+            jsonWriter.endObject();
+        });
+
+        jsonWriter.endArray().endObject();
+    }
+
     /**
      * Extracts information from the passed {@link JsonValue JsonValue} and builds a new {@link Object Object} of the
      * type {@code T} out of it.
@@ -8,6 +8,10 @@ import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonElement;
 import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
+import com.github.mavolin.maxon.parsing.JsonValueConverter;
+import com.github.mavolin.maxon.utils.JsonWriter;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -53,6 +57,33 @@ public class PrimitivesConverter implements JsonConverter {
         }
     }
 
+    /**
+     * Writes the passed {@link Object Object} as the next value of the passed {@link JsonWriter JsonWriter}, without
+     * creating a {@link JsonPrimitive JsonPrimitive}.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     */
+    @Override
+    public void writeJson(Object source, JsonWriter jsonWriter) {
+
+        if (source instanceof Boolean) {
+            jsonWriter.value((boolean) (Boolean) source);
+        } else if (source instanceof Character) {
+            jsonWriter.value(String.valueOf((char) (Character) source));
+        } else if (source instanceof Byte || source instanceof Short || source instanceof Integer ||
+                   source instanceof Long || source instanceof Float || source instanceof Double ||
+                   source instanceof BigInteger || source instanceof BigDecimal) {
+            jsonWriter.value((Number) source);
+        } else if (source instanceof String) {
+            jsonWriter.value((String) source);
+        } else {
+            throw new JsonParsingException(source.getClass().getName() + " is not convertible with this converter");
+        }
+    }
+
     /**
      * Extracts information from the passed {@link JsonElement JsonElement} and builds a new {@link Object Object} of
      * the type {@code T} out of it.
@@ -145,5 +176,71 @@ public class PrimitivesConverter implements JsonConverter {
         }
     }
 
+    /**
+     * Builds a new {@link Object Object} of the type {@code T} out of the current token of the passed {@link JsonReader
+     * JsonReader}. Booleans, strings and numbers are read using the typed getters of the {@link JsonReader JsonReader},
+     * so that neither a {@link JsonPrimitive JsonPrimitive} nor an intermediate {@link Number Number} is created.
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param clazz
+     *         the {@link Class Class} of the {@link Object Object}
+     * @param jsonValueConverter
+     *         the {@link JsonValueConverter JsonValueConverter}, which is not used
+     *
+     * @return the extracted {@link Object Object}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getFromJson(JsonReader jsonReader, Class<T> clazz, JsonValueConverter jsonValueConverter) {
+
+        JsonToken token = jsonReader.currentToken();
+
+        if (clazz == Boolean.class || clazz == boolean.class) {
+            if (token != JsonToken.TRUE && token != JsonToken.FALSE) {
+                throw new IllegalTypeRequestedException(
+                        String.format(PROVIDED_JSON_VALUE_NOT_RESEMBLE_CLASS, "Boolean"));
+            }
+            return (T) Boolean.valueOf(jsonReader.getBoolean());
+        } else if (clazz == Character.class || clazz == char.class) {
+            if (token != JsonToken.STRING || jsonReader.getString().length() != 1) {
+                throw new IllegalTypeRequestedException(
+                        String.format(PROVIDED_JSON_VALUE_NOT_RESEMBLE_CLASS, "Character"));
+            }
+            return (T) Character.valueOf(jsonReader.getString().charAt(0));
+        } else if (clazz == String.class) {
+            if (token != JsonToken.STRING) {
+                throw new IllegalTypeRequestedException(
+                        String.format(PROVIDED_JSON_VALUE_NOT_RESEMBLE_CLASS, clazz.getName()));
+            }
+            return (T) jsonReader.getString();
+        }
+
+        if (token != JsonToken.NUMBER) {
+            throw new IllegalTypeRequestedException(
+                    String.format(PROVIDED_JSON_VALUE_NOT_RESEMBLE_CLASS, clazz.getName()));
+        }
+
+        if (clazz == Byte.class || clazz == byte.class) {
+            return (T) Byte.valueOf((byte) jsonReader.getInt());
+        } else if (clazz == Short.class || clazz == short.class) {
+            return (T) Short.valueOf((short) jsonReader.getInt());
+        } else if (clazz == Integer.class || clazz == int.class) {
+            return (T) Integer.valueOf(jsonReader.getInt());
+        } else if (clazz == Long.class || clazz == long.class) {
+            return (T) Long.valueOf(jsonReader.getLong());
+        } else if (clazz == Float.class || clazz == float.class) {
+            return (T) Float.valueOf((float) jsonReader.getDouble());
+        } else if (clazz == Double.class || clazz == double.class) {
+            return (T) Double.valueOf(jsonReader.getDouble());
+        } else if (clazz == BigDecimal.class) {
+            return (T) jsonReader.getBigDecimal();
+        } else if (clazz == BigInteger.class) {
+            return (T) new JsonPrimitive(jsonReader.getNumber()).getAsBigInteger();
+        } else {
+            throw new JsonParsingException(clazz.getName() + " is not convertible with this converter");
+        }
+    }
+
 
 }
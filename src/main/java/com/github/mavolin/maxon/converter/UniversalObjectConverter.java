@@ -7,12 +7,15 @@ import com.github.mavolin.maxon.convert.Serialize;
 import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
+import com.github.mavolin.maxon.utils.JsonWriter;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -23,6 +26,34 @@ import java.util.Map;
 public class UniversalObjectConverter {
 
 
+    /**
+     * The {@link Binding Bindings} of all {@link Class Classes} converted from tokens so far. They are attached to
+     * their {@link Class Class} through a {@link ClassValue ClassValue}, so that the cache does not prevent classes and
+     * their class loaders from being unloaded.
+     */
+    private final ClassValue<Binding> bindings = new ClassValue<>() {
+
+        @Override
+        protected Binding computeValue(Class<?> type) {
+
+            return UniversalObjectConverter.this.createBinding(type);
+        }
+    };
+    /**
+     * The accessible fields, that are serialized, of all {@link Class Classes} written to a {@link JsonWriter
+     * JsonWriter} so far, with their JSON name as key. Like the {@link #bindings}, they are attached to their {@link
+     * Class Class} through a {@link ClassValue ClassValue}.
+     */
+    private final ClassValue<Map<String, Field>> serializedFields = new ClassValue<>() {
+
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+
+            return UniversalObjectConverter.this.getSerializedFields(type);
+        }
+    };
+
+
     /**
      * Converts the passed {@link Object Object} to a {@link JsonValue JsonValue}, which is then processed further by
      * {@link Maxon Maxon}.
@@ -63,6 +94,40 @@ public class UniversalObjectConverter {
         return jsonObject;
     }
 
+    /**
+     * Writes the passed {@link Object Object} as the next value of the passed {@link JsonWriter JsonWriter}. The fields
+     * are written one after another, so that no {@link JsonObject JsonObject} is built. The output is the same as the
+     * one of {@link #getAsJson(Object, Maxon)}.
+     *
+     * @param source
+     *         the {@link Object Object} that is to be converted
+     * @param jsonWriter
+     *         the {@link JsonWriter JsonWriter}
+     * @param maxon
+     *         the {@link Maxon Maxon} converter
+     */
+    public void writeJson(Object source, JsonWriter jsonWriter, Maxon maxon) {
+
+        Map<String, Field> fields = this.serializedFields.get(source.getClass());
+
+        jsonWriter.beginObject();
+
+        for (Map.Entry<String, Field> entry : fields.entrySet()) {
+            Object value;
+
+            try {
+                value = entry.getValue().get(source);
+            } catch (IllegalAccessException e) {
+                throw new JsonParsingException("Java access control prevented access", e);
+            }
+
+            jsonWriter.name(entry.getKey());
+            maxon.writeJson(value, jsonWriter);
+        }
+
+        jsonWriter.endObject();
+    }
+
     /**
      * Extracts information from the passed {@link JsonValue JsonValue} and builds a new {@link Object Object} of the
      * type {@code T} out of it.
@@ -199,6 +264,178 @@ public class UniversalObjectConverter {
         return object;
     }
 
+    /**
+     * Builds a new {@link Object Object} of the type {@code T} straight from the tokens of the JSON object, whose
+     * {@link JsonToken#START_OBJECT JsonToken.START_OBJECT} is the current token of the passed {@link JsonReader
+     * JsonReader}. Every name is matched to its field and the value is converted straight into the field's type, so
+     * that no {@link JsonObject JsonObject} is built. If the {@link Object Object} is created through a {@link
+     * DeserializationConstructor DeserializationConstructor}, the converted values are kept until the end of the JSON
+     * object is reached.
+     *
+     * @param <T>
+     *         the type parameter
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param clazz
+     *         the {@link Class Class} of the {@link Object Object}
+     * @param maxon
+     *         the {@link Maxon Maxon} converter
+     *
+     * @return the extracted {@link Object Object}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFromJson(JsonReader jsonReader, Class<T> clazz, Maxon maxon) {
+
+        if (jsonReader.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParsingException("The provided JSON value does not resemble an Object");
+        }
+
+        Binding binding = this.bindings.get(clazz);
+        int slotCount = binding.names.length;
+        Object[] values = binding.constructor.getParameterCount() > 0 ? new Object[slotCount] : null;
+        boolean[] present = new boolean[slotCount];
+        T object = values == null ? (T) binding.newInstance(new Object[0]) : null;
+
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) { // the current token is a field name
+            Integer slot = binding.slots.get(jsonReader.currentName());
+
+            jsonReader.nextToken();
+
+            if (slot == null) {
+                jsonReader.skipChildren();
+                continue;
+            }
+
+            Object value = maxon.getFromJson(jsonReader, binding.types[slot]);
+
+            present[slot] = true;
+
+            if (object != null) {
+                binding.set(object, slot, value);
+            } else {
+                values[slot] = value;
+            }
+        }
+
+        if (object == null) {
+            Object[] initArgs = new Object[binding.constructor.getParameterCount()];
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (binding.parameters[slot] >= 0) {
+                    if (!present[slot]) {
+                        throw new JsonParsingException(
+                                "There is no field named \"" + binding.names[slot] + "\" in the passed JSON");
+                    }
+
+                    initArgs[binding.parameters[slot]] = values[slot];
+                }
+            }
+
+            object = (T) binding.newInstance(initArgs);
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (present[slot] && binding.parameters[slot] < 0) {
+                    binding.set(object, slot, values[slot]);
+                }
+            }
+        }
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!present[slot] && binding.required[slot]) {
+                throw new JsonParsingException(
+                        "The passed JsonValue does not contain a field named \"" + binding.names[slot] + "\"");
+            }
+        }
+
+        return object;
+    }
+
+    /**
+     * Creates the {@link Binding Binding} of the passed {@link Class Class}. Its fields and its constructor stay
+     * accessible, so that they need not be made accessible again on every conversion. This does not widen the access
+     * to the class for anyone else, since {@link Class#getDeclaredFields()} and {@link Class#getDeclaredConstructors()}
+     * return new copies of the members on every call, and the copies of the {@link Binding Binding} are never handed
+     * out.
+     *
+     * @param clazz
+     *         the {@link Class Class}
+     *
+     * @return the {@link Binding Binding}
+     */
+    private Binding createBinding(Class<?> clazz) {
+
+        Map<String, Field> extractFields = getExtractFields(clazz);
+        AbortOnMissingField globalAbortOnMissingField = clazz.getDeclaredAnnotation(AbortOnMissingField.class);
+        boolean globalAbortOnMissing = globalAbortOnMissingField != null && globalAbortOnMissingField.value();
+        Constructor<?> constructor = null;
+        String[] parameterNames = new String[0];
+
+        for (Constructor<?> declaredConstructor : clazz.getDeclaredConstructors()) {
+            DeserializationConstructor deserializationConstructor = declaredConstructor.getDeclaredAnnotation(
+                    DeserializationConstructor.class);
+
+            if (deserializationConstructor != null) {
+                constructor = declaredConstructor;
+                parameterNames = deserializationConstructor.value();
+            }
+        }
+
+        if (constructor == null) {
+            try {
+                constructor = clazz.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new JsonParsingException("No matching method found", e);
+            }
+        }
+
+        for (String parameterName : parameterNames) {
+            extractFields.remove(parameterName);
+        }
+
+        int slotCount = parameterNames.length + extractFields.size();
+        Binding binding = new Binding(constructor, slotCount);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        int slot = 0;
+
+        for (int i = 0; i < parameterNames.length; i++, slot++) {
+            binding.add(slot, parameterNames[i], parameterTypes[i], i, null, false);
+        }
+
+        for (Map.Entry<String, Field> entry : extractFields.entrySet()) {
+            Field field = entry.getValue();
+            AbortOnMissingField abortOnMissingField = field.getDeclaredAnnotation(AbortOnMissingField.class);
+            boolean required = abortOnMissingField != null ? abortOnMissingField.value() : globalAbortOnMissing;
+
+            field.setAccessible(true);
+            binding.add(slot++, entry.getKey(), field.getType(), -1, field, required);
+        }
+
+        constructor.setAccessible(true);
+
+        return binding;
+    }
+
+    /**
+     * Returns the fields, that are serialized, of the passed {@link Class Class} with their JSON name as key, after
+     * making them accessible. The fields stay accessible, which, as described in {@link #createBinding(Class)}, only
+     * affects the copies cached in {@link #serializedFields}.
+     *
+     * @param clazz
+     *         the {@link Class Class}
+     *
+     * @return the accessible fields
+     */
+    private Map<String, Field> getSerializedFields(Class<?> clazz) {
+
+        Map<String, Field> extractFields = getExtractFields(clazz);
+
+        for (Field field : extractFields.values()) {
+            field.setAccessible(true);
+        }
+
+        return extractFields;
+    }
+
     /**
      * Returns a map populated with the fields that are included in the JSON object, with their JSON name as key.
      *
@@ -249,4 +486,107 @@ public class UniversalObjectConverter {
     }
 
 
+    /**
+     * A {@code Binding} holds the reflective information needed to build an {@link Object Object} of a specific {@link
+     * Class Class} from the tokens of a JSON object. Every name of the JSON object, that is bound, has a slot, which is
+     * either a parameter of the constructor or a field.
+     */
+    private static class Binding {
+
+
+        /**
+         * The slots of the names.
+         */
+        private final Map<String, Integer> slots = new HashMap<>();
+        /**
+         * The names of the slots.
+         */
+        private final String[] names;
+        /**
+         * The types the values of the slots are converted to.
+         */
+        private final Class<?>[] types;
+        /**
+         * The indices of the constructor parameters of the slots or {@code -1}, if the slot is a field.
+         */
+        private final int[] parameters;
+        /**
+         * The fields of the slots or {@code null}, if the slot is a constructor parameter.
+         */
+        private final Field[] fields;
+        /**
+         * Whether the field of a slot must be present in the JSON object.
+         */
+        private final boolean[] required;
+        /**
+         * The constructor used to instantiate the {@link Object Object}.
+         */
+        private final Constructor<?> constructor;
+
+
+        private Binding(Constructor<?> constructor, int slotCount) {
+
+            this.constructor = constructor;
+            this.names = new String[slotCount];
+            this.types = new Class<?>[slotCount];
+            this.parameters = new int[slotCount];
+            this.fields = new Field[slotCount];
+            this.required = new boolean[slotCount];
+        }
+
+
+        private void add(int slot, String name, Class<?> type, int parameter, Field field, boolean required) {
+
+            this.slots.put(name, slot);
+            this.names[slot] = name;
+            this.types[slot] = type;
+            this.parameters[slot] = parameter;
+            this.fields[slot] = field;
+            this.required[slot] = required;
+        }
+
+        /**
+         * Instantiates the {@link Object Object} using the passed arguments.
+         *
+         * @param initArgs
+         *         the arguments of the constructor
+         *
+         * @return the new {@link Object Object}
+         */
+        private Object newInstance(Object[] initArgs) {
+
+            try {
+                return this.constructor.newInstance(initArgs);
+            } catch (InstantiationException e) {
+                throw new JsonParsingException("The underlying class is abstract", e);
+            } catch (IllegalAccessException e) {
+                throw new JsonParsingException("Java Access control prevented instantiation of the object", e);
+            } catch (InvocationTargetException e) {
+                throw new JsonParsingException("The constructor has thrown an exception", e);
+            }
+        }
+
+        /**
+         * Assigns the passed value to the field of the specified slot.
+         *
+         * @param object
+         *         the {@link Object Object} the field belongs to
+         * @param slot
+         *         the slot
+         * @param value
+         *         the value
+         */
+        private void set(Object object, int slot, Object value) {
+
+            try {
+                this.fields[slot].set(object, value);
+            } catch (IllegalAccessException e) {
+                throw new JsonParsingException("Java Access control prevented the field from being assigned a value");
+            }
+        }
+
+
+    }
+
+
 }
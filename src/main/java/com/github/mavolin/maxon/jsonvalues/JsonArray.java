@@ -23,7 +23,7 @@ public class JsonArray implements JsonValue, Iterable<JsonElement> {
     /**
      * Holds the fields of the {@code JsonArray}.
      */
-    private List<JsonElement> fields = new ArrayList<>();
+    private final List<JsonElement> fields;
 
 
     /**
@@ -31,6 +31,30 @@ public class JsonArray implements JsonValue, Iterable<JsonElement> {
      */
     public JsonArray() {
 
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Instantiates an empty {@code JsonArray} with room for the specified number of elements.
+     *
+     * @param initialCapacity
+     *         the number of elements, that can be added without growing the {@code JsonArray}
+     */
+    public JsonArray(int initialCapacity) {
+
+        this(new ArrayList<>(initialCapacity));
+    }
+
+    /**
+     * Instantiates a new {@code JsonArray} storing its fields in the passed {@link List List}. This is used by
+     * subclasses, that provide their fields in a different way, e.g. by resolving them lazily.
+     *
+     * @param fields
+     *         the {@link List List} storing the fields
+     */
+    protected JsonArray(List<JsonElement> fields) {
+
+        this.fields = fields;
     }
 
     /**
@@ -23,7 +23,7 @@ public class JsonObject implements JsonValue {
      * Stores the content of the {@code JsonObject}. The key represents the name of the variable and the value its
      * data/value.
      */
-    private Map<String, JsonElement> fields = new LinkedHashMap<>();
+    private final Map<String, JsonElement> fields;
 
 
     /**
@@ -31,6 +31,19 @@ public class JsonObject implements JsonValue {
      */
     public JsonObject() {
 
+        this(new LinkedHashMap<>());
+    }
+
+    /**
+     * Instantiates a new {@code JsonObject} storing its content in the passed {@link Map Map}. This is used by
+     * subclasses, that provide their content in a different way, e.g. by resolving it lazily.
+     *
+     * @param fields
+     *         the {@link Map Map} storing the content
+     */
+    protected JsonObject(Map<String, JsonElement> fields) {
+
+        this.fields = fields;
     }
 
 
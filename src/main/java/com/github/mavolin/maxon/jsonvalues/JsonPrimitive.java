@@ -299,7 +299,13 @@ public class JsonPrimitive implements JsonValue {
             throw new IllegalTypeRequestedException("The JsonPrimitive's value is not an instance of Number");
         }
 
-        return (this.value instanceof BigInteger) ? (BigInteger) this.value : new BigInteger(this.value.toString());
+        if (this.value instanceof BigInteger) {
+            return (BigInteger) this.value;
+        } else if (this.isIntegral()) {
+            return BigInteger.valueOf(((Number) this.value).longValue());
+        }
+
+        return new BigInteger(this.value.toString());
     }
 
 
@@ -370,7 +376,36 @@ public class JsonPrimitive implements JsonValue {
             throw new IllegalTypeRequestedException("The JsonPrimitive's value is not an instance of Number");
         }
 
-        return this.value instanceof BigDecimal ? (BigDecimal) this.value : new BigDecimal(this.value.toString());
+        if (this.value instanceof BigDecimal) {
+            return (BigDecimal) this.value;
+        } else if (this.isIntegral()) {
+            return BigDecimal.valueOf(((Number) this.value).longValue());
+        }
+
+        return new BigDecimal(this.value.toString());
+    }
+
+    /**
+     * Gets the {@code JsonPrimitive's} value as the {@link Number Number} it was created with. If the {@code
+     * JsonPrimitive} is {@code null}, {@code null} will be returned.
+     *
+     * @return the {@code JsonPrimitive's} value as a {@link Number Number}
+     *
+     * @throws IllegalTypeRequestedException
+     *         an {@link IllegalTypeRequestedException IllegalTypeRequestedException} if the {@code JsonPrimitive's}
+     *         value is neither an instance of {@link Number Number} nor {@code null}
+     */
+    public Number getAsNumber() {
+
+        if (this.value == null) {
+            return null;
+        }
+
+        if (!(this.value instanceof Number)) {
+            throw new IllegalTypeRequestedException("The JsonPrimitive's value is not an instance of Number");
+        }
+
+        return (Number) this.value;
     }
 
 
@@ -455,6 +490,10 @@ public class JsonPrimitive implements JsonValue {
                 return false;
             }
 
+            if (that.isIntegral() && this.isIntegral()) {
+                return ((Number) that.value).longValue() == ((Number) this.value).longValue();
+            }
+
             return that.getAsBigDecimal().equals(this.getAsBigDecimal());
 
         } else if (that.isString()) {
@@ -472,5 +511,17 @@ public class JsonPrimitive implements JsonValue {
         }
     }
 
+    /**
+     * Checks if this {@code JsonPrimitive's} value is a {@link Long Long}, {@link Integer Integer}, {@link Short Short}
+     * or {@link Byte Byte}, i.e. if it can be used as a {@code long} without loss of precision.
+     *
+     * @return {@code true} if the value is an integral {@code long}-compatible number; {@code false} otherwise
+     */
+    private boolean isIntegral() {
+
+        return this.value instanceof Long || this.value instanceof Integer || this.value instanceof Short ||
+               this.value instanceof Byte;
+    }
+
 
 }
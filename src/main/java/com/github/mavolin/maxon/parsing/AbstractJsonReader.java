@@ -0,0 +1,248 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.IllegalTypeRequestedException;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * The {@code AbstractJsonReader} holds the state shared by the pull parsers, i.e. the {@link JsonReader JsonReader}
+ * and the {@link NonBlockingJsonParser NonBlockingJsonParser}: the stack of the currently open JSON values with their
+ * field names and the current token with its value. It also provides the accessors of the current token, so that both
+ * parsers behave the same way.
+ */
+abstract class AbstractJsonReader {
+
+
+    private static final String ILLEGAL_TYPE_REQUEST_ERR_TMPL = "The current token %s does not resemble a %s";
+
+    /**
+     * No value has been read yet.
+     */
+    static final int EMPTY_DOCUMENT = 0;
+    /**
+     * A top-level value has been read.
+     */
+    static final int NONEMPTY_DOCUMENT = 1;
+    /**
+     * Inside an array before the first element.
+     */
+    static final int EMPTY_ARRAY = 2;
+    /**
+     * Inside an array after at least one element.
+     */
+    static final int NONEMPTY_ARRAY = 3;
+    /**
+     * Inside an object before the first field.
+     */
+    static final int EMPTY_OBJECT = 4;
+    /**
+     * Inside an object after a field name, but before its value.
+     */
+    static final int DANGLING_NAME = 5;
+    /**
+     * Inside an object after at least one field.
+     */
+    static final int NONEMPTY_OBJECT = 6;
+
+    /**
+     * The scopes of all currently open JSON values, the innermost being the last.
+     */
+    int[] scopes = new int[32];
+    /**
+     * The field names belonging to the {@link #scopes}.
+     */
+    String[] names = new String[32];
+    /**
+     * The number of open scopes.
+     */
+    int depth;
+
+    /**
+     * The last token returned by {@code nextToken()}.
+     */
+    JsonToken currentToken;
+    /**
+     * The value of the current token, if it is a {@link JsonToken#STRING JsonToken.STRING}.
+     */
+    String stringValue;
+    /**
+     * The value of the current token, if it is a {@link JsonToken#NUMBER JsonToken.NUMBER} and it has been decoded
+     * already.
+     */
+    Number numberValue;
+
+
+    /**
+     * Instantiates a new {@code AbstractJsonReader}, that has not read any value yet.
+     */
+    AbstractJsonReader() {
+
+        this.scopes[this.depth++] = EMPTY_DOCUMENT;
+    }
+
+
+    /**
+     * Returns the token last returned by {@code nextToken()}.
+     *
+     * @return the current {@link JsonToken JsonToken} or {@code null} if no token has been read yet or the end of the
+     *         JSON is reached
+     */
+    public JsonToken currentToken() {
+
+        return this.currentToken;
+    }
+
+    /**
+     * Returns the name of the field the current token belongs to. For a {@link JsonToken#FIELD_NAME
+     * JsonToken.FIELD_NAME} this is the name itself, for values, as well as for the start and the end of JSON objects and
+     * arrays, it is the name of the field they are the value of.
+     *
+     * @return the name of the current field or {@code null} if the current token is not part of a field
+     */
+    public String currentName() {
+
+        if (this.currentToken == JsonToken.START_OBJECT || this.currentToken == JsonToken.START_ARRAY) {
+            return this.depth >= 2 ? this.names[this.depth - 2] : null;
+        }
+
+        return this.names[this.depth - 1];
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#STRING JsonToken.STRING} or the name of the current {@link
+     * JsonToken#FIELD_NAME JsonToken.FIELD_NAME}.
+     *
+     * @return the {@link String String}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is neither a string nor a field name
+     */
+    public String getString() {
+
+        if (this.currentToken == JsonToken.STRING) {
+            return this.stringValue;
+        } else if (this.currentToken == JsonToken.FIELD_NAME) {
+            return this.names[this.depth - 1];
+        }
+
+        throw this.illegalTypeRequested("String");
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#NUMBER JsonToken.NUMBER}.
+     *
+     * @return the {@link Number Number}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is not a number
+     */
+    public Number getNumber() {
+
+        if (this.currentToken != JsonToken.NUMBER) {
+            throw this.illegalTypeRequested("Number");
+        }
+
+        if (this.numberValue == null) {
+            this.numberValue = this.decodeScannedNumber();
+        }
+
+        return this.numberValue;
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#NUMBER JsonToken.NUMBER} as a {@link BigDecimal BigDecimal}.
+     *
+     * @return the {@link BigDecimal BigDecimal}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is not a number
+     */
+    public BigDecimal getBigDecimal() {
+
+        Number number = this.getNumber();
+
+        return number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#TRUE JsonToken.TRUE} or {@link JsonToken#FALSE JsonToken.FALSE}.
+     *
+     * @return the {@code boolean}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is not a boolean
+     */
+    public boolean getBoolean() {
+
+        if (this.currentToken == JsonToken.TRUE) {
+            return true;
+        } else if (this.currentToken == JsonToken.FALSE) {
+            return false;
+        }
+
+        throw this.illegalTypeRequested("Boolean");
+    }
+
+    /**
+     * Gets the index of the parser in the JSON.
+     *
+     * @return the current index
+     */
+    public abstract int getIndex();
+
+    /**
+     * Decodes the value of the current {@link JsonToken#NUMBER JsonToken.NUMBER}, if it has not been decoded when it
+     * was read.
+     *
+     * @return the {@link Number Number}
+     */
+    abstract Number decodeScannedNumber();
+
+    /**
+     * Closes all scopes and forgets the current token, so that a new JSON value can be read.
+     */
+    void clear() {
+
+        Arrays.fill(this.names, 0, this.depth, null);
+
+        this.depth = 0;
+        this.scopes[this.depth++] = EMPTY_DOCUMENT;
+        this.currentToken = null;
+        this.stringValue = null;
+        this.numberValue = null;
+    }
+
+    /**
+     * Opens a new scope.
+     *
+     * @param scope
+     *         the scope
+     */
+    void push(int scope) {
+
+        if (this.depth == this.scopes.length) {
+            this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+            this.names = Arrays.copyOf(this.names, this.depth * 2);
+        }
+
+        this.scopes[this.depth] = scope;
+        this.names[this.depth] = null;
+        this.depth++;
+    }
+
+    /**
+     * Creates the exception thrown, if the value of the current token is requested as the wrong type.
+     *
+     * @param type
+     *         the name of the requested type
+     *
+     * @return the {@link IllegalTypeRequestedException IllegalTypeRequestedException}
+     */
+    IllegalTypeRequestedException illegalTypeRequested(String type) {
+
+        return new IllegalTypeRequestedException(String.format(ILLEGAL_TYPE_REQUEST_ERR_TMPL, this.currentToken, type));
+    }
+
+
+}
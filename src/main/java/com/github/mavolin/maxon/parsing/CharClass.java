@@ -0,0 +1,121 @@
+package com.github.mavolin.maxon.parsing;
+
+/**
+ * The {@code CharClass} classifies characters for the lexers using a lookup table, so that a class check is a single
+ * array access and bit test instead of a chain of comparisons. All characters outside of the ASCII range belong to no
+ * class.
+ */
+final class CharClass {
+
+
+    /**
+     * The class of JSON whitespaces: space, tab, line feed and carriage return.
+     */
+    static final int WHITESPACE = 1;
+    /**
+     * The class of the digits {@code 0} to {@code 9}.
+     */
+    static final int DIGIT = 1 << 1;
+    /**
+     * The class of characters, that may start a JSON number: digits and {@code '-'}.
+     */
+    static final int NUMBER_START = 1 << 2;
+    /**
+     * The class of characters, that may be part of a JSON number: digits, {@code '.'}, {@code 'e'}, {@code 'E'},
+     * {@code '+'} and {@code '-'}.
+     */
+    static final int NUMBER = 1 << 3;
+    /**
+     * The class of characters, that end a number or literal: whitespaces, the structural characters {@code {}[]:,} and
+     * the {@code '/'} starting a comment.
+     */
+    static final int DELIMITER = 1 << 4;
+
+    /**
+     * The classes of all ASCII characters.
+     */
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c : " \t\n\r".toCharArray()) {
+            CLASSES[c] |= WHITESPACE | DELIMITER;
+        }
+
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] |= DIGIT | NUMBER_START | NUMBER;
+        }
+
+        for (char c : ".eE+-".toCharArray()) {
+            CLASSES[c] |= NUMBER;
+        }
+
+        for (char c : "{}[]:,/".toCharArray()) {
+            CLASSES[c] |= DELIMITER;
+        }
+
+        CLASSES['-'] |= NUMBER_START;
+    }
+
+
+    private CharClass() {
+
+    }
+
+
+    /**
+     * Checks if the passed character belongs to the passed class.
+     *
+     * @param c
+     *         the character
+     * @param charClass
+     *         the class
+     *
+     * @return {@code true} if the character belongs to the class; {@code false} otherwise
+     */
+    static boolean is(char c, int charClass) {
+
+        return c < 128 && (CLASSES[c] & charClass) != 0;
+    }
+
+    /**
+     * Checks if the passed character is a JSON whitespace.
+     *
+     * @param c
+     *         the character
+     *
+     * @return {@code true} if the character is a whitespace; {@code false} otherwise
+     */
+    static boolean isWhitespace(char c) {
+
+        return c < 128 && (CLASSES[c] & WHITESPACE) != 0;
+    }
+
+    /**
+     * Checks if the passed character may be part of a JSON number.
+     *
+     * @param c
+     *         the character
+     *
+     * @return {@code true} if the character may be part of a number; {@code false} otherwise
+     */
+    static boolean isNumber(char c) {
+
+        return c < 128 && (CLASSES[c] & NUMBER) != 0;
+    }
+
+    /**
+     * Checks if the passed character may follow a number, boolean or {@code null}.
+     *
+     * @param c
+     *         the character
+     *
+     * @return {@code true} if the character is a whitespace, an operator or the start of a comment; {@code false}
+     *         otherwise
+     */
+    static boolean isDelimiter(char c) {
+
+        return c < 128 && (CLASSES[c] & DELIMITER) != 0;
+    }
+
+
+}
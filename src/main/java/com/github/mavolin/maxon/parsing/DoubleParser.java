@@ -0,0 +1,267 @@
+package com.github.mavolin.maxon.parsing;
+
+import java.math.BigInteger;
+
+/**
+ * The {@code DoubleParser} converts the characters of a JSON number to the closest {@code double}. Most numbers are
+ * converted using the Eisel-Lemire algorithm, which only needs a 64-bit by 128-bit multiplication with a precomputed
+ * power of ten. The few numbers, for which the result is ambiguous, are passed to {@link Double#parseDouble(String)
+ * Double.parseDouble(String)}.
+ */
+final class DoubleParser {
+
+
+    /**
+     * The smallest decimal exponent the table of {@link #POWERS_OF_TEN} covers.
+     */
+    private static final int MIN_EXPONENT = -342;
+    /**
+     * The largest decimal exponent the table of {@link #POWERS_OF_TEN} covers.
+     */
+    private static final int MAX_EXPONENT = 308;
+    /**
+     * The largest number of significant digits, that always fit into an unsigned {@code long}.
+     */
+    private static final int MAX_DIGITS = 19;
+    /**
+     * The powers of ten, that can be represented exactly as a {@code double}.
+     */
+    private static final double[] SMALL_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+            1e19, 1e20, 1e21, 1e22
+    };
+    /**
+     * The 128-bit mantissas of the powers of ten from {@link #MIN_EXPONENT} to {@link #MAX_EXPONENT}, rounded down and
+     * normalized so that their most significant bit is set. The high 64 bits of each power are followed by its low 64
+     * bits.
+     */
+    private static final long[] POWERS_OF_TEN = computePowersOfTen();
+
+
+    private DoubleParser() {
+
+    }
+
+
+    /**
+     * Converts the passed characters of a valid JSON number to the closest {@code double}.
+     *
+     * @param chars
+     *         the array containing the number
+     * @param offset
+     *         the index of the first character of the number
+     * @param length
+     *         the number of characters of the number
+     *
+     * @return the {@code double}
+     */
+    static double parse(char[] chars, int offset, int length) {
+
+        int end = offset + length;
+        int i = offset;
+        boolean negative = chars[i] == '-';
+        long mantissa = 0; // unsigned
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+
+        if (negative) {
+            i++;
+        }
+
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+            if (digits < MAX_DIGITS) {
+                mantissa = mantissa * 10 + (chars[i] - '0');
+
+                if (mantissa != 0) { // leading zeros are not significant
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= chars[i] != '0';
+            }
+        }
+
+        if (i < end && chars[i] == '.') {
+            for (i++; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + (chars[i] - '0');
+                    exponent--;
+
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                } else {
+                    truncated |= chars[i] != '0';
+                }
+            }
+        }
+
+        if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+
+            boolean negativeExponent = chars[i] == '-';
+            int explicitExponent = 0;
+
+            if (chars[i] == '-' || chars[i] == '+') {
+                i++;
+            }
+
+            for (; i < end; i++) {
+                if (explicitExponent < 100_000) { // anything larger is out of range anyway
+                    explicitExponent = explicitExponent * 10 + (chars[i] - '0');
+                }
+            }
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+
+        // both the mantissa and the power of ten are exact doubles, so a single operation rounds correctly
+        if (!truncated && mantissa >= 0 && mantissa <= 1L << 53 && exponent >= -22 && exponent <= 22) {
+            double value = exponent < 0 ? mantissa / SMALL_POWERS_OF_TEN[-exponent] :
+                           mantissa * SMALL_POWERS_OF_TEN[exponent];
+
+            return negative ? -value : value;
+        }
+
+        long bits = eiselLemire(mantissa, exponent);
+
+        // the digits that did not fit lie between mantissa and mantissa + 1, so both have to round the same way
+        if (truncated && bits != -1 && bits != eiselLemire(mantissa + 1, exponent)) {
+            bits = -1;
+        }
+
+        if (bits == -1) {
+            return Double.parseDouble(new String(chars, offset, length));
+        }
+
+        return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+    }
+
+    /**
+     * Computes the bits of the {@code double} closest to {@code mantissa * 10^exponent} using the Eisel-Lemire
+     * algorithm.
+     *
+     * @param mantissa
+     *         the unsigned, non-zero decimal mantissa
+     * @param exponent
+     *         the decimal exponent
+     *
+     * @return the bits of the positive {@code double} or {@code -1}, if the result is ambiguous or out of the range of
+     *         normal {@code doubles}
+     */
+    private static long eiselLemire(long mantissa, int exponent) {
+
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            return -1;
+        }
+
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        long normalized = mantissa << leadingZeros;
+        // 217706 / 2^16 approximates log2(10)
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023 - leadingZeros;
+        int index = (exponent - MIN_EXPONENT) * 2;
+
+        long high = unsignedMultiplyHigh(normalized, POWERS_OF_TEN[index]);
+        long low = normalized * POWERS_OF_TEN[index];
+
+        // the lower 64 bits of the power may change the result
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            long lowerHigh = unsignedMultiplyHigh(normalized, POWERS_OF_TEN[index + 1]);
+            long lowerLow = normalized * POWERS_OF_TEN[index + 1];
+            long mergedHigh = high;
+            long mergedLow = low + lowerHigh;
+
+            if (Long.compareUnsigned(mergedLow, low) < 0) {
+                mergedHigh++;
+            }
+
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1 &&
+                Long.compareUnsigned(lowerLow + normalized, normalized) < 0) {
+                return -1;
+            }
+
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        long msb = high >>> 63;
+        long result = high >>> (msb + 9);
+
+        binaryExponent -= 1 ^ msb;
+
+        // exactly halfway between two doubles
+        if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) {
+            return -1;
+        }
+
+        result += result & 1;
+        result >>>= 1;
+
+        if (result >>> 53 > 0) {
+            result >>>= 1;
+            binaryExponent++;
+        }
+
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) { // subnormal or infinite
+            return -1;
+        }
+
+        return binaryExponent << 52 | result & 0x000F_FFFF_FFFF_FFFFL;
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product of the passed unsigned {@code longs}.
+     *
+     * @param x
+     *         the first factor
+     * @param y
+     *         the second factor
+     *
+     * @return the high 64 bits of the product
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Computes the table of {@link #POWERS_OF_TEN}.
+     *
+     * @return the table
+     */
+    private static long[] computePowersOfTen() {
+
+        long[] powers = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * 2];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+        for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+            BigInteger power = BigInteger.TEN.pow(Math.abs(exponent));
+            BigInteger mantissa;
+
+            if (exponent >= 0) {
+                mantissa = power.bitLength() > 128 ? power.shiftRight(power.bitLength() - 128) :
+                           power.shiftLeft(128 - power.bitLength());
+            } else {
+                // 2^shift / 10^-exponent has at least 129 bits and is truncated to 128 bits
+                int shift = power.bitLength() + 128;
+
+                mantissa = BigInteger.ONE.shiftLeft(shift).divide(power);
+                mantissa = mantissa.shiftRight(mantissa.bitLength() - 128);
+            }
+
+            int index = (exponent - MIN_EXPONENT) * 2;
+
+            powers[index] = mantissa.shiftRight(64).longValue();
+            powers[index + 1] = mantissa.and(mask).longValue();
+        }
+
+        return powers;
+    }
+
+
+}
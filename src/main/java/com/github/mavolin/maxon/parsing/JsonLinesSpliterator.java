@@ -0,0 +1,212 @@
+package com.github.mavolin.maxon.parsing;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code JsonLinesSpliterator} is a {@link Spliterator Spliterator} over the results of reading the JSON values of
+ * UTF-8 encoded JSON Lines (newline-delimited JSON), where every non-blank line holds one JSON value, that is read by
+ * its own pooled {@link JsonReader JsonReader}. It splits its range of bytes at the
+ * line break closest to the middle, so that a parallel {@link java.util.stream.Stream Stream} parses batches of lines
+ * in the {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Splitting keeps the order of the lines, so the order
+ * of the values is only lost, if the {@link java.util.stream.Stream Stream} is unordered.
+ *
+ * @param <T>
+ *         the type of the results
+ */
+class JsonLinesSpliterator<T> implements Spliterator<T> {
+
+
+    /**
+     * The minimum number of bytes a {@code JsonLinesSpliterator} must cover to be split.
+     */
+    private static final int MIN_SPLIT_SIZE = 1 << 14;
+    /**
+     * The estimated average number of bytes per line.
+     */
+    private static final int ESTIMATED_LINE_SIZE = 128;
+
+    /**
+     * The {@link JsonValueConverter JsonValueConverter} used to convert the lines.
+     */
+    private final JsonValueConverter jsonValueConverter;
+    /**
+     * The function reading the JSON value of a line.
+     */
+    private final Function<JsonReader, T> function;
+    /**
+     * The {@link ByteBuffer ByteBuffer} containing the lines.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The index of the first byte of the next line.
+     */
+    private int position;
+    /**
+     * The index after the last byte covered by this {@code JsonLinesSpliterator}.
+     */
+    private final int end;
+
+
+    /**
+     * Instantiates a new {@code JsonLinesSpliterator} covering the specified range of the passed {@link ByteBuffer
+     * ByteBuffer}.
+     *
+     * @param jsonValueConverter
+     *         the {@link JsonValueConverter JsonValueConverter} used to convert the lines
+     * @param function
+     *         the function reading the JSON value of a line
+     * @param buffer
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded lines
+     * @param position
+     *         the absolute index of the first byte
+     * @param end
+     *         the absolute index after the last byte
+     */
+    JsonLinesSpliterator(JsonValueConverter jsonValueConverter, Function<JsonReader, T> function, ByteBuffer buffer,
+                         int position, int end) {
+
+        this.jsonValueConverter = jsonValueConverter;
+        this.function = function;
+        this.buffer = buffer;
+        this.position = position;
+        this.end = end;
+    }
+
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        while (this.position < this.end) {
+            int lineStart = this.position;
+            int lineEnd = this.indexOfLineBreak(lineStart, this.end);
+
+            this.position = lineEnd < this.end ? lineEnd + 1 : this.end;
+
+            if (!this.isBlank(lineStart, lineEnd)) {
+                action.accept(this.convert(lineStart, lineEnd));
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+
+        if (this.end - this.position < MIN_SPLIT_SIZE) {
+            return null;
+        }
+
+        int middle = this.indexOfLineBreak(this.position + (this.end - this.position) / 2, this.end);
+
+        if (middle >= this.end - 1) {
+            return null;
+        }
+
+        Spliterator<T> prefix = new JsonLinesSpliterator<>(this.jsonValueConverter, this.function, this.buffer,
+                                                           this.position, middle + 1);
+
+        this.position = middle + 1;
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+
+        return (this.end - this.position) / ESTIMATED_LINE_SIZE + 1;
+    }
+
+    @Override
+    public int characteristics() {
+
+        return ORDERED | IMMUTABLE; // the function may return null, e.g. when binding a null line
+    }
+
+    /**
+     * Returns the index of the first line break in the specified range.
+     *
+     * @param from
+     *         the index to start searching at
+     * @param to
+     *         the index to stop searching at
+     *
+     * @return the index of the line break or {@code to}, if there is none
+     */
+    private int indexOfLineBreak(int from, int to) {
+
+        if (this.buffer.hasArray()) {
+            byte[] bytes = this.buffer.array();
+            int offset = this.buffer.arrayOffset();
+
+            for (int i = from; i < to; i++) {
+                if (bytes[offset + i] == '\n') {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                if (this.buffer.get(i) == '\n') {
+                    return i;
+                }
+            }
+        }
+
+        return to;
+    }
+
+    /**
+     * Checks if the specified line only consists of whitespaces.
+     *
+     * @param from
+     *         the index of the first byte of the line
+     * @param to
+     *         the index after the last byte of the line
+     *
+     * @return {@code true} if the line is blank; {@code false} otherwise
+     */
+    private boolean isBlank(int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            byte b = this.buffer.get(i);
+
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the JSON value of the specified line using the {@link #function}. Heap buffers are parsed in place, the
+     * lines of all other buffers are copied first.
+     *
+     * @param from
+     *         the index of the first byte of the line
+     * @param to
+     *         the index after the last byte of the line
+     *
+     * @return the result of the {@link #function}
+     */
+    private T convert(int from, int to) {
+
+        if (this.buffer.hasArray()) {
+            return this.jsonValueConverter.read(this.buffer.array(), this.buffer.arrayOffset() + from, to - from,
+                                                from, this.function);
+        }
+
+        byte[] line = new byte[to - from];
+
+        this.buffer.duplicate().position(from).get(line);
+
+        return this.jsonValueConverter.read(line, 0, line.length, from, this.function);
+    }
+
+
+}
@@ -0,0 +1,388 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.IllegalTypeRequestedException;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * The {@code JsonReader} is a pull parser, that reads a JSON value token by token. In contrast to the {@link
+ * JsonValueConverter JsonValueConverter}, it does not build any {@link com.github.mavolin.maxon.jsonvalues.JsonValue
+ * JsonValues}, which makes it possible to process JSON documents of any size, since only a fixed-size part of the
+ * input is kept in memory, when reading from a {@link Reader Reader} or an {@link InputStream InputStream}.
+ * <p>
+ * Example:<br>
+ * <code>
+ *     JsonReader jsonReader = new JsonReader(inputStream);<br>
+ *     while (jsonReader.nextToken() != null) {<br>
+ *         &nbsp;&nbsp;&nbsp;&nbsp;if (jsonReader.currentToken() == JsonToken.NUMBER &amp;&amp;
+ *         "id".equals(jsonReader.currentName())) {<br>
+ *             &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;long id = jsonReader.getLong();<br>
+ *         &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ *     }
+ * </code>
+ * </p>
+ */
+public class JsonReader extends AbstractJsonReader implements Closeable {
+
+
+    private static final String UNEXPECTED_END_ERR_MSG = "The JSON ended unexpectedly";
+    private static final String UNEXPECTED_TOKEN_ERR_TMPL = "Unexpected token '%s' at index %d";
+    private static final String EXPECTED_CHAR_ERR_TMPL = "Expected '%s' but found '%s' at index %d";
+
+    /**
+     * The {@link JsonTokener JsonTokener} supplying the characters.
+     */
+    private final JsonTokener jsonTokener;
+    /**
+     * The source of the {@link JsonTokener JsonTokener}, if it needs to be closed.
+     */
+    private final Closeable source;
+
+
+    /**
+     * Instantiates a new {@code JsonReader} reading the passed {@link String String}.
+     *
+     * @param json
+     *         the JSON
+     */
+    public JsonReader(String json) {
+
+        this(new JsonTokener(json), null);
+    }
+
+    /**
+     * Instantiates a new {@code JsonReader} reading the JSON from the passed {@link Reader Reader}.
+     *
+     * @param reader
+     *         the {@link Reader Reader}
+     */
+    public JsonReader(Reader reader) {
+
+        this(new JsonTokener(reader), reader);
+    }
+
+    /**
+     * Instantiates a new {@code JsonReader} reading the UTF-8 encoded JSON from the passed {@link InputStream
+     * InputStream}.
+     *
+     * @param inputStream
+     *         the {@link InputStream InputStream}
+     */
+    public JsonReader(InputStream inputStream) {
+
+        this(new Utf8JsonTokener(inputStream), inputStream);
+    }
+
+    /**
+     * Instantiates a new {@code JsonReader} reading the JSON provided by the passed {@link JsonTokener JsonTokener}.
+     *
+     * @param jsonTokener
+     *         the {@link JsonTokener JsonTokener}
+     */
+    public JsonReader(JsonTokener jsonTokener) {
+
+        this(jsonTokener, null);
+    }
+
+    private JsonReader(JsonTokener jsonTokener, Closeable source) {
+
+        this.jsonTokener = jsonTokener;
+        this.source = source;
+    }
+
+
+    /**
+     * Resets this {@code JsonReader}, so that it reads a new JSON value from its {@link JsonTokener JsonTokener}, which
+     * must have been reset before. The scope stack is kept, so that a reused {@code JsonReader} does not allocate.
+     */
+    public void reset() {
+
+        this.clear();
+    }
+
+    /**
+     * Reads the next token. If the end of the JSON is reached, {@code null} is returned.
+     *
+     * @return the next {@link JsonToken JsonToken} or {@code null} if the end of the JSON is reached
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed
+     */
+    public JsonToken nextToken() {
+
+        JsonTokener jsonTokener = this.jsonTokener;
+        int scope = this.scopes[this.depth - 1];
+        char next;
+
+        this.stringValue = null;
+        this.numberValue = null;
+
+        jsonTokener.skipCommentAndWhitespace();
+
+        switch (scope) {
+            case EMPTY_DOCUMENT:
+                this.scopes[this.depth - 1] = NONEMPTY_DOCUMENT;
+
+                return this.readValue();
+            case NONEMPTY_DOCUMENT:
+                if (jsonTokener.hasNext()) {
+                    throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, jsonTokener.next(),
+                                                                 jsonTokener.getIndex()));
+                }
+
+                return this.currentToken = null;
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY:
+                if (jsonTokener.checkAndNextNoIncrement() == ']') {
+                    jsonTokener.next();
+                    this.depth--;
+
+                    return this.currentToken = JsonToken.END_ARRAY;
+                }
+
+                if (scope == NONEMPTY_ARRAY) {
+                    this.expect(',');
+                    jsonTokener.skipCommentAndWhitespace();
+                } else {
+                    this.scopes[this.depth - 1] = NONEMPTY_ARRAY;
+                }
+
+                return this.readValue();
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                if (jsonTokener.checkAndNextNoIncrement() == '}') {
+                    jsonTokener.next();
+                    this.depth--;
+
+                    return this.currentToken = JsonToken.END_OBJECT;
+                }
+
+                if (scope == NONEMPTY_OBJECT) {
+                    this.expect(',');
+                    jsonTokener.skipCommentAndWhitespace();
+                }
+
+                next = jsonTokener.checkAndNextNoIncrement();
+
+                if (next != '"') {
+                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, '"', next,
+                                                                 jsonTokener.getIndex() + 1));
+                }
+
+                this.names[this.depth - 1] = jsonTokener.nextName();
+
+                jsonTokener.skipCommentAndWhitespace();
+                next = jsonTokener.checkAndNext();
+
+                if (next != ':') {
+                    throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next,
+                                                                 jsonTokener.getIndex()));
+                }
+
+                this.scopes[this.depth - 1] = DANGLING_NAME;
+
+                return this.currentToken = JsonToken.FIELD_NAME;
+            case DANGLING_NAME:
+                this.scopes[this.depth - 1] = NONEMPTY_OBJECT;
+
+                return this.readValue();
+            default:
+                throw new IllegalStateException("Unknown scope " + scope); // unreachable
+        }
+    }
+
+    /**
+     * Returns the first token of the JSON value at the current position. If the current token is the start of a value,
+     * it is returned, otherwise the next token is read.
+     *
+     * @return the first {@link JsonToken JsonToken} of the value
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed or ended unexpectedly
+     */
+    public JsonToken startValue() {
+
+        JsonToken token = this.currentToken;
+
+        if (token == null || token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT ||
+            token == JsonToken.END_ARRAY) {
+            token = this.nextToken();
+        }
+
+        if (token == null) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        return token;
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#NUMBER JsonToken.NUMBER} as an {@code int}. Integral numbers
+     * are returned without creating a {@link Number Number}.
+     *
+     * @return the {@code int}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is not a number
+     */
+    public int getInt() {
+
+        if (this.currentToken == JsonToken.NUMBER && this.jsonTokener.isScannedLong()) {
+            return (int) this.jsonTokener.scannedLong();
+        }
+
+        return this.getNumber().intValue();
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#NUMBER JsonToken.NUMBER} as a {@code long}. Integral numbers are
+     * returned without creating a {@link Number Number}.
+     *
+     * @return the {@code long}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is not a number
+     */
+    public long getLong() {
+
+        if (this.currentToken == JsonToken.NUMBER && this.jsonTokener.isScannedLong()) {
+            return this.jsonTokener.scannedLong();
+        }
+
+        return this.getNumber().longValue();
+    }
+
+    /**
+     * Gets the value of the current {@link JsonToken#NUMBER JsonToken.NUMBER} as a {@code double}, which is parsed
+     * straight from the characters of the number without creating a {@link Number Number}.
+     *
+     * @return the {@code double}
+     *
+     * @throws IllegalTypeRequestedException
+     *         if the current token is not a number
+     */
+    public double getDouble() {
+
+        if (this.currentToken == JsonToken.NUMBER) {
+            return this.jsonTokener.scannedDouble();
+        }
+
+        return this.getNumber().doubleValue();
+    }
+
+    /**
+     * Skips all children of the current JSON object or array, so that the current token will be the corresponding
+     * {@link JsonToken#END_OBJECT JsonToken.END_OBJECT} or {@link JsonToken#END_ARRAY JsonToken.END_ARRAY}. If the
+     * current token is neither a {@link JsonToken#START_OBJECT JsonToken.START_OBJECT} nor a {@link
+     * JsonToken#START_ARRAY JsonToken.START_ARRAY}, nothing happens. The children are skipped using {@link
+     * JsonTokener#skipValue() JsonTokener.skipValue()}, so that they are neither decoded nor validated.
+     */
+    public void skipChildren() {
+
+        if (this.currentToken != JsonToken.START_OBJECT && this.currentToken != JsonToken.START_ARRAY) {
+            return;
+        }
+
+        this.jsonTokener.skipToContainerEnd();
+        this.depth--;
+
+        this.currentToken = this.currentToken == JsonToken.START_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Gets the index of the last character read.
+     *
+     * @return the current index
+     */
+    @Override
+    public int getIndex() {
+
+        return this.jsonTokener.getIndex();
+    }
+
+    /**
+     * Closes the underlying {@link Reader Reader} or {@link InputStream InputStream}, if there is one.
+     *
+     * @throws IOException
+     *         if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (this.source != null) {
+            this.source.close();
+        }
+    }
+
+    @Override
+    Number decodeScannedNumber() {
+
+        return this.jsonTokener.scannedNumber();
+    }
+
+    /**
+     * Reads the value starting at the next character.
+     *
+     * @return the {@link JsonToken JsonToken} of the value
+     */
+    private JsonToken readValue() {
+
+        JsonTokener jsonTokener = this.jsonTokener;
+        char next = jsonTokener.checkAndNextNoIncrement();
+
+        switch (next) {
+            case '{':
+                jsonTokener.next();
+                this.push(EMPTY_OBJECT);
+
+                return this.currentToken = JsonToken.START_OBJECT;
+            case '[':
+                jsonTokener.next();
+                this.push(EMPTY_ARRAY);
+
+                return this.currentToken = JsonToken.START_ARRAY;
+            case '"':
+                this.stringValue = jsonTokener.nextString();
+
+                return this.currentToken = JsonToken.STRING;
+            case 't':
+            case 'f':
+                return this.currentToken = jsonTokener.nextBoolean() ? JsonToken.TRUE : JsonToken.FALSE;
+            case 'n':
+                jsonTokener.skipLiteral("null");
+
+                return this.currentToken = JsonToken.NULL;
+            default:
+                if (!CharClass.is(next, CharClass.NUMBER_START)) {
+                    throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next,
+                                                                 jsonTokener.getIndex() + 1));
+                }
+
+                jsonTokener.scanNumber(); // the Number is only created, if it is requested
+
+                return this.currentToken = JsonToken.NUMBER;
+        }
+    }
+
+    /**
+     * Consumes the next character, if it is the expected one, otherwise an exception is thrown.
+     *
+     * @param expected
+     *         the expected character
+     */
+    private void expect(char expected) {
+
+        char next = this.jsonTokener.checkAndNext();
+
+        if (next != expected) {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, expected, next,
+                                                         this.jsonTokener.getIndex()));
+        }
+    }
+
+
+}
@@ -0,0 +1,55 @@
+package com.github.mavolin.maxon.parsing;
+
+/**
+ * The enum {@code JsonToken} defines the different tokens returned by a {@link JsonReader JsonReader}.
+ */
+public enum JsonToken {
+
+
+    /**
+     * The start of a JSON object, i.e. <code>{</code>.
+     */
+    START_OBJECT,
+    /**
+     * The end of a JSON object, i.e. <code>}</code>.
+     */
+    END_OBJECT,
+    /**
+     * The start of a JSON array, i.e. {@code [}.
+     */
+    START_ARRAY,
+    /**
+     * The end of a JSON array, i.e. {@code ]}.
+     */
+    END_ARRAY,
+    /**
+     * The name of a field of a JSON object.
+     */
+    FIELD_NAME,
+    /**
+     * A JSON string.
+     */
+    STRING,
+    /**
+     * A JSON number.
+     */
+    NUMBER,
+    /**
+     * The JSON literal {@code true}.
+     */
+    TRUE,
+    /**
+     * The JSON literal {@code false}.
+     */
+    FALSE,
+    /**
+     * The JSON literal {@code null}.
+     */
+    NULL,
+    /**
+     * Not a token of the JSON itself, but a signal of the {@link NonBlockingJsonParser NonBlockingJsonParser}, that the
+     * bytes fed so far do not contain another complete token.
+     */
+    NEED_MORE_INPUT
+
+}
@@ -1,12 +1,17 @@
 package com.github.mavolin.maxon.parsing;
 
+import com.github.mavolin.maxon.NumberMode;
 import com.github.mavolin.maxon.exceptions.JsonParsingException;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 /**
  * The {@code JsonTokener} is used to parse {@link String Strings} of JSON data and return them as their respective Java
- * representation ({@link com.github.mavolin.maxon.jsonvalues.JsonValue JsonValue}).
+ * representation ({@link com.github.mavolin.maxon.jsonvalues.JsonValue JsonValue}). When reading from a {@link Reader
+ * Reader}, the characters are read through a fixed-size buffer, that is refilled as parsing progresses.
  */
 public class JsonTokener {
 
@@ -15,8 +20,79 @@ public class JsonTokener {
     private static final String UNEXPECTED_CHAR_SET_ERR_TMPL = "Unexpected character set starting at index %d";
     private static final String UNEXPECTED_CHAR_ERR_TMPL = "Unexpected character '%s' at index %d";
     private static final String EXPECTED_CHAR_ERR_TMPL = "Expected %s but found '%s' at index %d";
+    private static final String INVALID_UNICODE_ESCAPE_ERR_TMPL = "Invalid unicode escape sequence at index %d";
+    private static final String UNKNOWN_ESCAPE_ERR_TMPL = "Unknown control character \\%s at index %d";
+    /**
+     * The size of the buffer used when reading from a {@link Reader Reader}.
+     */
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * {@link Long#MIN_VALUE Long.MIN_VALUE} divided by ten, used to detect overflows when accumulating digits.
+     */
+    private static final long LONG_MIN_DIV_10 = Long.MIN_VALUE / 10;
+    /**
+     * The maximum length of the scratch arrays and {@link StringBuilder StringBuilders}, that are kept for reuse.
+     * Longer inputs are handled with one-off allocations, so that a reused {@code JsonTokener} does not retain them.
+     */
+    static final int MAX_REUSED_LENGTH = 1 << 16;
+    /**
+     * The characters currently available for parsing.
+     */
     private char[] json;
+    /**
+     * The index of the current character in {@link #json}.
+     */
     private int currentIndex;
+    /**
+     * The index after the last valid character in {@link #json}.
+     */
+    private int limit;
+    /**
+     * The JSON index of the first character in {@link #json}.
+     */
+    private int base;
+    /**
+     * The {@link Reader Reader} the {@link #json} buffer is refilled from, or {@code null} if all characters are
+     * already available.
+     */
+    private Reader reader;
+    /**
+     * The array the characters of {@link String Strings} passed to {@link #reset(String)} are copied to.
+     */
+    private char[] reusableChars = new char[0];
+    /**
+     * The {@link StringBuilder StringBuilder} reused for all {@link String Strings} containing escape sequences.
+     */
+    private StringBuilder stringBuilder = new StringBuilder();
+    /**
+     * The characters of the number currently extracted, which are only needed, if it cannot be represented as a {@code
+     * long}. The array is reused for all numbers.
+     */
+    private char[] numberChars = new char[32];
+    /**
+     * The number of valid characters in {@link #numberChars}.
+     */
+    private int numberLength;
+    /**
+     * The value of the number last scanned by {@link #scanNumber()}, if it {@link #isScannedLong() is a long}.
+     */
+    private long numberValue;
+    /**
+     * Whether the number last scanned by {@link #scanNumber()} has neither decimal places nor an exponent.
+     */
+    private boolean integralNumber;
+    /**
+     * Whether the number last scanned by {@link #scanNumber()} is integral and fits into a {@code long}.
+     */
+    private boolean longNumber;
+    /**
+     * The Java representation of numbers with a fraction or an exponent.
+     */
+    private NumberMode numberMode = NumberMode.BIG_DECIMAL;
+    /**
+     * The {@link SymbolTable SymbolTable} used to canonicalize names and short values, or {@code null} if none is used.
+     */
+    private SymbolTable symbolTable;
 
 
     /**
@@ -29,8 +105,91 @@ public class JsonTokener {
 
         this.json = json.toCharArray();
         this.currentIndex = -1;
+        this.limit = this.json.length;
     }
 
+    /**
+     * Instantiates a new {@code JsonTokener} parsing the specified range of the passed characters in place.
+     *
+     * @param json
+     *         the characters of the JSON
+     * @param index
+     *         the index of the first character to parse
+     * @param limit
+     *         the index after the last character to parse
+     */
+    JsonTokener(char[] json, int index, int limit) {
+
+        this.reset(json, index, limit);
+    }
+
+    /**
+     * Instantiates a new {@code JsonTokener} that reads the JSON from the passed {@link Reader Reader}. Only a
+     * fixed-size part of the JSON is kept in memory at once.
+     *
+     * @param reader
+     *         the {@link Reader Reader}
+     */
+    public JsonTokener(Reader reader) {
+
+        this.json = new char[BUFFER_SIZE];
+        this.currentIndex = -1;
+        this.reader = reader;
+    }
+
+    /**
+     * Instantiates a new {@code JsonTokener} without any characters. This is used by subclasses that read their JSON
+     * from a different source and therefore override the character access methods.
+     */
+    protected JsonTokener() {
+
+        this.json = new char[0];
+        this.currentIndex = -1;
+    }
+
+
+    /**
+     * Resets this {@code JsonTokener} to parse the passed {@link String String}. The number mode, the {@link
+     * SymbolTable SymbolTable} and all scratch buffers are kept, so that reusing a {@code JsonTokener} for many small
+     * JSON values does not allocate anything besides the extracted values.
+     *
+     * @param json
+     *         the json
+     */
+    public void reset(String json) {
+
+        int length = json.length();
+
+        if (length > MAX_REUSED_LENGTH) {
+            this.reset(json.toCharArray(), 0, length);
+            return;
+        } else if (this.reusableChars.length < length) {
+            this.reusableChars = new char[Math.max(length, Math.min(this.reusableChars.length * 2,
+                                                                    MAX_REUSED_LENGTH))];
+        }
+
+        json.getChars(0, length, this.reusableChars, 0);
+        this.reset(this.reusableChars, 0, length);
+    }
+
+    /**
+     * Resets this {@code JsonTokener} to parse the specified range of the passed characters in place.
+     *
+     * @param json
+     *         the characters of the JSON
+     * @param index
+     *         the index of the first character to parse
+     * @param limit
+     *         the index after the last character to parse
+     */
+    void reset(char[] json, int index, int limit) {
+
+        this.json = json;
+        this.currentIndex = index - 1;
+        this.limit = limit;
+        this.base = 0;
+        this.reader = null;
+    }
 
     /**
      * Skips all comments and whitespaces until a non-whitespace character is reached.
@@ -40,19 +199,15 @@ public class JsonTokener {
         while (this.hasNext()) {
             char next = this.next();
 
-            if (next == '/' && this.hasNext()) { // expecting comment
-                if (this.next() == '/') { // it's a comment
-                    this.skipNewline(); // skipping to next line
-                    this.skipCommentAndWhitespace(); // and skipping next lines whitespaces and comments
-                } else { // not a comment
-                    this.currentIndex -= 2;
-                }
-
-                break; // breaking since a non-whitespace character was found
-            } else if (next != ' ' && next != '\t' && next != '\n' && next != '\r') { // if next is a non whitespace character
-                this.back(); // go one back so current is the non-whitespace char
-                break;
+            if (CharClass.isWhitespace(next)) {
+                continue;
+            } else if (next == '/' && this.hasNext() && this.nextNoIncrement() == '/') { // it's a comment
+                this.skipNewline();
+                continue;
             }
+
+            this.back(); // go one back so current is the non-whitespace char
+            break;
         }
     }
 
@@ -63,7 +218,7 @@ public class JsonTokener {
      */
     public boolean hasNext() {
 
-        return this.currentIndex < this.json.length - 1;
+        return this.currentIndex < this.limit - 1 || this.fill();
     }
 
     /**
@@ -73,6 +228,10 @@ public class JsonTokener {
      */
     public char next() {
 
+        if (this.currentIndex >= this.limit - 1 && !this.fill()) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
         this.currentIndex++;
 
         return this.json[this.currentIndex];
@@ -124,6 +283,10 @@ public class JsonTokener {
      */
     public char nextNoIncrement() {
 
+        if (this.currentIndex >= this.limit - 1 && !this.fill()) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
         return this.json[this.currentIndex + 1];
     }
 
@@ -142,272 +305,362 @@ public class JsonTokener {
     }
 
     /**
-     * Extracts the {@link Boolean Boolean} starting at the current character.
-     *
-     * @return the extracted {@link Boolean Boolean}
+     * Skips the JSON value starting at the current character without extracting it. Strings and numbers are not
+     * decoded and for JSON objects and arrays only the nesting depth is tracked, so that the content of a skipped
+     * object or array is not validated.
      */
-    public Boolean nextBoolean() {
+    public void skipValue() {
 
-        if (this.isNull())
-            return null;
+        char next = this.checkAndNextNoIncrement();
 
-        char next = this.checkAndNext();
+        switch (next) {
+            case '{':
+            case '[':
+                this.next();
+                this.skipToContainerEnd();
+                break;
+            case '"':
+                this.next();
+                this.skipStringContent();
+                break;
+            case 't':
+            case 'f':
+                this.nextBoolean();
+                break;
+            case 'n':
+                this.isNull();
+                break;
+            default:
+                if (!CharClass.is(next, CharClass.NUMBER_START)) {
+                    throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, this.getIndex() + 1));
+                }
 
-        if (next == 't') { // expecting true
-            if (!this.next(3).equals("rue")) {
-                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL,
-                                                               (this.currentIndex - 3)));
-            } else {
-                return true;
-            }
-        } else if (next == 'f') { // expecting false
-            if (!this.next(4).equals("alse")) {
-                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL,
-                                                               (this.currentIndex - 3)));
-            } else {
-                return false;
-            }
-        } else {
-            throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, this.currentIndex));
+                this.next();
+
+                while (this.hasNext()) {
+                    if (!CharClass.isNumber(this.next())) {
+                        this.back();
+                        break;
+                    }
+                }
         }
     }
 
-    public Character nextCharacter() {
+    /**
+     * Extracts the {@link Boolean Boolean} starting at the current character.
+     *
+     * @return the extracted {@link Boolean Boolean}
+     */
+    public Boolean nextBoolean() {
 
         if (this.isNull())
             return null;
 
-        char next = this.checkAndNext();
+        char next = this.checkAndNextNoIncrement();
 
-        if (next != '"') {
-            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "'\"'", next, this.currentIndex));
-        }
+        if (next == 't') {
+            this.skipLiteral("true");
 
-        next = this.checkAndNext();
+            return true;
+        } else if (next == 'f') {
+            this.skipLiteral("false");
 
-        char c;
+            return false;
+        }
 
-        switch (next) {
-            case '\n':
-            case '\r':
-                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, this.currentIndex));
-            case '\\':
-                switch (this.checkAndNext()) {
-                    case '"':
-                        c = '\"';
-                        break;
-                    case '\\':
-                        c = '\\';
-                        break;
-                    case '/':
-                        c = '/';
-                        break;
-                    case 'b':
-                        c = '\b';
-                        break;
-                    case 'f':
-                        c = '\f';
-                        break;
-                    case 'n':
-                        c = '\n';
-                        break;
-                    case 'r':
-                        c = '\r';
-                        break;
-                    case 't':
-                        c = '\t';
-                        break;
-                    case 'u':
-                        String uniHex = this.next(4);
+        throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, this.getIndex() + 1));
+    }
 
-                        int uniHexInDec = Integer.parseInt(uniHex, 16);
+    /**
+     * Extracts the one character long JSON {@link String String} starting at the current character as a {@link
+     * Character Character}.
+     *
+     * @return the extracted {@link Character Character}
+     */
+    public Character nextCharacter() {
 
-                        c = Character.toChars(uniHexInDec)[0];
-                        break;
-                    default:
-                        throw new JsonParsingException("Unknown control character \\" + this.json[this.currentIndex] + "at index " + this.currentIndex);
-                }
-                break;
-            case '"':
-                throw new JsonParsingException("Expected a one character long JSON String but found empty String " +
-                                                       "instead at index " + this.currentIndex);
-            default:
-                c = next;
-        }
+        int startIndex = this.getIndex() + 1;
+        String string = this.nextString();
 
-        if (this.checkAndNext() != '\"') {
+        if (string == null) {
+            return null;
+        } else if (string.isEmpty()) {
+            throw new JsonParsingException("Expected a one character long JSON String but found empty String " +
+                                                   "instead at index " + startIndex);
+        } else if (string.length() != 1) {
             throw new JsonParsingException("Expected one character long String, but the String seems to continue " +
-                                                     "at index " + this.currentIndex);
+                                                   "at index " + startIndex);
         }
 
-        return c;
+        return string.charAt(0);
     }
 
+    /**
+     * Extracts the {@link Number Number} starting at the current character. Integral numbers, that fit into a {@code
+     * long}, are returned as a {@link Long Long}, all other numbers as specified by the {@link NumberMode NumberMode}.
+     * Integral numbers, that overflow a {@code long}, are always returned as a {@link BigDecimal BigDecimal}.
+     *
+     * @return the extracted {@link Number Number}
+     */
     public Number nextNumber() {
 
         if (this.isNull())
             return null;
 
-        char next;
+        this.scanNumber();
 
-        StringBuilder stringBuilder = new StringBuilder();
+        return this.scannedNumber();
+    }
 
-        // check for decimal sign
-        if (this.checkAndNextNoIncrement() == '-') {
-            stringBuilder.append(this.next());
-        }
+    /**
+     * Scans the number starting at the current character without creating its Java representation, which can then be
+     * retrieved using {@link #scannedNumber()}, {@link #scannedLong()} or {@link #scannedDouble()} until the next
+     * number is scanned.
+     *
+     * @throws JsonParsingException
+     *         if the number is malformed
+     */
+    void scanNumber() {
 
-        next = this.checkAndNext();
+        this.numberLength = 0;
+
+        char next = this.checkAndNext();
+        boolean negative = next == '-';
+        boolean overflown = false;
+        long value = 0; // accumulated negatively, so that Long.MIN_VALUE can be represented
+        int lastDigitLimit = negative ? 8 : 7;
+
+        if (negative) {
+            this.appendToNumber(next);
+            next = this.checkAndNext();
+        }
 
         // checking if at least one digit is present
-        if (next == '0' || next == '1' || next == '2' || next == '3' || next == '4' || next == '5' || next == '6' || next == '7' || next == '8' || next == '9') {
-            stringBuilder.append(next);
-        } else {
-            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "number", next, this.currentIndex));
+        if (!CharClass.is(next, CharClass.DIGIT)) {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "number", next, this.getIndex()));
         }
-        
-        while (this.hasNext()) {
+
+        while (true) {
+            int digit = next - '0';
+
+            overflown |= value < LONG_MIN_DIV_10 || (value == LONG_MIN_DIV_10 && digit > lastDigitLimit);
+            value = value * 10 - digit;
+            this.appendToNumber(next);
+
+            if (!this.hasNext()) {
+                break;
+            }
+
             next = this.next();
 
-            if (next == '0' || next == '1' || next == '2' || next == '3' || next == '4' || next == '5' || next == '6' || next == '7' || next == '8' || next == '9') {
-                stringBuilder.append(next);
-            } else {
+            if (!CharClass.is(next, CharClass.DIGIT)) {
                 this.back();
                 break;
             }
         }
-        
-        // checking if decimal places exist
-        if (this.hasNext()) {
-            if (this.nextNoIncrement() == '.') {
-                stringBuilder.append(this.next());
 
-                next = this.checkAndNext();
+        boolean integral = true;
 
-                if (next == '0' || next == '1' || next == '2' || next == '3' || next == '4' || next == '5' || next == '6' || next == '7' || next == '8' || next == '9') {
-                    stringBuilder.append(next);
-                } else {
-                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "number", next, this.currentIndex));
-                }
+        // checking if decimal places exist
+        if (this.hasNext() && this.nextNoIncrement() == '.') {
+            this.appendToNumber(this.next());
+            this.appendDigitsToNumber();
 
-                while (this.hasNext()) {
-                    next = this.next();
+            integral = false;
+        }
 
-                    if (next == '0' || next == '1' || next == '2' || next == '3' || next == '4' || next == '5' || next == '6' || next == '7' || next == '8' || next == '9') {
-                        stringBuilder.append(next);
-                    } else {
-                        this.back();
-                        break;
-                    }
-                }
+        // checking for exponent
+        if (this.hasNext() && (this.nextNoIncrement() == 'e' || this.nextNoIncrement() == 'E')) {
+            this.appendToNumber(this.next());
+
+            if (this.checkAndNextNoIncrement() == '-' || this.nextNoIncrement() == '+') { // if sign is present add it
+                this.appendToNumber(this.next());
             }
+
+            this.appendDigitsToNumber();
+
+            integral = false;
         }
-        
-        // checking for exponent
-        if (this.hasNext()) {
-            if (this.nextNoIncrement() == 'e' || this.nextNoIncrement() == 'E') {
-                stringBuilder.append(this.next());
 
-                next = this.checkAndNext();
+        this.integralNumber = integral;
+        this.longNumber = integral && !overflown;
+        this.numberValue = negative ? value : -value;
+    }
 
-                if (next == '-' || next == '+') { // if decimal sign is present add it
-                    stringBuilder.append(next);
-                    next = this.checkAndNext();
-                }
+    /**
+     * Checks if the number last scanned by {@link #scanNumber()} is integral and fits into a {@code long}.
+     *
+     * @return {@code true} if the number is a {@code long}; {@code false} otherwise
+     */
+    boolean isScannedLong() {
 
-                if (next == '0' || next == '1' || next == '2' || next == '3' || next == '4' || next == '5' || next == '6' || next == '7' || next == '8' || next == '9') {
-                    stringBuilder.append(next);
-                } else {
-                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "number", next, this.currentIndex));
-                }
+        return this.longNumber;
+    }
 
-                while (this.hasNext()) {
-                    next = this.next();
+    /**
+     * Returns the Java representation of the number last scanned by {@link #scanNumber()}: a {@link Long Long}, if it
+     * is integral and fits into a {@code long}, otherwise a {@link Double Double} or a {@link BigDecimal BigDecimal},
+     * depending on the {@link NumberMode NumberMode}.
+     *
+     * @return the {@link Number Number}
+     */
+    Number scannedNumber() {
 
-                    if (next == '0' || next == '1' || next == '2' || next == '3' || next == '4' || next == '5' || next == '6' || next == '7' || next == '8' || next == '9') {
-                        stringBuilder.append(next);
-                    } else {
-                        this.back();
-                        break;
-                    }
-                }
-            }
+        if (this.longNumber) {
+            return this.numberValue;
+        } else if (this.numberMode == NumberMode.DOUBLE && !this.integralNumber) {
+            return DoubleParser.parse(this.numberChars, 0, this.numberLength);
         }
 
-        return new BigDecimal(stringBuilder.toString());
+        return new BigDecimal(this.numberChars, 0, this.numberLength);
+    }
+
+    /**
+     * Returns the number last scanned by {@link #scanNumber()} as a {@code long}, which is only exact, if the number
+     * {@link #isScannedLong() is a long}.
+     *
+     * @return the {@code long}
+     */
+    long scannedLong() {
+
+        return this.longNumber ? this.numberValue : this.scannedNumber().longValue();
+    }
+
+    /**
+     * Returns the number last scanned by {@link #scanNumber()} as the closest {@code double}, without creating its
+     * Java representation.
+     *
+     * @return the {@code double}
+     */
+    double scannedDouble() {
+
+        return this.longNumber ? this.numberValue : DoubleParser.parse(this.numberChars, 0, this.numberLength);
     }
 
     /**
-     * Extracts the {@link String String} starting at the current character.
+     * Extracts the {@link String String} starting at the current character. Characters up to the closing quote or the
+     * first escape sequence are copied in bulk; only escape sequences are decoded character by character.
      *
      * @return the extracted {@link String String}
      */
     public String nextString() {
 
+        return this.nextString(false);
+    }
+
+    /**
+     * Extracts the name of a JSON object field starting at the current character. If a {@link SymbolTable SymbolTable}
+     * is set, names without escape sequences are canonicalized.
+     *
+     * @return the extracted name
+     */
+    public String nextName() {
+
+        return this.nextString(true);
+    }
+
+    /**
+     * Extracts the {@link String String} starting at the current character. If a {@link SymbolTable SymbolTable} is set
+     * and the {@link String String} is a name or a value short enough, it is canonicalized, if it contains no escape
+     * sequences.
+     *
+     * @param name
+     *         whether the {@link String String} is the name of a JSON object field
+     *
+     * @return the extracted {@link String String}
+     */
+    protected String nextString(boolean name) {
+
         if (this.isNull())
             return null;
 
         char next = this.checkAndNext();
-        StringBuilder stringBuilder = new StringBuilder();
+        StringBuilder stringBuilder = null;
 
         if (next != '"') {
-            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "'\"'", next, this.currentIndex));
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "'\"'", next, this.getIndex()));
         }
 
-        while (this.hasNext()) {
+        while (true) {
+            char[] json = this.json;
+            int start = this.currentIndex + 1;
+            int end = start;
+
+            // scanning ahead for the next character, that needs special treatment
+            while (end < this.limit && (next = json[end]) != '"' && next != '\\' && next != '\n' && next != '\r') {
+                end++;
+            }
+
+            if (stringBuilder == null && end < this.limit && next == '"') { // no escapes at all
+                this.currentIndex = end;
+
+                if (this.isCanonicalized(name, end - start)) {
+                    return this.symbolTable.lookup(json, start, end - start);
+                }
+
+                return new String(json, start, end - start);
+            }
+
+            if (stringBuilder == null) {
+                stringBuilder = this.stringBuilder();
+            }
+
+            stringBuilder.append(json, start, end - start);
+            this.currentIndex = end - 1;
+
+            if (!this.hasNext()) {
+                throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+            }
+
             next = this.next();
 
             switch (next) {
                 case '\n':
                 case '\r':
-                    throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, this.currentIndex));
+                    throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, this.getIndex()));
                 case '\\':
-                    switch (this.checkAndNext()) {
-                        case '"':
-                            stringBuilder.append("\"");
-                            break;
-                        case '\\':
-                            stringBuilder.append("\\");
-                            break;
-                        case '/':
-                            stringBuilder.append("/");
-                            break;
-                        case 'b':
-                            stringBuilder.append("\b");
-                            break;
-                        case 'f':
-                            stringBuilder.append("\f");
-                            break;
-                        case 'n':
-                            stringBuilder.append("\n");
-                            break;
-                        case 'r':
-                            stringBuilder.append("\r");
-                            break;
-                        case 't':
-                            stringBuilder.append("\t");
-                            break;
-                        case 'u':
-                            String uniHex = this.next(4);
-
-                            int uniHexInDec = Integer.parseInt(uniHex, 16);
-
-                            char c = Character.toChars(uniHexInDec)[0];
-
-                            stringBuilder.append(c);
-                            break;
-                        default:
-                            throw new JsonParsingException("Unknown control character \\" + this.json[this.currentIndex] + "at index " + this.currentIndex);
-                    }
+                    stringBuilder.append(this.nextEscapedChar());
                     break;
                 case '"':
                     return stringBuilder.toString();
-                default:
+                default: // the buffer has been refilled
                     stringBuilder.append(next);
             }
         }
+    }
+
+    /**
+     * Sets the {@link NumberMode NumberMode} defining the Java representation of numbers with a fraction or an
+     * exponent. The default is {@link NumberMode#BIG_DECIMAL NumberMode.BIG_DECIMAL}.
+     *
+     * @param numberMode
+     *         the {@link NumberMode NumberMode}
+     */
+    public void setNumberMode(NumberMode numberMode) {
+
+        this.numberMode = numberMode;
+    }
+
+    /**
+     * Sets the {@link SymbolTable SymbolTable} used to canonicalize names and short values. By default, no {@link
+     * SymbolTable SymbolTable} is used.
+     *
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} or {@code null} to disable canonicalization
+     */
+    public void setSymbolTable(SymbolTable symbolTable) {
+
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * Gets the {@link SymbolTable SymbolTable} used to canonicalize names and short values.
+     *
+     * @return the {@link SymbolTable SymbolTable} or {@code null} if none is used
+     */
+    protected SymbolTable getSymbolTable() {
 
-        throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        return this.symbolTable;
     }
 
     /**
@@ -415,7 +668,7 @@ public class JsonTokener {
      */
     public void back() {
 
-        if (this.currentIndex == -1) {
+        if (this.currentIndex < 0) {
             throw new IndexOutOfBoundsException("The index cannot be further decreased");
         }
 
@@ -429,7 +682,216 @@ public class JsonTokener {
      */
     public int getIndex() {
 
-        return this.currentIndex;
+        return this.base + this.currentIndex;
+    }
+
+    /**
+     * Returns the empty scratch {@link StringBuilder StringBuilder} used to build {@link String Strings} containing
+     * escape sequences. The returned {@link StringBuilder StringBuilder} is only valid until the next call.
+     *
+     * @return the scratch {@link StringBuilder StringBuilder}
+     */
+    protected StringBuilder stringBuilder() {
+
+        if (this.stringBuilder.capacity() > MAX_REUSED_LENGTH) {
+            this.stringBuilder = new StringBuilder();
+        }
+
+        this.stringBuilder.setLength(0);
+
+        return this.stringBuilder;
+    }
+
+    /**
+     * Checks if a {@link String String} without escape sequences is to be looked up in the {@link SymbolTable
+     * SymbolTable}.
+     *
+     * @param name
+     *         whether the {@link String String} is the name of a JSON object field
+     * @param length
+     *         the length of the {@link String String}
+     *
+     * @return {@code true} if the {@link String String} is to be canonicalized; {@code false} otherwise
+     */
+    protected boolean isCanonicalized(boolean name, int length) {
+
+        return this.symbolTable != null && (name || this.symbolTable.isCanonicalized(length));
+    }
+
+    /**
+     * Decodes the escape sequence following a backslash. A unicode escape of a surrogate is decoded to that
+     * surrogate, so that two consecutive unicode escapes form a surrogate pair.
+     *
+     * @return the escaped character
+     */
+    protected char nextEscapedChar() {
+
+        char next = this.checkAndNext();
+
+        switch (next) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+
+                for (int i = 0; i < 4; i++) {
+                    char hex = this.checkAndNext();
+
+                    if (hex >= '0' && hex <= '9') {
+                        codeUnit = codeUnit << 4 | (hex - '0');
+                    } else if (hex >= 'a' && hex <= 'f') {
+                        codeUnit = codeUnit << 4 | (hex - 'a' + 10);
+                    } else if (hex >= 'A' && hex <= 'F') {
+                        codeUnit = codeUnit << 4 | (hex - 'A' + 10);
+                    } else {
+                        throw new JsonParsingException(String.format(INVALID_UNICODE_ESCAPE_ERR_TMPL,
+                                                                     this.getIndex() - i));
+                    }
+                }
+
+                return (char) codeUnit;
+            default:
+                throw new JsonParsingException(String.format(UNKNOWN_ESCAPE_ERR_TMPL, next, this.getIndex()));
+        }
+    }
+
+    /**
+     * Appends the next digits to {@link #numberChars}. At least one digit must be present.
+     */
+    private void appendDigitsToNumber() {
+
+        char next = this.checkAndNext();
+
+        if (!CharClass.is(next, CharClass.DIGIT)) {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "number", next, this.getIndex()));
+        }
+
+        this.appendToNumber(next);
+
+        while (this.hasNext()) {
+            next = this.next();
+
+            if (!CharClass.is(next, CharClass.DIGIT)) {
+                this.back();
+                break;
+            }
+
+            this.appendToNumber(next);
+        }
+    }
+
+    /**
+     * Appends the passed character to {@link #numberChars}, growing it if necessary.
+     *
+     * @param c
+     *         the character
+     */
+    private void appendToNumber(char c) {
+
+        if (this.numberLength == this.numberChars.length) {
+            this.numberChars = Arrays.copyOf(this.numberChars, this.numberLength * 2);
+        }
+
+        this.numberChars[this.numberLength++] = c;
+    }
+
+    /**
+     * Refills the buffer from the {@link Reader Reader}, keeping the current character so that {@link #back()} stays
+     * possible.
+     *
+     * @return {@code true} if new characters are available; {@code false} if the end of the JSON is reached
+     */
+    private boolean fill() {
+
+        if (this.reader == null) {
+            return false;
+        }
+
+        int keepFrom = Math.max(this.currentIndex, 0);
+        int keep = this.limit - keepFrom;
+
+        System.arraycopy(this.json, keepFrom, this.json, 0, keep);
+
+        this.base += keepFrom;
+        this.currentIndex -= keepFrom;
+        this.limit = keep;
+
+        try {
+            while (this.currentIndex >= this.limit - 1) {
+                int read = this.reader.read(this.json, this.limit, this.json.length - this.limit);
+
+                if (read < 0) {
+                    this.reader = null;
+                    return false;
+                }
+
+                this.limit += read;
+            }
+        } catch (IOException e) {
+            throw new JsonParsingException("Unable to read the JSON", e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Skips the rest of the JSON object or array, whose opening bracket is the current character, including its closing
+     * bracket.
+     */
+    void skipToContainerEnd() {
+
+        int depth = 1;
+
+        while (depth > 0) {
+            switch (this.checkAndNext()) {
+                case '"':
+                    this.skipStringContent();
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    break;
+                case '/':
+                    if (this.hasNext() && this.nextNoIncrement() == '/') { // brackets in comments don't count
+                        this.skipNewline();
+                    }
+                    break;
+                default:
+                    // nothing to track
+            }
+        }
+    }
+
+    /**
+     * Skips the rest of the JSON string, whose opening quote is the current character, including its closing quote.
+     */
+    private void skipStringContent() {
+
+        char next;
+
+        while ((next = this.checkAndNext()) != '"') {
+            if (next == '\\') { // the escaped character cannot end the string
+                this.checkAndNext();
+            }
+        }
     }
 
     /**
@@ -447,24 +909,40 @@ public class JsonTokener {
         }
     }
 
-    private boolean isNull() {
+    /**
+     * Checks if the next characters form a JSON {@code null}. If so, they are consumed.
+     *
+     * @return {@code true} if the next value is {@code null}; {@code false} otherwise
+     */
+    protected boolean isNull() {
 
-        if (this.checkAndNext() == 'n') { // expecting null
-            String str = "n";
+        if (this.checkAndNextNoIncrement() != 'n') {
+            return false;
+        }
 
-            str += this.next(3); // getting the 3 remaining characters that would form null
+        this.skipLiteral("null");
 
-            if (!str.equals("null")) {
-                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL,
-                                                               (this.currentIndex - 3)));
-            } else {
-                return true;
-            }
-        }
+        return true;
+    }
 
-        this.back();
+    /**
+     * Consumes the passed literal, which must start at the next character.
+     *
+     * @param literal
+     *         the literal
+     *
+     * @throws JsonParsingException
+     *         if the next characters differ from the literal
+     */
+    void skipLiteral(String literal) {
+
+        int startIndex = this.getIndex() + 1;
 
-        return false;
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.checkAndNext() != literal.charAt(i)) {
+                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL, startIndex));
+            }
+        }
     }
 
 
@@ -1,21 +1,103 @@
 package com.github.mavolin.maxon.parsing;
 
+import com.github.mavolin.maxon.NumberMode;
 import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
 import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * The {@code JsonValueConverter} is the converter used by {@link com.github.mavolin.maxon.Maxon Maxon} to transform
- * {@link String Strings} of JSON data to their Java representations and vice-versa.
+ * {@link String Strings} of JSON data to their Java representations and vice-versa. The Java representations are built
+ * from the tokens of a {@link JsonReader JsonReader}, so tree building and streaming share the same lexer.
  */
 public class JsonValueConverter {
 
 
     private static final String UNEXPECTED_TOKEN_ERR_TMPL = "Unexpected token '%s' at index %d";
-    private static final String EXPECTED_CHAR_ERR_TMPL = "Expected '%s' but found '%s' at index %d";
-    private static final String UNEXPECTED_CHAR_SET_ERR_TMPL = "Unexpected character set starting at index %d";
+    private static final String UNREADABLE_FILE_ERR_TMPL = "Unable to read the JSON from %s";
+    private static final String FILE_TOO_LARGE_ERR_TMPL = "The file %s is larger than 2 GB";
+    private static final String LINE_TOO_LONG_ERR_TMPL = "The file %s contains a line at byte %d, that is "
+            + "too long to be mapped";
+
+    /**
+     * The number of bytes after which the JSON Lines of files too large to be mapped as a whole are split into
+     * separately mapped segments.
+     */
+    private static final int LINES_SEGMENT_SIZE = 1 << 30;
+    /**
+     * The default minimum size of a JSON array to be parsed concurrently.
+     */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * The Java representation of numbers with a fraction or an exponent.
+     */
+    private final NumberMode numberMode;
+    /**
+     * The {@link SymbolTable SymbolTable} shared by all parsed JSON values or {@code null} if none is used.
+     */
+    private final SymbolTable symbolTable;
+    /**
+     * The {@link ParserPool ParserPool} providing reusable parsers for JSON values, that are fully available in memory.
+     */
+    private final ParserPool parserPool;
+
+
+    /**
+     * Instantiates a new {@code JsonValueConverter} representing numbers with a fraction or an exponent as {@link
+     * java.math.BigDecimal BigDecimals}.
+     */
+    public JsonValueConverter() {
+
+        this(NumberMode.BIG_DECIMAL);
+    }
+
+    /**
+     * Instantiates a new {@code JsonValueConverter} representing numbers with a fraction or an exponent as specified
+     * by the passed {@link NumberMode NumberMode}.
+     *
+     * @param numberMode
+     *         the {@link NumberMode NumberMode}
+     */
+    public JsonValueConverter(NumberMode numberMode) {
+
+        this(numberMode, null);
+    }
+
+    /**
+     * Instantiates a new {@code JsonValueConverter} representing numbers with a fraction or an exponent as specified
+     * by the passed {@link NumberMode NumberMode}. The names of JSON object fields, and short JSON string values if
+     * configured, are canonicalized using the passed {@link SymbolTable SymbolTable}, so that repeated names share the
+     * same {@link String String} instance.
+     *
+     * @param numberMode
+     *         the {@link NumberMode NumberMode}
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} or {@code null} to disable canonicalization
+     */
+    public JsonValueConverter(NumberMode numberMode, SymbolTable symbolTable) {
+
+        this.numberMode = numberMode;
+        this.symbolTable = symbolTable;
+        this.parserPool = new ParserPool(numberMode, symbolTable);
+    }
 
 
     /**
@@ -28,213 +110,1263 @@ public class JsonValueConverter {
      */
     public JsonValue getFromJson(String source) {
 
-        JsonTokener jsonTokener = new JsonTokener(source);
-        jsonTokener.skipCommentAndWhitespace();
+        ParserPool.Parser parser = this.parserPool.acquire();
 
-        JsonValue extractedValue = this.extract(jsonTokener);
+        try {
+            return this.read(parser.reader(source), this::getFromJson);
+        } finally {
+            this.parserPool.release(parser);
+        }
+    }
 
-        jsonTokener.skipCommentAndWhitespace();
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the passed byte array to its Java representation. The bytes are
+     * parsed in place, without decoding them to a {@link String String} first.
+     *
+     * @param source
+     *         the UTF-8 encoded JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJson(byte[] source) {
 
-        if (jsonTokener.hasNext()) {
-            throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, jsonTokener.next(),
-                                                         jsonTokener.getIndex()));
-        }
+        return this.getFromJson(source, 0, source.length, 0);
+    }
+
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the specified range of the passed byte array to its Java
+     * representation. The bytes are parsed in place, without decoding them to a {@link String String} first.
+     *
+     * @param source
+     *         the byte array containing the UTF-8 encoded JSON value
+     * @param offset
+     *         the index of the first byte of the JSON value
+     * @param length
+     *         the number of bytes of the JSON value
+     *
+     * @return the Java representation of the JSON value
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the range exceeds the bounds of the passed array
+     */
+    public JsonValue getFromJson(byte[] source, int offset, int length) {
+
+        return this.getFromJson(source, offset, length, 0);
+    }
+
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the remaining bytes of the passed {@link ByteBuffer ByteBuffer} to
+     * its Java representation. The position of the {@link ByteBuffer ByteBuffer} will not be modified.
+     *
+     * @param source
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJson(ByteBuffer source) {
+
+        return this.getFromJson(this.configure(new Utf8JsonTokener(source)));
+    }
+
+    /**
+     * Converts the JSON value read from the passed {@link Reader Reader} to its Java representation. The characters
+     * are read through a fixed-size buffer, so that only the resulting Java representation is kept in memory. The
+     * {@link Reader Reader} will not be closed.
+     *
+     * @param source
+     *         the {@link Reader Reader} providing the JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJson(Reader source) {
+
+        return this.getFromJson(this.configure(new JsonTokener(source)));
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON value read from the passed {@link InputStream InputStream} to its Java
+     * representation. The bytes are read through a fixed-size buffer, so that only the resulting Java representation is
+     * kept in memory. The {@link InputStream InputStream} will not be closed.
+     *
+     * @param source
+     *         the {@link InputStream InputStream} providing the UTF-8 encoded JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJson(InputStream source) {
+
+        return this.getFromJson(this.configure(new Utf8JsonTokener(source)));
+    }
 
-        return extractedValue;
+    /**
+     * Converts the UTF-8 encoded JSON value read from the passed {@link ReadableByteChannel ReadableByteChannel} to its
+     * Java representation. The bytes are read through a fixed-size buffer, so that only the resulting Java
+     * representation is kept in memory. The {@link ReadableByteChannel ReadableByteChannel} must be in blocking mode
+     * and will not be closed.
+     *
+     * @param source
+     *         the {@link ReadableByteChannel ReadableByteChannel} providing the UTF-8 encoded JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJson(ReadableByteChannel source) {
+
+        return this.getFromJson(this.configure(new Utf8JsonTokener(source)));
     }
 
+    /**
+     * Converts the UTF-8 encoded JSON value stored in the file at the passed {@link Path Path} to its Java
+     * representation. The file is memory-mapped in segments, which are copied through a small, fixed-size buffer while
+     * parsing, so that the file is neither read into the heap as a whole nor decoded to a {@link String String} first.
+     * Files of any size are supported.
+     *
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON value
+     *
+     * @return the Java representation of the JSON value
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read
+     */
+    public JsonValue getFromJson(Path source) {
+
+        try (FileChannel fileChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            return this.getFromJson(this.configure(new Utf8JsonTokener(fileChannel)));
+        } catch (IOException e) {
+            throw new JsonParsingException(String.format(UNREADABLE_FILE_ERR_TMPL, source), e);
+        }
+    }
 
     /**
-     * Extracts the element at the next position of the passed {@link JsonTokener JsonTokener} and returns it
+     * Converts the JSON value provided by the passed {@link JsonTokener JsonTokener} to its Java representation.
      *
      * @param jsonTokener
      *         the {@link JsonTokener JsonTokener}
      *
-     * @return the {@link JsonValue JsonValue}
+     * @return the Java representation of the JSON value
      */
-    private JsonValue extract(JsonTokener jsonTokener) {
+    public JsonValue getFromJson(JsonTokener jsonTokener) {
 
-        jsonTokener.skipCommentAndWhitespace();
+        return this.read(new JsonReader(jsonTokener), this::getFromJson);
+    }
 
-        char next = jsonTokener.checkAndNextNoIncrement();
+    /**
+     * Converts the JSON value at the current position of the passed {@link JsonReader JsonReader} to its Java
+     * representation. If the current token of the {@link JsonReader JsonReader} is the start of a value, that value
+     * will be converted, otherwise the next value is read. After the conversion, the current token of the {@link
+     * JsonReader JsonReader} will be the last token of the value.
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJson(JsonReader jsonReader) {
 
-        switch (next) {
-            case 't':
-            case 'f':
-            case '-':
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-            case '"':
-            case 'n':
-                return this.getJsonPrimitiveFromJson(jsonTokener);
-            case '[':
-                return this.getJsonArrayFromJson(jsonTokener);
-            case '{':
-                return this.getJsonObjectFromJson(jsonTokener);
-            default:
-                throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next,
-                                                             jsonTokener.getIndex() + 1));
+        return this.extract(jsonReader, jsonReader.startValue());
+    }
+
+    /**
+     * Reads the JSON value saved in the passed {@link String String} using the passed function, which is given a
+     * pooled {@link JsonReader JsonReader} positioned before the value. This allows binding the tokens directly,
+     * without building the Java representation of the JSON value first. The {@link JsonReader JsonReader} must not be
+     * used after the function returns.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed or anything but whitespaces and comments follow the value
+     */
+    public <T> T read(String source, Function<JsonReader, T> function) {
+
+        ParserPool.Parser parser = this.parserPool.acquire();
+
+        try {
+            return this.read(parser.reader(source), function);
+        } finally {
+            this.parserPool.release(parser);
+        }
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON value saved in the specified range of the passed byte array using the passed
+     * function, which is given a pooled {@link JsonReader JsonReader} positioned before the value. See {@link
+     * #read(String, Function)}.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the byte array containing the UTF-8 encoded JSON value
+     * @param offset
+     *         the index of the first byte of the JSON value
+     * @param length
+     *         the number of bytes of the JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed or anything but whitespaces and comments follow the value
+     * @throws IndexOutOfBoundsException
+     *         if the range exceeds the bounds of the passed array
+     */
+    public <T> T read(byte[] source, int offset, int length, Function<JsonReader, T> function) {
+
+        return this.read(source, offset, length, 0, function);
+    }
+
+    /**
+     * Converts a JSON value saved in the passed {@link String String} to its Java representation, parsing the elements
+     * of a top-level JSON array concurrently, if the JSON consists of at least 1 MiB characters. See {@link
+     * #getFromJsonParallel(String, int)}.
+     *
+     * @param source
+     *         the JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJsonParallel(String source) {
+
+        return this.getFromJsonParallel(source, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Converts a JSON value saved in the passed {@link String String} to its Java representation. If the JSON value is
+     * a JSON array and consists of at least the specified number of characters, the boundaries of its elements are
+     * found in a fast pre-scan and the elements are parsed concurrently in the {@link
+     * java.util.concurrent.ForkJoinPool ForkJoinPool}. The elements of the resulting {@link JsonArray JsonArray} are
+     * in their original order. All other JSON values, and JSON containing comments, are parsed sequentially.
+     *
+     * @param source
+     *         the JSON value
+     * @param threshold
+     *         the minimum number of characters of a JSON array to be parsed concurrently
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJsonParallel(String source, int threshold) {
+
+        if (source.length() >= threshold) {
+            JsonArray jsonArray = ParallelArrayParser.parse(this, source.toCharArray());
+
+            if (jsonArray != null) {
+                return jsonArray;
+            }
+        }
+
+        return this.getFromJson(source);
+    }
+
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the passed byte array to its Java representation, parsing the
+     * elements of a top-level JSON array concurrently, if the JSON consists of at least 1 MiB. See {@link
+     * #getFromJsonParallel(byte[], int)}.
+     *
+     * @param source
+     *         the UTF-8 encoded JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJsonParallel(byte[] source) {
+
+        return this.getFromJsonParallel(source, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the passed byte array to its Java representation. If the JSON value
+     * is a JSON array and consists of at least the specified number of bytes, the boundaries of its elements are found
+     * in a fast pre-scan and the elements are parsed concurrently in the {@link java.util.concurrent.ForkJoinPool
+     * ForkJoinPool}. The elements of the resulting {@link JsonArray JsonArray} are in their original order. All other
+     * JSON values, and JSON containing comments, are parsed sequentially.
+     *
+     * @param source
+     *         the UTF-8 encoded JSON value
+     * @param threshold
+     *         the minimum number of bytes of a JSON array to be parsed concurrently
+     *
+     * @return the Java representation of the JSON value
+     */
+    public JsonValue getFromJsonParallel(byte[] source, int threshold) {
+
+        if (source.length >= threshold) {
+            JsonArray jsonArray = ParallelArrayParser.parse(this, source);
+
+            if (jsonArray != null) {
+                return jsonArray;
+            }
+        }
+
+        return this.getFromJson(source);
+    }
+
+    /**
+     * Converts a JSON value saved in the passed {@link String String} to a lazy Java representation. Instead of
+     * building the whole tree, the JSON is read once to record the positions of all values. The fields of the
+     * returned {@link JsonObject JsonObjects} and {@link JsonArray JsonArrays} are decoded when they are accessed for
+     * the first time and cached afterwards. The structure of the JSON is validated immediately, while strings and
+     * numbers are validated, when they are decoded.
+     * <p>
+     * This is faster than {@link #getFromJson(String)}, if only some of the values are accessed.
+     * </p>
+     * <p>
+     * Unlike the eagerly built ones, the returned {@link JsonObject JsonObjects} and {@link JsonArray JsonArrays} are
+     * not thread-safe, not even for concurrent reads, since reading a value stores it in their internal cache. If they
+     * are shared between threads, all accesses must be synchronized externally, or {@link #getFromJson(String)} must be
+     * used instead.
+     * </p>
+     *
+     * @param source
+     *         the JSON value
+     *
+     * @return the lazy Java representation of the JSON value
+     */
+    public JsonValue getLazyFromJson(String source) {
+
+        return LazyDocument.parse(source.toCharArray(), this.numberMode, this.symbolTable);
+    }
+
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the passed byte array to a lazy Java representation, as described
+     * in {@link #getLazyFromJson(String)}. The returned values refer to the passed array, which therefore must not be
+     * modified afterwards. Like all lazy values, they are not thread-safe, not even for concurrent reads.
+     *
+     * @param source
+     *         the UTF-8 encoded JSON value
+     *
+     * @return the lazy Java representation of the JSON value
+     */
+    public JsonValue getLazyFromJson(byte[] source) {
+
+        return LazyDocument.parse(source, this.numberMode, this.symbolTable);
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON value stored in the file at the passed {@link Path Path} to a lazy Java
+     * representation, as described in {@link #getLazyFromJson(String)}. The file is memory-mapped and only its
+     * structural index is kept in the heap. Strings and numbers are copied from the mapped file, when they are
+     * accessed for the first time, so that the operating system's page cache holds the data instead of the heap. The
+     * file must not be modified, while the returned values are in use. Like all lazy values, they are not thread-safe,
+     * not even for concurrent reads.
+     *
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON value
+     *
+     * @return the lazy Java representation of the JSON value
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read or is larger than 2 GB
+     */
+    public JsonValue getLazyFromJson(Path source) {
+
+        return LazyDocument.parse(this.map(source), this.numberMode, this.symbolTable);
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON Lines (newline-delimited JSON) saved in the passed byte array to a {@link Stream
+     * Stream} of the Java representations of their JSON values, as described in {@link #getFromJsonLines(ByteBuffer,
+     * boolean)}.
+     *
+     * @param source
+     *         the UTF-8 encoded JSON Lines
+     * @param ordered
+     *         whether the values must be in the order of their lines
+     *
+     * @return the parallel {@link Stream Stream} of the Java representations
+     */
+    public Stream<JsonValue> getFromJsonLines(byte[] source, boolean ordered) {
+
+        return this.readJsonLines(ByteBuffer.wrap(source), ordered, this::getFromJson);
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON Lines (newline-delimited JSON) saved in the remaining bytes of the passed {@link
+     * ByteBuffer ByteBuffer} to a {@link Stream Stream} of the Java representations of their JSON values. Every
+     * non-blank line must contain exactly one JSON value.
+     * <p>
+     * The returned {@link Stream Stream} is parallel: the bytes are split into batches of lines at line breaks, which
+     * are parsed in the {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. If the values need not be in the order
+     * of their lines, the {@link Stream Stream} is unordered, so that operations like {@link Stream#limit(long) limit}
+     * or {@link Stream#distinct() distinct} do not have to wait for earlier batches. Call {@link Stream#sequential()
+     * sequential()} to parse the lines in the calling thread instead. Lines are parsed, when the {@link Stream Stream}
+     * is consumed, so the position of the {@link ByteBuffer ByteBuffer} will not be modified, but its content must not
+     * be modified until then.
+     * </p>
+     *
+     * @param source
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON Lines
+     * @param ordered
+     *         whether the values must be in the order of their lines
+     *
+     * @return the parallel {@link Stream Stream} of the Java representations
+     */
+    public Stream<JsonValue> getFromJsonLines(ByteBuffer source, boolean ordered) {
+
+        return this.readJsonLines(source, ordered, this::getFromJson);
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON Lines (newline-delimited JSON) stored in the file at the passed {@link Path Path}
+     * to a {@link Stream Stream} of the Java representations of their JSON values, as described in {@link
+     * #getFromJsonLines(ByteBuffer, boolean)}. The file is memory-mapped, so that the lines are parsed straight from
+     * the operating system's page cache. Files larger than 2 GB are mapped in segments of about 1 GB, that end at a
+     * line break, and the segments are streamed one after another. The indices in error messages are relative to the
+     * segment of the malformed line.
+     *
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON Lines
+     * @param ordered
+     *         whether the values must be in the order of their lines
+     *
+     * @return the parallel {@link Stream Stream} of the Java representations
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read or a line of a file larger than 2 GB is too long to be mapped
+     */
+    public Stream<JsonValue> getFromJsonLines(Path source, boolean ordered) {
+
+        return this.readJsonLines(source, ordered, this::getFromJson);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON Lines (newline-delimited JSON) saved in the passed byte array using the passed
+     * function, as described in {@link #readJsonLines(ByteBuffer, boolean, Function)}.
+     *
+     * @param <T>
+     *         the type of the results
+     * @param source
+     *         the UTF-8 encoded JSON Lines
+     * @param ordered
+     *         whether the results must be in the order of their lines
+     * @param function
+     *         the function reading the JSON value of a line
+     *
+     * @return the parallel {@link Stream Stream} of the results
+     */
+    public <T> Stream<T> readJsonLines(byte[] source, boolean ordered, Function<JsonReader, T> function) {
+
+        return this.readJsonLines(ByteBuffer.wrap(source), ordered, function);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON Lines (newline-delimited JSON) saved in the remaining bytes of the passed {@link
+     * ByteBuffer ByteBuffer} using the passed function. Every line is read by its own pooled {@link JsonReader
+     * JsonReader}, which is positioned before the line's value, so that the values can be bound directly, without
+     * building their Java representations first. The lines are split and parsed in parallel, as described in {@link
+     * #getFromJsonLines(ByteBuffer, boolean)}.
+     *
+     * @param <T>
+     *         the type of the results
+     * @param source
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON Lines
+     * @param ordered
+     *         whether the results must be in the order of their lines
+     * @param function
+     *         the function reading the JSON value of a line
+     *
+     * @return the parallel {@link Stream Stream} of the results
+     */
+    public <T> Stream<T> readJsonLines(ByteBuffer source, boolean ordered, Function<JsonReader, T> function) {
+
+        JsonLinesSpliterator<T> spliterator = new JsonLinesSpliterator<>(this, function, source.duplicate(),
+                                                                         source.position(), source.limit());
+        Stream<T> stream = StreamSupport.stream(spliterator, true);
+
+        return ordered ? stream : stream.unordered();
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON Lines (newline-delimited JSON) stored in the file at the passed {@link Path Path}
+     * using the passed function, as described in {@link #readJsonLines(ByteBuffer, boolean, Function)}. The file is
+     * memory-mapped in segments, as described in {@link #getFromJsonLines(Path, boolean)}.
+     *
+     * @param <T>
+     *         the type of the results
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON Lines
+     * @param ordered
+     *         whether the results must be in the order of their lines
+     * @param function
+     *         the function reading the JSON value of a line
+     *
+     * @return the parallel {@link Stream Stream} of the results
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read or a line of a file larger than 2 GB is too long to be mapped
+     */
+    public <T> Stream<T> readJsonLines(Path source, boolean ordered, Function<JsonReader, T> function) {
+
+        Stream<T> stream = null;
+
+        for (ByteBuffer segment : this.mapLines(source, LINES_SEGMENT_SIZE, Integer.MAX_VALUE)) {
+            Stream<T> segmentStream = this.readJsonLines(segment, ordered, function);
+
+            stream = stream == null ? segmentStream : Stream.concat(stream, segmentStream);
         }
+
+        return stream;
+    }
+
+
+    /**
+     * Extracts the values the passed JSON pointers (RFC 6901) refer to, without converting the whole JSON value. The
+     * JSON is read once and all values, that are not on the path of a pointer, are skipped without being decoded.
+     * Reading stops as soon as all pointers are resolved, so that the rest of the JSON is neither read nor validated.
+     * <p>
+     * Example:<br>
+     * <code>
+     *     JsonValue[] values = jsonValueConverter.extract(json, "/header/tenantId", "/items/0");
+     * </code>
+     * </p>
+     *
+     * @param source
+     *         the JSON value
+     * @param pointers
+     *         the JSON pointers
+     *
+     * @return the values the pointers refer to in the order of the pointers; an element is {@code null} if the pointer
+     *         refers to no value
+     *
+     * @throws IllegalArgumentException
+     *         if a pointer is neither empty nor starts with a {@code '/'}
+     */
+    public JsonValue[] extract(String source, String... pointers) {
+
+        return this.extract(this.configure(new JsonTokener(source)), pointers);
+    }
+
+    /**
+     * Extracts the values the passed JSON pointers (RFC 6901) refer to from the passed UTF-8 encoded JSON value, without
+     * converting the whole JSON value. See {@link #extract(String, String...)} for details.
+     *
+     * @param source
+     *         the UTF-8 encoded JSON value
+     * @param pointers
+     *         the JSON pointers
+     *
+     * @return the values the pointers refer to in the order of the pointers; an element is {@code null} if the pointer
+     *         refers to no value
+     *
+     * @throws IllegalArgumentException
+     *         if a pointer is neither empty nor starts with a {@code '/'}
+     */
+    public JsonValue[] extract(byte[] source, String... pointers) {
+
+        return this.extract(this.configure(new Utf8JsonTokener(source)), pointers);
     }
 
     /**
-     * Extracts the JSON primitive beginning at the next char of the passed {@link JsonTokener JsonTokener} and returns
-     * its Java representation.
+     * Extracts the values the passed JSON pointers (RFC 6901) refer to from the JSON value provided by the passed {@link
+     * JsonTokener JsonTokener}, without converting the whole JSON value. See {@link #extract(String, String...)} for
+     * details.
      *
      * @param jsonTokener
      *         the {@link JsonTokener JsonTokener}
+     * @param pointers
+     *         the JSON pointers
+     *
+     * @return the values the pointers refer to in the order of the pointers; an element is {@code null} if the pointer
+     *         refers to no value
      *
-     * @return the extracted {@link JsonPrimitive JsonPrimitive}
+     * @throws IllegalArgumentException
+     *         if a pointer is neither empty nor starts with a {@code '/'}
      */
-    private JsonPrimitive getJsonPrimitiveFromJson(JsonTokener jsonTokener) {
+    public JsonValue[] extract(JsonTokener jsonTokener, String... pointers) {
 
-        char next = jsonTokener.checkAndNextNoIncrement();
+        PointerExtraction extraction = new PointerExtraction(pointers);
+        int[] candidates = new int[pointers.length];
 
-        switch (next) {
-            case 't':
-            case 'f':
-                return new JsonPrimitive(jsonTokener.nextBoolean());
-            case '-':
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-                return new JsonPrimitive(jsonTokener.nextNumber());
-            case '"':
-                return new JsonPrimitive(jsonTokener.nextString());
-            case 'n':
-                if (jsonTokener.next(4).equals("null")) {
-                    return JsonPrimitive.NULL;
-                } else {
-                    throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL,
-                                                                 jsonTokener.getIndex() - 4));
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = i;
+        }
+
+        jsonTokener.skipCommentAndWhitespace();
+
+        if (candidates.length > 0) {
+            this.extract(jsonTokener, extraction, candidates, 0);
+        }
+
+        return extraction.results;
+    }
+
+    /**
+     * Converts a JSON value saved in the specified range of the passed characters to its Java representation.
+     *
+     * @param source
+     *         the characters containing the JSON value
+     * @param from
+     *         the index of the first character of the JSON value
+     * @param to
+     *         the index after the last character of the JSON value
+     *
+     * @return the Java representation of the JSON value
+     */
+    JsonValue getFromJson(char[] source, int from, int to) {
+
+        ParserPool.Parser parser = this.parserPool.acquire();
+
+        try {
+            return this.read(parser.reader(source, from, to), this::getFromJson);
+        } finally {
+            this.parserPool.release(parser);
+        }
+    }
+
+    /**
+     * Converts a UTF-8 encoded JSON value saved in the specified range of the passed byte array to its Java
+     * representation, reporting errors relative to the passed JSON index.
+     *
+     * @param source
+     *         the byte array containing the UTF-8 encoded JSON value
+     * @param offset
+     *         the index of the first byte of the JSON value
+     * @param length
+     *         the number of bytes of the JSON value
+     * @param index
+     *         the JSON index of the first byte
+     *
+     * @return the Java representation of the JSON value
+     */
+    JsonValue getFromJson(byte[] source, int offset, int length, int index) {
+
+        return this.read(source, offset, length, index, this::getFromJson);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON value saved in the specified range of the passed byte array using the passed
+     * function, which is given a pooled {@link JsonReader JsonReader} positioned before the value, reporting errors
+     * relative to the passed JSON index.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the byte array containing the UTF-8 encoded JSON value
+     * @param offset
+     *         the index of the first byte of the JSON value
+     * @param length
+     *         the number of bytes of the JSON value
+     * @param index
+     *         the JSON index of the first byte
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     */
+    <T> T read(byte[] source, int offset, int length, int index, Function<JsonReader, T> function) {
+
+        ParserPool.Parser parser = this.parserPool.acquire();
+
+        try {
+            return this.read(parser.reader(source, offset, length, index), function);
+        } finally {
+            this.parserPool.release(parser);
+        }
+    }
+
+    /**
+     * Memory-maps the whole file at the passed {@link Path Path}.
+     *
+     * @param source
+     *         the {@link Path Path} of the file
+     *
+     * @return the mapped file
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read or is larger than 2 GB
+     */
+    private MappedByteBuffer map(Path source) {
+
+        try (FileChannel fileChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            if (fileChannel.size() > Integer.MAX_VALUE) {
+                throw new JsonParsingException(String.format(FILE_TOO_LARGE_ERR_TMPL, source));
+            }
+
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        } catch (IOException e) {
+            throw new JsonParsingException(String.format(UNREADABLE_FILE_ERR_TMPL, source), e);
+        }
+    }
+
+    /**
+     * Memory-maps the JSON Lines in the file at the passed {@link Path Path}. Files that are not larger than the
+     * maximum mapping size are mapped as a whole, larger ones are mapped in segments, each of which ends at the first
+     * line break after the passed segment size. {@link #readJsonLines(Path, boolean, Function)} uses {@link
+     * #LINES_SEGMENT_SIZE} and {@link Integer#MAX_VALUE}, the largest size a {@link ByteBuffer ByteBuffer} can have.
+     *
+     * @param source
+     *         the {@link Path Path} of the file
+     * @param segmentSize
+     *         the minimum number of bytes of a segment, that is not the last one
+     * @param mappingSize
+     *         the maximum number of bytes of a segment
+     *
+     * @return the mapped segments of the file in order, at least one
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read or a line is too long to be mapped
+     */
+    List<ByteBuffer> mapLines(Path source, int segmentSize, int mappingSize) {
+
+        try (FileChannel fileChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            List<ByteBuffer> segments = new ArrayList<>();
+            long size = fileChannel.size();
+            long position = 0;
+
+            while (size - position > mappingSize) {
+                MappedByteBuffer window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, mappingSize);
+                int end = segmentSize;
+
+                while (window.get(end - 1) != '\n') {
+                    if (end == mappingSize) {
+                        throw new JsonParsingException(String.format(LINE_TOO_LONG_ERR_TMPL, source,
+                                                                       position + segmentSize));
+                    }
+
+                    end++;
                 }
-            default:
-                throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next,
-                                                             jsonTokener.getIndex() + 1));
+
+                segments.add(window.limit(end));
+                position += end;
+            }
+
+            segments.add(fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size - position));
+
+            return segments;
+        } catch (IOException e) {
+            throw new JsonParsingException(String.format(UNREADABLE_FILE_ERR_TMPL, source), e);
+        }
+    }
+
+    /**
+     * Reads the JSON value read from the passed {@link Reader Reader} using the passed function, which is given a
+     * {@link JsonReader JsonReader} positioned before the value. The characters are read through a fixed-size buffer,
+     * so that the JSON is never held in memory as a whole. The {@link Reader Reader} will not be closed.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the {@link Reader Reader} providing the JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed, anything but whitespaces and comments follow the value or the {@link Reader
+     *         Reader} fails
+     */
+    public <T> T read(Reader source, Function<JsonReader, T> function) {
+
+        return this.read(new JsonReader(this.configure(new JsonTokener(source))), function);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON value read from the passed {@link InputStream InputStream} using the passed
+     * function, which is given a {@link JsonReader JsonReader} positioned before the value. The bytes are read through
+     * a fixed-size buffer, so that the JSON is never held in memory as a whole. The {@link InputStream InputStream}
+     * will not be closed.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the {@link InputStream InputStream} providing the UTF-8 encoded JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed, anything but whitespaces and comments follow the value or the {@link
+     *         InputStream InputStream} fails
+     */
+    public <T> T read(InputStream source, Function<JsonReader, T> function) {
+
+        return this.read(new JsonReader(this.configure(new Utf8JsonTokener(source))), function);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON value read from the passed {@link ReadableByteChannel ReadableByteChannel} using the
+     * passed function, which is given a {@link JsonReader JsonReader} positioned before the value. The bytes are read
+     * through a fixed-size buffer, so that the JSON is never held in memory as a whole. The {@link ReadableByteChannel
+     * ReadableByteChannel} must be in blocking mode and will not be closed.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the {@link ReadableByteChannel ReadableByteChannel} providing the UTF-8 encoded JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed, anything but whitespaces and comments follow the value or the {@link
+     *         ReadableByteChannel ReadableByteChannel} fails
+     */
+    public <T> T read(ReadableByteChannel source, Function<JsonReader, T> function) {
+
+        return this.read(new JsonReader(this.configure(new Utf8JsonTokener(source))), function);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON value saved in the remaining bytes of the passed {@link ByteBuffer ByteBuffer} using
+     * the passed function, which is given a {@link JsonReader JsonReader} positioned before the value. The position of
+     * the {@link ByteBuffer ByteBuffer} will not be modified.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed or anything but whitespaces and comments follow the value
+     */
+    public <T> T read(ByteBuffer source, Function<JsonReader, T> function) {
+
+        return this.read(new JsonReader(this.configure(new Utf8JsonTokener(source))), function);
+    }
+
+    /**
+     * Reads the UTF-8 encoded JSON value stored in the file at the passed {@link Path Path} using the passed function,
+     * which is given a {@link JsonReader JsonReader} positioned before the value. The file is memory-mapped in segments
+     * and copied through a small buffer, as described in {@link #getFromJson(Path)}.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param source
+     *         the {@link Path Path} of the file containing the UTF-8 encoded JSON value
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     *
+     * @throws JsonParsingException
+     *         if the file cannot be read, the JSON is malformed or anything but whitespaces and comments follow the
+     *         value
+     */
+    public <T> T read(Path source, Function<JsonReader, T> function) {
+
+        try (FileChannel fileChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            return this.read(new JsonReader(this.configure(new Utf8JsonTokener(fileChannel))), function);
+        } catch (IOException e) {
+            throw new JsonParsingException(String.format(UNREADABLE_FILE_ERR_TMPL, source), e);
         }
     }
 
+    /**
+     * Reads the JSON value of the passed {@link JsonReader JsonReader} using the passed function and makes sure, that
+     * nothing but whitespaces and comments follow it.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param function
+     *         the function reading the JSON value
+     *
+     * @return the result of the function
+     */
+    private <T> T read(JsonReader jsonReader, Function<JsonReader, T> function) {
+
+        T result = function.apply(jsonReader);
+
+        jsonReader.nextToken(); // makes sure there is nothing left
+
+        return result;
+    }
 
     /**
-     * Extracts the JSON array beginning at the next char of the passed {@link JsonTokener JsonTokener} and returns its
-     * Java representation.
+     * Applies the configuration of this {@code JsonValueConverter} to the passed {@link JsonTokener JsonTokener}.
      *
      * @param jsonTokener
      *         the {@link JsonTokener JsonTokener}
      *
+     * @return the passed {@link JsonTokener JsonTokener}
+     */
+    private JsonTokener configure(JsonTokener jsonTokener) {
+
+        jsonTokener.setNumberMode(this.numberMode);
+        jsonTokener.setSymbolTable(this.symbolTable);
+
+        return jsonTokener;
+    }
+
+    /**
+     * Extracts the value starting with the passed token of the passed {@link JsonReader JsonReader} and returns it
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     * @param token
+     *         the first token of the value
+     *
+     * @return the {@link JsonValue JsonValue}
+     */
+    private JsonValue extract(JsonReader jsonReader, JsonToken token) {
+
+        switch (token) {
+            case START_OBJECT:
+                return this.getJsonObjectFromJson(jsonReader);
+            case START_ARRAY:
+                return this.getJsonArrayFromJson(jsonReader);
+            case STRING:
+                return new JsonPrimitive(jsonReader.getString());
+            case NUMBER:
+                return new JsonPrimitive(jsonReader.getNumber());
+            case TRUE:
+                return new JsonPrimitive(true);
+            case FALSE:
+                return new JsonPrimitive(false);
+            case NULL:
+                return JsonPrimitive.NULL;
+            default:
+                throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, token,
+                                                             jsonReader.getIndex()));
+        }
+    }
+
+    /**
+     * Extracts the JSON array whose {@link JsonToken#START_ARRAY JsonToken.START_ARRAY} is the current token of the
+     * passed {@link JsonReader JsonReader} and returns its Java representation.
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     *
      * @return the extracted {@link JsonArray JsonArray}
      */
-    private JsonArray getJsonArrayFromJson(JsonTokener jsonTokener) {
+    private JsonArray getJsonArrayFromJson(JsonReader jsonReader) {
 
         JsonArray jsonArray = new JsonArray();
+        JsonToken token;
 
-        char next = jsonTokener.checkAndNext();
-        boolean first = true;
+        while ((token = jsonReader.nextToken()) != JsonToken.END_ARRAY) {
+            jsonArray.add(this.extract(jsonReader, token));
+        }
+
+        return jsonArray;
+    }
+
+    /**
+     * Extracts the JSON object whose {@link JsonToken#START_OBJECT JsonToken.START_OBJECT} is the current token of the
+     * passed {@link JsonReader JsonReader} and returns its Java representation.
+     *
+     * @param jsonReader
+     *         the {@link JsonReader JsonReader}
+     *
+     * @return the extracted {@link JsonObject JsonObject}
+     */
+    private JsonObject getJsonObjectFromJson(JsonReader jsonReader) {
+
+        JsonObject jsonObject = new JsonObject();
+
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) { // the current token is a field name
+            String key = jsonReader.currentName();
 
-        if (next != '[') {
-            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, '[', next, jsonTokener.getIndex()));
+            jsonObject.put(key, this.extract(jsonReader, jsonReader.nextToken()));
         }
 
-        while (jsonTokener.hasNext()) {
-            jsonTokener.skipCommentAndWhitespace();
+        return jsonObject;
+    }
 
-            if (jsonTokener.nextNoIncrement() == ']') {
-                jsonTokener.next();
-                return jsonArray;
+    /**
+     * Walks the JSON value starting at the current character of the passed {@link JsonTokener JsonTokener} and
+     * resolves the passed candidates, whose first {@code depth} reference tokens lead to this value. Once this method
+     * returns, all candidates are resolved.
+     *
+     * @param jsonTokener
+     *         the {@link JsonTokener JsonTokener}
+     * @param extraction
+     *         the {@link PointerExtraction PointerExtraction}
+     * @param candidates
+     *         the indices of the pointers, that lead to this value
+     * @param depth
+     *         the depth of this value
+     */
+    private void extract(JsonTokener jsonTokener, PointerExtraction extraction, int[] candidates, int depth) {
+
+        for (int candidate : candidates) {
+            if (extraction.paths[candidate].length == depth) { // this value is requested itself
+                JsonValue jsonValue = this.getFromJson(new JsonReader(jsonTokener));
+
+                for (int other : candidates) {
+                    extraction.resolve(other, PointerExtraction.resolve(jsonValue, extraction.paths[other], depth));
+                }
+
+                return;
+            }
+        }
+
+        char next = jsonTokener.checkAndNextNoIncrement();
+
+        if (next != '{' && next != '[') { // the pointers lead into a primitive
+            jsonTokener.skipValue();
+
+            for (int candidate : candidates) {
+                extraction.resolve(candidate, null);
             }
 
-            if (!first) {
+            return;
+        }
+
+        boolean object = next == '{';
+        char end = object ? '}' : ']';
+        int pending = candidates.length;
+        int index = 0;
+
+        jsonTokener.next();
+        jsonTokener.skipCommentAndWhitespace();
+
+        if (jsonTokener.checkAndNextNoIncrement() == end) {
+            jsonTokener.next();
+        } else {
+            while (true) {
+                String token = object ? this.nextFieldName(jsonTokener) : Integer.toString(index++);
+                int[] matching = extraction.matching(candidates, depth, token);
+
+                if (matching.length == 0) {
+                    jsonTokener.skipValue();
+                } else {
+                    this.extract(jsonTokener, extraction, matching, depth + 1);
+
+                    if (extraction.unresolved == 0) {
+                        return; // everything has been found, so the rest doesn't need to be read
+                    }
+
+                    pending -= matching.length;
+
+                    if (pending == 0) {
+                        jsonTokener.skipToContainerEnd();
+                        return;
+                    }
+                }
+
+                jsonTokener.skipCommentAndWhitespace();
                 next = jsonTokener.checkAndNext();
 
-                if (next != ',') {
-                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, ',', next,
+                if (next == end) {
+                    break;
+                } else if (next != ',') {
+                    throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next,
                                                                  jsonTokener.getIndex()));
                 }
 
                 jsonTokener.skipCommentAndWhitespace();
             }
-
-            jsonArray.add(this.extract(jsonTokener));
-
-            first = false;
         }
 
-        throw new JsonParsingException("Unexpected end of JSON object");
+        for (int candidate : candidates) { // the remaining pointers refer to missing fields or elements
+            extraction.resolve(candidate, null);
+        }
     }
 
     /**
-     * Extracts the JSON object beginning at the next char of the passed {@link JsonTokener JsonTokener} and returns its
-     * Java representation.
+     * Reads the name of the next field including the following colon.
      *
      * @param jsonTokener
      *         the {@link JsonTokener JsonTokener}
      *
-     * @return the extracted {@link JsonObject JsonObject}
+     * @return the name of the field
      */
-    private JsonObject getJsonObjectFromJson(JsonTokener jsonTokener) {
+    private String nextFieldName(JsonTokener jsonTokener) {
 
-        JsonObject jsonObject = new JsonObject();
+        if (jsonTokener.checkAndNextNoIncrement() != '"') {
+            throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, jsonTokener.nextNoIncrement(),
+                                                         jsonTokener.getIndex() + 1));
+        }
+
+        String name = jsonTokener.nextName();
+
+        jsonTokener.skipCommentAndWhitespace();
 
         char next = jsonTokener.checkAndNext();
-        boolean first = true;
 
-        if (next != '{') {
-            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, '{', next, jsonTokener.getIndex()));
+        if (next != ':') {
+            throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next, jsonTokener.getIndex()));
+        }
+
+        jsonTokener.skipCommentAndWhitespace();
+
+        return name;
+    }
+
+
+    /**
+     * The state of an extraction of JSON pointers.
+     */
+    private static final class PointerExtraction {
+
+
+        /**
+         * The reference tokens of the pointers.
+         */
+        private final String[][] paths;
+        /**
+         * The values the pointers refer to.
+         */
+        private final JsonValue[] results;
+        /**
+         * Whether the pointer at the same index has been resolved.
+         */
+        private final boolean[] resolved;
+        /**
+         * The number of pointers, that have not been resolved yet.
+         */
+        private int unresolved;
+
+
+        private PointerExtraction(String[] pointers) {
+
+            this.paths = new String[pointers.length][];
+            this.results = new JsonValue[pointers.length];
+            this.resolved = new boolean[pointers.length];
+            this.unresolved = pointers.length;
+
+            for (int i = 0; i < pointers.length; i++) {
+                this.paths[i] = parse(pointers[i]);
+            }
         }
 
-        while (jsonTokener.hasNext()) {
-            jsonTokener.skipCommentAndWhitespace();
 
-            if (jsonTokener.nextNoIncrement() == '}') { // check for end of object
-                jsonTokener.next();
-                return jsonObject;
+        /**
+         * Splits the passed JSON pointer into its unescaped reference tokens.
+         *
+         * @param pointer
+         *         the JSON pointer
+         *
+         * @return the reference tokens
+         */
+        private static String[] parse(String pointer) {
+
+            if (pointer.isEmpty()) {
+                return new String[0];
+            } else if (pointer.charAt(0) != '/') {
+                throw new IllegalArgumentException("The JSON pointer '" + pointer + "' does not start with a '/'");
             }
 
-            if (!first) { // if not first element expect a comma
-                next = jsonTokener.checkAndNext();
+            String[] tokens = pointer.substring(1).split("/", -1);
 
-                if (next != ',') {
-                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, ',', next,
-                                                                 jsonTokener.getIndex()));
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+            }
+
+            return tokens;
+        }
+
+        /**
+         * Resolves the rest of the passed path in an already converted {@link JsonValue JsonValue}.
+         *
+         * @param jsonValue
+         *         the {@link JsonValue JsonValue} at the passed depth
+         * @param path
+         *         the reference tokens
+         * @param depth
+         *         the number of reference tokens leading to the {@link JsonValue JsonValue}
+         *
+         * @return the value the path refers to or {@code null} if there is none
+         */
+        private static JsonValue resolve(JsonValue jsonValue, String[] path, int depth) {
+
+            for (int i = depth; i < path.length && jsonValue != null; i++) {
+                if (jsonValue instanceof JsonObject) {
+                    JsonObject jsonObject = (JsonObject) jsonValue;
+
+                    jsonValue = jsonObject.keySet().contains(path[i]) ? jsonObject.getAsJsonValue(path[i]) : null;
+                } else if (jsonValue instanceof JsonArray && isArrayIndex(path[i]) &&
+                           Integer.parseInt(path[i]) < ((JsonArray) jsonValue).size()) {
+                    jsonValue = ((JsonArray) jsonValue).getAsJsonValue(Integer.parseInt(path[i]));
+                } else {
+                    jsonValue = null;
                 }
+            }
 
-                jsonTokener.skipCommentAndWhitespace();
+            return jsonValue;
+        }
+
+        /**
+         * Checks if the passed reference token is a valid array index, i.e. {@code 0} or a number without leading
+         * zeros.
+         *
+         * @param token
+         *         the reference token
+         *
+         * @return {@code true} if the token is a valid array index; {@code false} otherwise
+         */
+        private static boolean isArrayIndex(String token) {
+
+            if (token.isEmpty() || token.length() > 9 || (token.charAt(0) == '0' && token.length() > 1)) {
+                return false;
             }
 
-            String key = jsonTokener.nextString(); // extract the key
+            for (int i = 0; i < token.length(); i++) {
+                if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns the unresolved candidates, whose reference token at the passed depth equals the passed token.
+         *
+         * @param candidates
+         *         the candidates
+         * @param depth
+         *         the depth of the reference token
+         * @param token
+         *         the name of a field or the index of an element
+         *
+         * @return the matching candidates
+         */
+        private int[] matching(int[] candidates, int depth, String token) {
 
-            jsonTokener.skipCommentAndWhitespace();
+            int count = 0;
 
-            next = jsonTokener.checkAndNext();
-            if (next != ':') {
-                throw new JsonParsingException(String.format(UNEXPECTED_TOKEN_ERR_TMPL, next, jsonTokener.getIndex()));
+            for (int candidate : candidates) {
+                if (!this.resolved[candidate] && this.paths[candidate][depth].equals(token)) {
+                    count++;
+                }
             }
 
-            jsonTokener.skipCommentAndWhitespace();
+            int[] matching = new int[count];
+
+            for (int candidate : candidates) {
+                if (!this.resolved[candidate] && this.paths[candidate][depth].equals(token)) {
+                    matching[--count] = candidate;
+                }
+            }
 
-            JsonValue value = this.extract(jsonTokener); // extract the value
+            return matching;
+        }
 
-            jsonObject.put(key, value);
+        /**
+         * Resolves the passed candidate, if it has not been resolved before.
+         *
+         * @param candidate
+         *         the index of the pointer
+         * @param jsonValue
+         *         the value it refers to or {@code null} if there is none
+         */
+        private void resolve(int candidate, JsonValue jsonValue) {
 
-            first = false;
+            if (!this.resolved[candidate]) {
+                this.resolved[candidate] = true;
+                this.results[candidate] = jsonValue;
+                this.unresolved--;
+            }
         }
 
-        throw new JsonParsingException("Unexpected end of JSON object");
+
     }
 
 
@@ -0,0 +1,675 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.NumberMode;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The {@code LazyDocument} is the structural index of a JSON value, that is used by {@link LazyJsonObject
+ * LazyJsonObjects} and {@link LazyJsonArray LazyJsonArrays} to resolve their content on access. The index is built in a
+ * single pass over the source, that validates the structure and literals, but neither decodes strings nor numbers.
+ * <p>
+ * The index is built from the structural positions found by a {@link StructuralIndexer StructuralIndexer}, so that only
+ * the operators and the first characters of values are visited. JSON containing comments is indexed using a {@link
+ * JsonTokener JsonTokener} instead.
+ * </p>
+ * <p>
+ * The index is a flat array of {@code ints}, the tape. A string, number, boolean or {@code null} is stored as the index
+ * of its first character in the source. A JSON object or array is stored as the index of its opening bracket, followed
+ * by the tape position after its last child and its children. Every child of a JSON object is preceded by the index of
+ * the opening quote of its name.
+ * </p>
+ */
+final class LazyDocument {
+
+
+    private static final String UNEXPECTED_CHAR_ERR_TMPL = "Unexpected character '%s' at index %d";
+    private static final String EXPECTED_CHAR_ERR_TMPL = "Expected %s but found '%s' at index %d";
+    private static final String INVALID_NUMBER_ERR_TMPL = "Invalid number at index %d";
+    private static final String UNEXPECTED_CHAR_SET_ERR_TMPL = "Unexpected character set starting at index %d";
+    private static final String UNEXPECTED_END_ERR_MSG = "The JSON ended unexpectedly";
+
+    /**
+     * The characters of the JSON or {@code null}, if the JSON is provided as bytes.
+     */
+    private final char[] chars;
+    /**
+     * The UTF-8 encoded bytes of the JSON or {@code null}, if the JSON is not provided as a byte array.
+     */
+    private final byte[] bytes;
+    /**
+     * The {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded bytes of the JSON or {@code null}, if the JSON is
+     * not provided as a {@link ByteBuffer ByteBuffer}.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The Java representation of numbers with a fraction or an exponent.
+     */
+    private final NumberMode numberMode;
+    /**
+     * The {@link SymbolTable SymbolTable} used to canonicalize names and short values, or {@code null} if none is used.
+     */
+    private final SymbolTable symbolTable;
+    /**
+     * The structural index of the JSON.
+     */
+    private int[] tape = new int[64];
+    /**
+     * The number of valid entries in the {@link #tape}.
+     */
+    private int tapeLength;
+
+
+    private LazyDocument(char[] chars, byte[] bytes, ByteBuffer buffer, NumberMode numberMode,
+                         SymbolTable symbolTable) {
+
+        this.chars = chars;
+        this.bytes = bytes;
+        this.buffer = buffer;
+        this.numberMode = numberMode;
+        this.symbolTable = symbolTable;
+    }
+
+
+    /**
+     * Indexes the JSON value consisting of the passed characters and returns its lazy Java representation.
+     *
+     * @param chars
+     *         the characters of the JSON value, which must not be modified afterwards
+     * @param numberMode
+     *         the Java representation of numbers with a fraction or an exponent
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} or {@code null}
+     *
+     * @return the lazy Java representation of the JSON value
+     */
+    static JsonValue parse(char[] chars, NumberMode numberMode, SymbolTable symbolTable) {
+
+        LazyDocument document = new LazyDocument(chars, null, null, numberMode, symbolTable);
+        StructuralIndexer indexer = StructuralIndexer.index(chars, 0, chars.length);
+
+        if (indexer == null) { // comments are only understood by the tokener
+            return document.parse(new JsonTokener(chars, 0, chars.length));
+        }
+
+        return document.parse(indexer);
+    }
+
+    /**
+     * Indexes the JSON value consisting of the passed UTF-8 encoded bytes and returns its lazy Java representation.
+     *
+     * @param bytes
+     *         the UTF-8 encoded bytes of the JSON value, which must not be modified afterwards
+     * @param numberMode
+     *         the Java representation of numbers with a fraction or an exponent
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} or {@code null}
+     *
+     * @return the lazy Java representation of the JSON value
+     */
+    static JsonValue parse(byte[] bytes, NumberMode numberMode, SymbolTable symbolTable) {
+
+        LazyDocument document = new LazyDocument(null, bytes, null, numberMode, symbolTable);
+        int offset = bytes.length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB &&
+                     bytes[2] == (byte) 0xBF ? 3 : 0; // byte order mark
+        StructuralIndexer indexer = StructuralIndexer.index(bytes, offset, bytes.length - offset);
+
+        if (indexer == null) { // comments are only understood by the tokener
+            return document.parse(new Utf8JsonTokener(bytes));
+        }
+
+        return document.parse(indexer);
+    }
+
+    /**
+     * Indexes the JSON value consisting of the UTF-8 encoded bytes of the passed {@link ByteBuffer ByteBuffer} from
+     * index {@code 0} to its limit and returns its lazy Java representation. Values are copied from the {@link
+     * ByteBuffer ByteBuffer} when they are decoded, so that the bytes of a memory-mapped file stay in the page cache of
+     * the operating system.
+     *
+     * @param buffer
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON value, which must not be modified
+     *         afterwards
+     * @param numberMode
+     *         the Java representation of numbers with a fraction or an exponent
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} or {@code null}
+     *
+     * @return the lazy Java representation of the JSON value
+     */
+    static JsonValue parse(ByteBuffer buffer, NumberMode numberMode, SymbolTable symbolTable) {
+
+        LazyDocument document = new LazyDocument(null, null, buffer, numberMode, symbolTable);
+        int length = buffer.limit();
+        int offset = length >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB &&
+                     buffer.get(2) == (byte) 0xBF ? 3 : 0; // byte order mark
+        StructuralIndexer indexer = StructuralIndexer.index(buffer, offset, length - offset);
+
+        if (indexer == null) { // comments are only understood by the tokener
+            return document.parse(new Utf8JsonTokener(buffer.duplicate().position(0)));
+        }
+
+        return document.parse(indexer);
+    }
+
+    /**
+     * Checks if the value at the passed tape position is a JSON object or array.
+     *
+     * @param position
+     *         the tape position of the value
+     *
+     * @return {@code true} if the value is a JSON object or array; {@code false} otherwise
+     */
+    boolean isContainer(int position) {
+
+        char c = this.charAt(this.tape[position]);
+
+        return c == '{' || c == '[';
+    }
+
+    /**
+     * Returns the tape position after the value at the passed tape position.
+     *
+     * @param position
+     *         the tape position of the value
+     *
+     * @return the tape position after the value
+     */
+    int skip(int position) {
+
+        return this.isContainer(position) ? this.tape[position + 1] : position + 1;
+    }
+
+    /**
+     * Returns the tape position of the first child of the JSON object or array at the passed tape position.
+     *
+     * @param position
+     *         the tape position of the JSON object or array
+     *
+     * @return the tape position of the first child
+     */
+    int firstChild(int position) {
+
+        return position + 2;
+    }
+
+    /**
+     * Decodes the name of a JSON object field, whose tape position is passed.
+     *
+     * @param position
+     *         the tape position of the name
+     *
+     * @return the name
+     */
+    String resolveName(int position) {
+
+        return this.tokenerAt(this.tape[position]).nextName();
+    }
+
+    /**
+     * Returns the Java representation of the value at the passed tape position. JSON objects and arrays are returned
+     * lazily, all other values are decoded.
+     *
+     * @param position
+     *         the tape position of the value
+     *
+     * @return the Java representation of the value
+     */
+    JsonValue resolve(int position) {
+
+        int index = this.tape[position];
+
+        switch (this.charAt(index)) {
+            case '{':
+                return new LazyJsonObject(this, position);
+            case '[':
+                return new LazyJsonArray(this, position);
+            case '"':
+                return new JsonPrimitive(this.tokenerAt(index).nextString());
+            case 't':
+            case 'f':
+                return new JsonPrimitive(this.tokenerAt(index).nextBoolean());
+            case 'n':
+                return JsonPrimitive.NULL;
+            default:
+                JsonTokener jsonTokener = this.tokenerAt(index);
+                Number number = jsonTokener.nextNumber();
+
+                // the index only checked the characters a number may consist of, not their order
+                if (jsonTokener.hasNext() && CharClass.isNumber(jsonTokener.nextNoIncrement())) {
+                    throw new JsonParsingException(String.format(INVALID_NUMBER_ERR_TMPL, index));
+                }
+
+                return new JsonPrimitive(number);
+        }
+    }
+
+    /**
+     * Indexes the JSON value, whose structural positions were found by the passed {@link StructuralIndexer
+     * StructuralIndexer}, and returns its lazy Java representation.
+     *
+     * @param indexer
+     *         the {@link StructuralIndexer StructuralIndexer}
+     *
+     * @return the lazy Java representation
+     */
+    private JsonValue parse(StructuralIndexer indexer) {
+
+        int next = this.index(indexer.positions(), indexer.count(), 0);
+
+        if (next < indexer.count()) {
+            int index = indexer.positions()[next];
+
+            throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, this.charAt(index), index));
+        }
+
+        return this.resolve(0);
+    }
+
+    /**
+     * Appends the value starting at the passed structural position to the {@link #tape}.
+     *
+     * @param positions
+     *         the structural positions
+     * @param count
+     *         the number of structural positions
+     * @param k
+     *         the index of the structural position of the value
+     *
+     * @return the index of the structural position after the value
+     */
+    private int index(int[] positions, int count, int k) {
+
+        int index = this.structuralAt(positions, count, k);
+        char next = this.charAt(index);
+
+        if (next != '{' && next != '[') {
+            this.append(index);
+            this.checkScalar(index);
+
+            return k + 1;
+        }
+
+        int position = this.append(index);
+        this.append(0); // replaced by the position after the last child
+
+        char end = next == '{' ? '}' : ']';
+
+        k++;
+
+        if (this.charAt(this.structuralAt(positions, count, k)) == end) {
+            k++;
+        } else {
+            while (true) {
+                if (next == '{') {
+                    this.append(this.expect(positions, count, k, '"'));
+                    this.expect(positions, count, k + 1, ':');
+                    k += 2;
+                }
+
+                k = this.index(positions, count, k);
+
+                int separator = this.structuralAt(positions, count, k++);
+                char c = this.charAt(separator);
+
+                if (c == end) {
+                    break;
+                } else if (c != ',') {
+                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "',' or '" + end + "'", c,
+                                                                 separator));
+                }
+            }
+        }
+
+        this.tape[position + 1] = this.tapeLength;
+
+        return k;
+    }
+
+    /**
+     * Returns the structural position at the passed index.
+     *
+     * @param positions
+     *         the structural positions
+     * @param count
+     *         the number of structural positions
+     * @param k
+     *         the index
+     *
+     * @return the structural position
+     *
+     * @throws JsonParsingException
+     *         if there are no more structural positions
+     */
+    private int structuralAt(int[] positions, int count, int k) {
+
+        if (k >= count) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        return positions[k];
+    }
+
+    /**
+     * Checks that the character at the passed structural position is the expected one.
+     *
+     * @param positions
+     *         the structural positions
+     * @param count
+     *         the number of structural positions
+     * @param k
+     *         the index of the structural position
+     * @param expected
+     *         the expected character
+     *
+     * @return the structural position
+     */
+    private int expect(int[] positions, int count, int k, char expected) {
+
+        int index = this.structuralAt(positions, count, k);
+        char next = this.charAt(index);
+
+        if (next != expected) {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "'" + expected + "'", next, index));
+        }
+
+        return index;
+    }
+
+    /**
+     * Checks that the string, number, boolean or {@code null} starting at the passed index is followed by a whitespace
+     * or an operator and that booleans and {@code null} are spelled correctly. Strings and numbers are validated when
+     * they are decoded.
+     *
+     * @param index
+     *         the index of the first character of the value
+     */
+    private void checkScalar(int index) {
+
+        int length = this.length();
+        char first = this.charAt(index);
+        int end;
+
+        switch (first) {
+            case '"':
+                return; // the next structural position is after the closing quote
+            case 't':
+                end = this.checkLiteral(index, "true", length);
+                break;
+            case 'f':
+                end = this.checkLiteral(index, "false", length);
+                break;
+            case 'n':
+                end = this.checkLiteral(index, "null", length);
+                break;
+            default:
+                if (first != '-' && (first < '0' || first > '9')) {
+                    throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, first, index));
+                }
+
+                end = index + 1;
+
+                while (end < length && CharClass.isNumber(this.charAt(end))) {
+                    end++;
+                }
+        }
+
+        if (end < length) {
+            char c = this.charAt(end);
+
+            if (!CharClass.isDelimiter(c)) {
+                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, c, end));
+            }
+        }
+    }
+
+    /**
+     * Checks that the passed literal starts at the passed index.
+     *
+     * @param index
+     *         the index
+     * @param literal
+     *         the literal
+     * @param length
+     *         the length of the source
+     *
+     * @return the index after the literal
+     */
+    private int checkLiteral(int index, String literal, int length) {
+
+        for (int i = 0; i < literal.length(); i++) {
+            if (index + i >= length || this.charAt(index + i) != literal.charAt(i)) {
+                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL, index));
+            }
+        }
+
+        return index + literal.length();
+    }
+
+    /**
+     * Indexes the JSON value provided by the passed {@link JsonTokener JsonTokener} and returns its lazy Java
+     * representation.
+     *
+     * @param jsonTokener
+     *         the {@link JsonTokener JsonTokener}
+     *
+     * @return the lazy Java representation
+     */
+    private JsonValue parse(JsonTokener jsonTokener) {
+
+        jsonTokener.skipCommentAndWhitespace();
+        this.index(jsonTokener);
+        jsonTokener.skipCommentAndWhitespace();
+
+        if (jsonTokener.hasNext()) {
+            char next = jsonTokener.next();
+
+            throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, next, jsonTokener.getIndex()));
+        }
+
+        return this.resolve(0);
+    }
+
+    /**
+     * Appends the value starting at the current character of the passed {@link JsonTokener JsonTokener} to the {@link
+     * #tape}.
+     *
+     * @param jsonTokener
+     *         the {@link JsonTokener JsonTokener}
+     */
+    private void index(JsonTokener jsonTokener) {
+
+        char next = jsonTokener.checkAndNextNoIncrement();
+
+        if (next != '{' && next != '[') {
+            this.append(jsonTokener.getIndex() + 1);
+            jsonTokener.skipValue();
+
+            return;
+        }
+
+        int position = this.append(jsonTokener.getIndex() + 1);
+        this.append(0); // replaced by the position after the last child
+
+        char end = next == '{' ? '}' : ']';
+
+        jsonTokener.next();
+        jsonTokener.skipCommentAndWhitespace();
+
+        if (jsonTokener.checkAndNextNoIncrement() == end) {
+            jsonTokener.next();
+        } else {
+            while (true) {
+                if (next == '{') {
+                    this.expect(jsonTokener, '"');
+                    this.append(jsonTokener.getIndex() + 1);
+                    jsonTokener.skipValue();
+                    jsonTokener.skipCommentAndWhitespace();
+                    this.expect(jsonTokener, ':');
+                    jsonTokener.next();
+                    jsonTokener.skipCommentAndWhitespace();
+                }
+
+                this.index(jsonTokener);
+                jsonTokener.skipCommentAndWhitespace();
+
+                char c = jsonTokener.checkAndNext();
+
+                if (c == end) {
+                    break;
+                } else if (c != ',') {
+                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "',' or '" + end + "'", c,
+                                                                 jsonTokener.getIndex()));
+                }
+
+                jsonTokener.skipCommentAndWhitespace();
+            }
+        }
+
+        this.tape[position + 1] = this.tapeLength;
+    }
+
+    /**
+     * Checks that the current character of the passed {@link JsonTokener JsonTokener} is the expected one, without
+     * consuming it.
+     *
+     * @param jsonTokener
+     *         the {@link JsonTokener JsonTokener}
+     * @param expected
+     *         the expected character
+     */
+    private void expect(JsonTokener jsonTokener, char expected) {
+
+        char next = jsonTokener.checkAndNextNoIncrement();
+
+        if (next != expected) {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "'" + expected + "'", next,
+                                                         jsonTokener.getIndex() + 1));
+        }
+    }
+
+    /**
+     * Appends the passed entry to the {@link #tape}.
+     *
+     * @param entry
+     *         the entry
+     *
+     * @return the tape position of the entry
+     */
+    private int append(int entry) {
+
+        if (this.tapeLength == this.tape.length) {
+            this.tape = Arrays.copyOf(this.tape, this.tape.length * 2);
+        }
+
+        this.tape[this.tapeLength] = entry;
+
+        return this.tapeLength++;
+    }
+
+    /**
+     * Returns the character at the passed index of the source. For byte sources only ASCII characters are meaningful,
+     * which suffices to distinguish the types of values.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the character
+     */
+    private char charAt(int index) {
+
+        if (this.chars != null) {
+            return this.chars[index];
+        } else if (this.bytes != null) {
+            return (char) this.bytes[index];
+        }
+
+        return (char) this.buffer.get(index);
+    }
+
+    /**
+     * Returns the number of characters or bytes of the source.
+     *
+     * @return the length of the source
+     */
+    private int length() {
+
+        if (this.chars != null) {
+            return this.chars.length;
+        } else if (this.bytes != null) {
+            return this.bytes.length;
+        }
+
+        return this.buffer.limit();
+    }
+
+    /**
+     * Creates a new {@link JsonTokener JsonTokener} positioned at the passed index of the source. The bytes of a
+     * {@link ByteBuffer ByteBuffer} are copied up to the end of the value, so that only the decoded value is held.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the {@link JsonTokener JsonTokener}
+     */
+    private JsonTokener tokenerAt(int index) {
+
+        JsonTokener jsonTokener;
+
+        if (this.chars != null) {
+            jsonTokener = new JsonTokener(this.chars, index, this.chars.length);
+        } else if (this.bytes != null) {
+            jsonTokener = new Utf8JsonTokener(this.bytes, index, this.bytes.length - index, index);
+        } else {
+            byte[] value = new byte[this.valueEnd(index) - index];
+
+            this.buffer.duplicate().position(index).get(value);
+            jsonTokener = new Utf8JsonTokener(value, 0, value.length, index);
+        }
+
+        jsonTokener.setNumberMode(this.numberMode);
+        jsonTokener.setSymbolTable(this.symbolTable);
+
+        return jsonTokener;
+    }
+
+    /**
+     * Returns the index after the string, number, boolean or {@code null} starting at the passed index.
+     *
+     * @param index
+     *         the index of the first character of the value
+     *
+     * @return the index after the value
+     */
+    private int valueEnd(int index) {
+
+        int length = this.length();
+        int end = index + 1;
+
+        if (this.charAt(index) == '"') {
+            while (end < length) {
+                char c = this.charAt(end++);
+
+                if (c == '\\') {
+                    end++;
+                } else if (c == '"') {
+                    break;
+                }
+            }
+
+            return Math.min(end, length);
+        }
+
+        while (end < length && !CharClass.isDelimiter(this.charAt(end))) {
+            end++;
+        }
+
+        return end;
+    }
+
+
+}
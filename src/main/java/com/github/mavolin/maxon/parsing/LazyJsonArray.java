@@ -0,0 +1,148 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonElement;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@code LazyJsonArray} is a {@link JsonArray JsonArray}, whose fields are resolved from the {@link LazyDocument
+ * LazyDocument} it was parsed from, when they are accessed for the first time. The fields are decoded when they are
+ * requested and cached afterwards.
+ * <p>
+ * A {@code LazyJsonArray} is not thread-safe, not even for concurrent reads.
+ * </p>
+ */
+class LazyJsonArray extends JsonArray {
+
+
+    /**
+     * Instantiates a new {@code LazyJsonArray} for the JSON array at the passed tape position.
+     *
+     * @param document
+     *         the {@link LazyDocument LazyDocument}
+     * @param position
+     *         the tape position of the JSON array
+     */
+    LazyJsonArray(LazyDocument document, int position) {
+
+        super(new LazyFields(document, position));
+    }
+
+
+    /**
+     * The {@link List List} of the fields of a {@code LazyJsonArray}. Fields, that have not been resolved yet, are
+     * stored as their {@link Integer Integer} tape position.
+     */
+    private static final class LazyFields extends AbstractList<JsonElement> implements RandomAccess {
+
+
+        /**
+         * The {@link LazyDocument LazyDocument} the fields are resolved from.
+         */
+        private final LazyDocument document;
+        /**
+         * The tape position of the JSON array.
+         */
+        private final int position;
+        /**
+         * The fields as either their {@link JsonElement JsonElement} or their tape position, or {@code null} if the
+         * array has not been accessed yet.
+         */
+        private List<Object> fields;
+
+
+        private LazyFields(LazyDocument document, int position) {
+
+            this.document = document;
+            this.position = position;
+        }
+
+
+        @Override
+        public JsonElement get(int index) {
+
+            List<Object> fields = this.fields();
+            Object value = fields.get(index);
+
+            if (value instanceof Integer) {
+                JsonElement jsonElement = new JsonElement(this.document.resolve((Integer) value));
+
+                fields.set(index, jsonElement);
+
+                return jsonElement;
+            }
+
+            return (JsonElement) value;
+        }
+
+        @Override
+        public int size() {
+
+            return this.fields().size();
+        }
+
+        @Override
+        public JsonElement set(int index, JsonElement element) {
+
+            JsonElement previous = this.get(index);
+
+            this.fields().set(index, element);
+
+            return previous;
+        }
+
+        @Override
+        public void add(int index, JsonElement element) {
+
+            this.fields().add(index, element);
+            this.modCount++;
+        }
+
+        @Override
+        public JsonElement remove(int index) {
+
+            JsonElement previous = this.get(index);
+
+            this.fields().remove(index);
+            this.modCount++;
+
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+
+            this.fields().clear();
+            this.modCount++;
+        }
+
+        /**
+         * Collects the tape positions of the fields, if that has not been done yet, and returns the fields.
+         *
+         * @return the fields
+         */
+        private List<Object> fields() {
+
+            if (this.fields == null) {
+                List<Object> fields = new ArrayList<>();
+                int end = this.document.skip(this.position);
+
+                for (int i = this.document.firstChild(this.position); i < end; i = this.document.skip(i)) {
+                    fields.add(i);
+                }
+
+                this.fields = fields;
+            }
+
+            return this.fields;
+        }
+
+
+    }
+
+
+}
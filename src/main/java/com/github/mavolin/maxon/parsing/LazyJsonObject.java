@@ -0,0 +1,176 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.jsonvalues.JsonElement;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code LazyJsonObject} is a {@link JsonObject JsonObject}, whose fields are resolved from the {@link LazyDocument
+ * LazyDocument} it was parsed from, when they are accessed for the first time. Only the names of the fields are decoded
+ * on the first access, the values are decoded when they are requested and cached afterwards. Iterating over the fields
+ * or modifying them resolves all values.
+ * <p>
+ * A {@code LazyJsonObject} is not thread-safe, not even for concurrent reads.
+ * </p>
+ */
+class LazyJsonObject extends JsonObject {
+
+
+    /**
+     * Instantiates a new {@code LazyJsonObject} for the JSON object at the passed tape position.
+     *
+     * @param document
+     *         the {@link LazyDocument LazyDocument}
+     * @param position
+     *         the tape position of the JSON object
+     */
+    LazyJsonObject(LazyDocument document, int position) {
+
+        super(new LazyFields(document, position));
+    }
+
+
+    /**
+     * The {@link Map Map} of the fields of a {@code LazyJsonObject}. Values, that have not been resolved yet, are
+     * stored as their {@link Integer Integer} tape position.
+     */
+    private static final class LazyFields extends AbstractMap<String, JsonElement> {
+
+
+        /**
+         * The {@link LazyDocument LazyDocument} the fields are resolved from.
+         */
+        private final LazyDocument document;
+        /**
+         * The tape position of the JSON object.
+         */
+        private final int position;
+        /**
+         * The fields mapped to either their {@link JsonElement JsonElement} or their tape position, or {@code null} if
+         * the names have not been decoded yet.
+         */
+        private Map<String, Object> fields;
+        /**
+         * Whether all values have been resolved.
+         */
+        private boolean resolved;
+
+
+        private LazyFields(LazyDocument document, int position) {
+
+            this.document = document;
+            this.position = position;
+        }
+
+
+        @Override
+        public JsonElement get(Object key) {
+
+            Map<String, Object> fields = this.fields();
+            Object value = fields.get(key);
+
+            if (value instanceof Integer) {
+                JsonElement jsonElement = new JsonElement(this.document.resolve((Integer) value));
+
+                fields.put((String) key, jsonElement);
+
+                return jsonElement;
+            }
+
+            return (JsonElement) value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+
+            return this.fields().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+
+            return this.fields().size();
+        }
+
+        @Override
+        public JsonElement put(String key, JsonElement value) {
+
+            JsonElement previous = this.get(key);
+
+            this.fields().put(key, value);
+
+            return previous;
+        }
+
+        @Override
+        public JsonElement remove(Object key) {
+
+            JsonElement previous = this.get(key);
+
+            this.fields().remove(key);
+
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+
+            this.fields().clear();
+        }
+
+        @Override
+        public Set<String> keySet() {
+
+            return this.fields().keySet();
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Set<Entry<String, JsonElement>> entrySet() {
+
+            Map<String, Object> fields = this.fields();
+
+            if (!this.resolved) {
+                for (Entry<String, Object> entry : fields.entrySet()) {
+                    if (entry.getValue() instanceof Integer) {
+                        entry.setValue(new JsonElement(this.document.resolve((Integer) entry.getValue())));
+                    }
+                }
+
+                this.resolved = true;
+            }
+
+            // all values are JsonElements from now on, as only those can be put
+            return (Set) fields.entrySet();
+        }
+
+        /**
+         * Decodes the names of the fields, if that has not been done yet, and returns the fields.
+         *
+         * @return the fields
+         */
+        private Map<String, Object> fields() {
+
+            if (this.fields == null) {
+                Map<String, Object> fields = new LinkedHashMap<>();
+                int end = this.document.skip(this.position);
+
+                for (int i = this.document.firstChild(this.position); i < end; i = this.document.skip(i + 1)) {
+                    fields.put(this.document.resolveName(i), i + 1);
+                }
+
+                this.fields = fields;
+            }
+
+            return this.fields;
+        }
+
+
+    }
+
+
+}
@@ -0,0 +1,787 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.NumberMode;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The {@code NonBlockingJsonParser} parses UTF-8 encoded JSON that arrives in arbitrary chunks, e.g. from a
+ * non-blocking {@link java.nio.channels.ReadableByteChannel ReadableByteChannel}. The chunks are handed to the parser
+ * using {@link #feed(ByteBuffer)} and may end at any byte, even in the middle of a string, a number or an escape
+ * sequence. If the bytes fed so far do not contain another complete token, {@link #nextToken()} returns {@link
+ * JsonToken#NEED_MORE_INPUT JsonToken.NEED_MORE_INPUT} and the parser keeps its state until more bytes are fed.
+ * <p>
+ * Tokens are accessed in the same way as with a {@link JsonReader JsonReader}. Alternatively, {@link #nextValue()}
+ * returns each top-level value as a {@link JsonValue JsonValue} as soon as it is complete. The parser accepts any
+ * number of top-level values, that are separated by whitespace, so that a single parser can be used for all messages
+ * received over a connection. Once the last chunk was fed, {@link #endOfInput()} must be called.
+ * </p>
+ * <p>
+ * Example:<br>
+ * <code>
+ *     buffer.clear();<br>
+ *     channel.read(buffer);<br>
+ *     parser.feed(buffer.flip());<br>
+ *     <br>
+ *     JsonValue jsonValue;<br>
+ *     while ((jsonValue = parser.nextValue()) != null) {<br>
+ *         &nbsp;&nbsp;&nbsp;&nbsp;handle(jsonValue);<br>
+ *     }
+ * </code>
+ * </p>
+ */
+public class NonBlockingJsonParser extends AbstractJsonReader {
+
+
+    private static final String UNEXPECTED_END_ERR_MSG = "The JSON ended unexpectedly";
+    private static final String UNEXPECTED_CHAR_ERR_TMPL = "Unexpected character '%s' at index %d";
+    private static final String EXPECTED_CHAR_ERR_TMPL = "Expected '%s' but found '%s' at index %d";
+    private static final String UNEXPECTED_CHAR_SET_ERR_TMPL = "Unexpected character set starting at index %d";
+    private static final String ENDED_ERR_MSG = "The end of the input has already been signaled";
+
+    /**
+     * The initial size of the buffer holding the bytes fed to the parser.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Returned by the scanning methods, if the token is not yet complete.
+     */
+    private static final int INCOMPLETE = -1;
+
+    /**
+     * The bytes fed to the parser, that have not been consumed yet.
+     */
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    /**
+     * The index of the next unconsumed byte in {@link #buffer}.
+     */
+    private int position;
+    /**
+     * The index after the last valid byte in {@link #buffer}.
+     */
+    private int limit;
+    /**
+     * The JSON index of the first byte in {@link #buffer}.
+     */
+    private int base;
+    /**
+     * The {@link Utf8JsonTokener Utf8JsonTokener} decoding the completely scanned strings and numbers, which is reset
+     * to every token, instead of instantiating a new one each time.
+     */
+    private final Utf8JsonTokener jsonTokener = new Utf8JsonTokener(new byte[0]);
+    /**
+     * Whether {@link #endOfInput()} has been called.
+     */
+    private boolean ended;
+    /**
+     * Whether the check for a byte order mark has been performed.
+     */
+    private boolean started;
+
+    /**
+     * The JSON index of the first byte of the string or number, that has been scanned partially, or {@code -1} if
+     * there is none.
+     */
+    private int partialStart = -1;
+    /**
+     * The JSON index of the byte the scanning of the partial token is resumed at.
+     */
+    private int partialScan;
+
+    /**
+     * The JSON objects and arrays {@link #nextValue()} is currently building, the innermost being the first.
+     */
+    private final Deque<JsonValue> openValues = new ArrayDeque<>();
+
+
+    /**
+     * Instantiates a new {@code NonBlockingJsonParser} without any input.
+     */
+    public NonBlockingJsonParser() {
+
+    }
+
+
+    /**
+     * Feeds the remaining bytes of the passed {@link ByteBuffer ByteBuffer} to the parser. The bytes are copied, so
+     * that the {@link ByteBuffer ByteBuffer} can be reused immediately. Afterwards, its position will equal its limit.
+     *
+     * @param bytes
+     *         the {@link ByteBuffer ByteBuffer} containing the next UTF-8 encoded chunk of the JSON
+     *
+     * @throws IllegalStateException
+     *         if {@link #endOfInput()} has already been called
+     */
+    public void feed(ByteBuffer bytes) {
+
+        if (this.ended) {
+            throw new IllegalStateException(ENDED_ERR_MSG);
+        }
+
+        int length = bytes.remaining();
+        int unconsumed = this.limit - this.position;
+
+        if (unconsumed + length > this.buffer.length) {
+            byte[] grown = new byte[Math.max(this.buffer.length * 2, unconsumed + length)];
+
+            System.arraycopy(this.buffer, this.position, grown, 0, unconsumed);
+            this.buffer = grown;
+        } else if (this.limit + length > this.buffer.length) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, unconsumed);
+        } else {
+            bytes.get(this.buffer, this.limit, length);
+            this.limit += length;
+
+            return;
+        }
+
+        this.base += this.position;
+        this.position = 0;
+        this.limit = unconsumed;
+
+        bytes.get(this.buffer, this.limit, length);
+        this.limit += length;
+    }
+
+    /**
+     * Signals that no more bytes will be fed to the parser. Afterwards, {@link #nextToken()} returns {@code null}
+     * instead of {@link JsonToken#NEED_MORE_INPUT JsonToken.NEED_MORE_INPUT} once all tokens have been read.
+     */
+    public void endOfInput() {
+
+        this.ended = true;
+    }
+
+    /**
+     * Sets the {@link NumberMode NumberMode} defining the Java representation of numbers with a fraction or an
+     * exponent. The default is {@link NumberMode#BIG_DECIMAL NumberMode.BIG_DECIMAL}.
+     *
+     * @param numberMode
+     *         the {@link NumberMode NumberMode}
+     */
+    public void setNumberMode(NumberMode numberMode) {
+
+        this.jsonTokener.setNumberMode(numberMode);
+    }
+
+    /**
+     * Reads the next token. If the bytes fed so far do not contain another complete token, {@link
+     * JsonToken#NEED_MORE_INPUT JsonToken.NEED_MORE_INPUT} is returned. If the end of the input has been signaled and
+     * all tokens have been read, {@code null} is returned.
+     *
+     * @return the next {@link JsonToken JsonToken}, {@link JsonToken#NEED_MORE_INPUT JsonToken.NEED_MORE_INPUT} or
+     *         {@code null} if the end of the JSON is reached
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed
+     */
+    public JsonToken nextToken() {
+
+        this.stringValue = null;
+        this.numberValue = null;
+
+        if (!this.started && !this.skipByteOrderMark()) {
+            return this.currentToken = JsonToken.NEED_MORE_INPUT;
+        }
+
+        int scope = this.scopes[this.depth - 1];
+        int p = this.skipWhitespace(this.position);
+
+        if (p == INCOMPLETE) {
+            return this.currentToken = JsonToken.NEED_MORE_INPUT;
+        }
+
+        this.position = p; // whitespace never has to be read again
+
+        if (p == this.limit) {
+            if (!this.ended) {
+                return this.currentToken = JsonToken.NEED_MORE_INPUT;
+            } else if (scope == NONEMPTY_DOCUMENT) {
+                return this.currentToken = null;
+            }
+
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        byte next = this.buffer[p];
+
+        switch (scope) {
+            case EMPTY_DOCUMENT:
+            case NONEMPTY_DOCUMENT:
+                return this.readValue(p, NONEMPTY_DOCUMENT);
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY:
+                if (next == ']') {
+                    this.position = p + 1;
+                    this.depth--;
+
+                    return this.currentToken = JsonToken.END_ARRAY;
+                }
+
+                if (scope == NONEMPTY_ARRAY) {
+                    p = this.skipSeparator(p, ',');
+
+                    if (p == INCOMPLETE) {
+                        return this.currentToken = JsonToken.NEED_MORE_INPUT;
+                    }
+                }
+
+                return this.readValue(p, NONEMPTY_ARRAY);
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                if (next == '}') {
+                    this.position = p + 1;
+                    this.depth--;
+
+                    return this.currentToken = JsonToken.END_OBJECT;
+                }
+
+                if (scope == NONEMPTY_OBJECT) {
+                    p = this.skipSeparator(p, ',');
+
+                    if (p == INCOMPLETE) {
+                        return this.currentToken = JsonToken.NEED_MORE_INPUT;
+                    }
+                }
+
+                if (this.buffer[p] != '"') {
+                    throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, '"', (char) this.buffer[p],
+                                                                 this.base + p));
+                }
+
+                int end = this.scanString(p);
+
+                if (end == INCOMPLETE) {
+                    return this.currentToken = JsonToken.NEED_MORE_INPUT;
+                }
+
+                p = this.skipSeparator(end + 1, ':');
+
+                if (p == INCOMPLETE) {
+                    return this.currentToken = JsonToken.NEED_MORE_INPUT;
+                }
+
+                this.names[this.depth - 1] = this.decodeString(this.partialStart, end);
+                this.scopes[this.depth - 1] = DANGLING_NAME;
+                this.partialStart = -1;
+                this.position = p;
+
+                return this.currentToken = JsonToken.FIELD_NAME;
+            case DANGLING_NAME:
+                return this.readValue(p, NONEMPTY_OBJECT);
+            default:
+                throw new IllegalStateException("Unknown scope " + scope); // unreachable
+        }
+    }
+
+    /**
+     * Reads the next top-level JSON value, if it has been fed completely. The value is built from the tokens read by
+     * this method, so that only the tokens following the last value have to be kept until the value is complete. This
+     * method must not be called while a value is read with {@link #nextToken()}.
+     *
+     * @return the next {@link JsonValue JsonValue} or {@code null} if more bytes are needed or the end of the JSON is
+     *         reached, which can be distinguished using {@link #currentToken()}
+     *
+     * @throws JsonParsingException
+     *         if the JSON is malformed
+     */
+    public JsonValue nextValue() {
+
+        JsonToken token;
+
+        while ((token = this.nextToken()) != JsonToken.NEED_MORE_INPUT && token != null) {
+            JsonValue value;
+
+            switch (token) {
+                case FIELD_NAME:
+                    continue;
+                case START_OBJECT:
+                    this.attach(value = new JsonObject());
+                    this.openValues.push(value);
+                    continue;
+                case START_ARRAY:
+                    this.attach(value = new JsonArray());
+                    this.openValues.push(value);
+                    continue;
+                case END_OBJECT:
+                case END_ARRAY:
+                    value = this.openValues.pop();
+
+                    if (this.openValues.isEmpty()) {
+                        return value;
+                    }
+
+                    continue;
+                case STRING:
+                    value = new JsonPrimitive(this.stringValue);
+                    break;
+                case NUMBER:
+                    value = new JsonPrimitive(this.numberValue);
+                    break;
+                case TRUE:
+                    value = new JsonPrimitive(true);
+                    break;
+                case FALSE:
+                    value = new JsonPrimitive(false);
+                    break;
+                default:
+                    value = JsonPrimitive.NULL;
+            }
+
+            if (this.openValues.isEmpty()) {
+                return value;
+            }
+
+            this.attach(value);
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the index of the next byte, that has not been consumed yet.
+     *
+     * @return the current index
+     */
+    @Override
+    public int getIndex() {
+
+        return this.base + this.position;
+    }
+
+    @Override
+    Number decodeScannedNumber() {
+
+        return this.numberValue; // numbers are decoded as soon as they have been scanned completely
+    }
+
+
+    /**
+     * Reads the value starting at the passed index. Only if the value is complete, the parser's state is updated.
+     *
+     * @param p
+     *         the index of the first byte of the value in {@link #buffer}
+     * @param scope
+     *         the scope of the enclosing value after this value has been read
+     *
+     * @return the {@link JsonToken JsonToken} of the value or {@link JsonToken#NEED_MORE_INPUT
+     *         JsonToken.NEED_MORE_INPUT}
+     */
+    private JsonToken readValue(int p, int scope) {
+
+        byte next = this.buffer[p];
+        JsonToken token;
+        int end;
+
+        switch (next) {
+            case '{':
+                this.scopes[this.depth - 1] = scope;
+                this.position = p + 1;
+                this.push(EMPTY_OBJECT);
+
+                return this.currentToken = JsonToken.START_OBJECT;
+            case '[':
+                this.scopes[this.depth - 1] = scope;
+                this.position = p + 1;
+                this.push(EMPTY_ARRAY);
+
+                return this.currentToken = JsonToken.START_ARRAY;
+            case '"':
+                end = this.scanString(p);
+                token = JsonToken.STRING;
+
+                if (end != INCOMPLETE) {
+                    end++; // the closing quote belongs to the string
+                }
+
+                break;
+            case 't':
+                end = this.matchLiteral(p, "true");
+                token = JsonToken.TRUE;
+                break;
+            case 'f':
+                end = this.matchLiteral(p, "false");
+                token = JsonToken.FALSE;
+                break;
+            case 'n':
+                end = this.matchLiteral(p, "null");
+                token = JsonToken.NULL;
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                end = this.scanNumber(p);
+                token = JsonToken.NUMBER;
+                break;
+            default:
+                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, (char) next, this.base + p));
+        }
+
+        if (end != INCOMPLETE && scope == NONEMPTY_DOCUMENT) {
+            end = this.checkTopLevelEnd(end);
+        }
+
+        if (end == INCOMPLETE) {
+            return this.currentToken = JsonToken.NEED_MORE_INPUT;
+        }
+
+        if (token == JsonToken.STRING) {
+            this.stringValue = this.decodeString(this.partialStart, end - 1);
+        } else if (token == JsonToken.NUMBER) {
+            this.numberValue = this.decodeNumber(this.partialStart, end);
+        }
+
+        this.scopes[this.depth - 1] = scope;
+        this.partialStart = -1;
+        this.position = end;
+
+        return this.currentToken = token;
+    }
+
+    /**
+     * Checks that the top-level string, number or literal ending at the passed index is followed by a whitespace, a
+     * comment or the end of the input, since, unlike JSON objects and arrays, it would otherwise run into the next
+     * top-level value.
+     *
+     * @param end
+     *         the index after the last byte of the value in {@link #buffer}
+     *
+     * @return the passed index or {@link #INCOMPLETE} if the byte following the value has not been fed yet
+     *
+     * @throws JsonParsingException
+     *         if the value is followed by anything else
+     */
+    private int checkTopLevelEnd(int end) {
+
+        if (end == this.limit) {
+            return this.ended ? end : INCOMPLETE;
+        }
+
+        byte next = this.buffer[end];
+
+        if (next != ' ' && next != '\t' && next != '\n' && next != '\r' && next != '/') {
+            throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, (char) next, this.base + end));
+        }
+
+        return end;
+    }
+
+    /**
+     * Scans the string starting at the passed index for its closing quote. If the string has been scanned partially
+     * before, scanning is resumed where it stopped.
+     *
+     * @param start
+     *         the index of the opening quote in {@link #buffer}
+     *
+     * @return the index of the closing quote in {@link #buffer} or {@link #INCOMPLETE}
+     */
+    private int scanString(int start) {
+
+        byte[] buffer = this.buffer;
+        int limit = this.limit;
+        int i = this.resumeAt(start) - this.base;
+
+        while (i < limit) {
+            byte b = buffer[i];
+
+            if (b == '"') {
+                return i;
+            } else if (b == '\\') {
+                if (i + 1 == limit) {
+                    break; // the escaped character is checked once it has been fed
+                }
+
+                i++;
+            }
+
+            i++;
+        }
+
+        if (this.ended) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        this.partialScan = this.base + i;
+
+        return INCOMPLETE;
+    }
+
+    /**
+     * Scans the number starting at the passed index for its end. If the number has been scanned partially before,
+     * scanning is resumed where it stopped.
+     *
+     * @param start
+     *         the index of the first byte of the number in {@link #buffer}
+     *
+     * @return the index after the last byte of the number in {@link #buffer} or {@link #INCOMPLETE}
+     */
+    private int scanNumber(int start) {
+
+        byte[] buffer = this.buffer;
+        int limit = this.limit;
+        int i = this.resumeAt(start) - this.base;
+
+        while (i < limit) {
+            byte b = buffer[i];
+
+            if ((b < '0' || b > '9') && b != '-' && b != '+' && b != '.' && b != 'e' && b != 'E') {
+                return i;
+            }
+
+            i++;
+        }
+
+        if (this.ended) {
+            return i; // the number is terminated by the end of the input
+        }
+
+        this.partialScan = this.base + i;
+
+        return INCOMPLETE;
+    }
+
+    /**
+     * Returns the JSON index to resume scanning the token starting at the passed index at.
+     *
+     * @param start
+     *         the index of the first byte of the token in {@link #buffer}
+     *
+     * @return the JSON index to resume at
+     */
+    private int resumeAt(int start) {
+
+        if (this.partialStart != this.base + start) {
+            this.partialStart = this.base + start;
+            this.partialScan = this.partialStart + 1;
+        }
+
+        return this.partialScan;
+    }
+
+    /**
+     * Checks whether the bytes starting at the passed index form the passed literal.
+     *
+     * @param start
+     *         the index of the first byte of the literal in {@link #buffer}
+     * @param literal
+     *         the expected literal
+     *
+     * @return the index after the literal in {@link #buffer} or {@link #INCOMPLETE}
+     */
+    private int matchLiteral(int start, String literal) {
+
+        int length = literal.length();
+
+        for (int i = 0; i < length; i++) {
+            if (start + i == this.limit) {
+                if (this.ended) {
+                    throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+                }
+
+                return INCOMPLETE;
+            } else if (this.buffer[start + i] != literal.charAt(i)) {
+                throw new JsonParsingException(String.format(UNEXPECTED_CHAR_SET_ERR_TMPL, this.base + start));
+            }
+        }
+
+        return start + length;
+    }
+
+    /**
+     * Decodes the completely scanned string.
+     *
+     * @param start
+     *         the JSON index of the opening quote
+     * @param end
+     *         the index of the closing quote in {@link #buffer}
+     *
+     * @return the decoded {@link String String}
+     */
+    private String decodeString(int start, int end) {
+
+        int offset = start - this.base;
+
+        this.jsonTokener.reset(this.buffer, offset, end + 1 - offset, start);
+
+        return this.jsonTokener.nextString();
+    }
+
+    /**
+     * Decodes the completely scanned number.
+     *
+     * @param start
+     *         the JSON index of the first byte of the number
+     * @param end
+     *         the index after the last byte of the number in {@link #buffer}
+     *
+     * @return the decoded {@link Number Number}
+     */
+    private Number decodeNumber(int start, int end) {
+
+        int offset = start - this.base;
+
+        this.jsonTokener.reset(this.buffer, offset, end - offset, start);
+
+        Number number = this.jsonTokener.nextNumber();
+
+        if (this.jsonTokener.hasNext()) {
+            throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, this.jsonTokener.next(),
+                                                         this.jsonTokener.getIndex()));
+        }
+
+        return number;
+    }
+
+    /**
+     * Skips all whitespaces and comments starting at the passed index.
+     *
+     * @param p
+     *         the index in {@link #buffer}
+     *
+     * @return the index of the first byte in {@link #buffer}, that is neither a whitespace nor part of a comment, or
+     *         {@link #INCOMPLETE} if a comment has not been fed completely
+     */
+    private int skipWhitespace(int p) {
+
+        byte[] buffer = this.buffer;
+        int limit = this.limit;
+
+        while (p < limit) {
+            byte b = buffer[p];
+
+            if (b == '/') {
+                if (p + 1 == limit) {
+                    return this.ended ? p : INCOMPLETE;
+                } else if (buffer[p + 1] != '/') {
+                    return p;
+                }
+
+                int i = p + 2;
+
+                while (i < limit && buffer[i] != '\n') {
+                    i++;
+                }
+
+                if (i == limit) {
+                    return this.ended ? limit : INCOMPLETE;
+                }
+
+                p = i + 1;
+            } else if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                p++;
+            } else {
+                return p;
+            }
+        }
+
+        return p;
+    }
+
+    /**
+     * Consumes the passed separator and the whitespaces following it.
+     *
+     * @param p
+     *         the index of the separator in {@link #buffer}
+     * @param separator
+     *         the expected separator
+     *
+     * @return the index of the first byte after the separator, that is not a whitespace, or {@link #INCOMPLETE} if no
+     *         such byte has been fed yet
+     */
+    private int skipSeparator(int p, char separator) {
+
+        p = this.skipWhitespace(p);
+
+        if (p == INCOMPLETE) {
+            return INCOMPLETE;
+        } else if (p == this.limit) {
+            if (this.ended) {
+                throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+            }
+
+            return INCOMPLETE;
+        } else if (this.buffer[p] != separator) {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, separator, (char) this.buffer[p],
+                                                         this.base + p));
+        }
+
+        p = this.skipWhitespace(p + 1);
+
+        if (p == INCOMPLETE || p == this.limit) {
+            if (p == this.limit && this.ended) {
+                throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+            }
+
+            return INCOMPLETE;
+        }
+
+        return p;
+    }
+
+    /**
+     * Skips the UTF-8 byte order mark, if the JSON starts with one.
+     *
+     * @return {@code true} if the check has been performed; {@code false} if more bytes are needed
+     */
+    private boolean skipByteOrderMark() {
+
+        int available = this.limit - this.position;
+        byte[] byteOrderMark = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+        for (int i = 0; i < byteOrderMark.length; i++) {
+            if (i == available) {
+                if (!this.ended) {
+                    return false;
+                }
+
+                break;
+            } else if (this.buffer[this.position + i] != byteOrderMark[i]) {
+                this.started = true;
+                return true;
+            }
+        }
+
+        if (available >= byteOrderMark.length) {
+            this.position += byteOrderMark.length;
+        }
+
+        this.started = true;
+
+        return true;
+    }
+
+    /**
+     * Adds the passed value to the innermost JSON object or array built by {@link #nextValue()}.
+     *
+     * @param value
+     *         the {@link JsonValue JsonValue}
+     */
+    private void attach(JsonValue value) {
+
+        JsonValue parent = this.openValues.peek();
+
+        if (parent instanceof JsonObject) {
+            ((JsonObject) parent).put(this.currentName(), value);
+        } else if (parent != null) {
+            ((JsonArray) parent).add(value);
+        }
+    }
+
+
+}
@@ -0,0 +1,220 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code ParallelArrayParser} converts a JSON array at the top level of a JSON value by parsing its elements
+ * concurrently. The boundaries of the elements are found by walking the structural positions of a {@link
+ * StructuralIndexer StructuralIndexer}, which tracks strings and escape sequences, so that brackets and commas inside
+ * of strings are ignored. The elements are then parsed in the {@link java.util.concurrent.ForkJoinPool ForkJoinPool}
+ * and the {@link JsonArray JsonArray} is assembled in the original order.
+ */
+final class ParallelArrayParser {
+
+
+    /**
+     * The {@link JsonValueConverter JsonValueConverter} used to convert the elements.
+     */
+    private final JsonValueConverter jsonValueConverter;
+    /**
+     * The characters of the JSON or {@code null}, if the JSON is provided as bytes.
+     */
+    private final char[] chars;
+    /**
+     * The UTF-8 encoded bytes of the JSON or {@code null}, if the JSON is provided as characters.
+     */
+    private final byte[] bytes;
+    /**
+     * The index of the first character of every element, followed by the index after its last character.
+     */
+    private int[] bounds = new int[64];
+    /**
+     * The number of valid entries in {@link #bounds}.
+     */
+    private int boundsLength;
+
+
+    private ParallelArrayParser(JsonValueConverter jsonValueConverter, char[] chars, byte[] bytes) {
+
+        this.jsonValueConverter = jsonValueConverter;
+        this.chars = chars;
+        this.bytes = bytes;
+    }
+
+
+    /**
+     * Converts the JSON array consisting of the passed characters by parsing its elements concurrently.
+     *
+     * @param jsonValueConverter
+     *         the {@link JsonValueConverter JsonValueConverter} used to convert the elements
+     * @param chars
+     *         the characters of the JSON value
+     *
+     * @return the {@link JsonArray JsonArray} or {@code null}, if the JSON value is no JSON array or cannot be split
+     *         into elements, e.g. because it contains comments or is malformed
+     */
+    static JsonArray parse(JsonValueConverter jsonValueConverter, char[] chars) {
+
+        ParallelArrayParser parser = new ParallelArrayParser(jsonValueConverter, chars, null);
+
+        return parser.parse(StructuralIndexer.index(chars, 0, chars.length));
+    }
+
+    /**
+     * Converts the JSON array consisting of the passed UTF-8 encoded bytes by parsing its elements concurrently.
+     *
+     * @param jsonValueConverter
+     *         the {@link JsonValueConverter JsonValueConverter} used to convert the elements
+     * @param bytes
+     *         the UTF-8 encoded bytes of the JSON value
+     *
+     * @return the {@link JsonArray JsonArray} or {@code null}, if the JSON value is no JSON array or cannot be split
+     *         into elements, e.g. because it contains comments or is malformed
+     */
+    static JsonArray parse(JsonValueConverter jsonValueConverter, byte[] bytes) {
+
+        ParallelArrayParser parser = new ParallelArrayParser(jsonValueConverter, null, bytes);
+        int offset = bytes.length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB &&
+                     bytes[2] == (byte) 0xBF ? 3 : 0; // byte order mark
+
+        return parser.parse(StructuralIndexer.index(bytes, offset, bytes.length - offset));
+    }
+
+    /**
+     * Finds the elements of the top-level JSON array and converts them concurrently.
+     *
+     * @param indexer
+     *         the {@link StructuralIndexer StructuralIndexer} or {@code null}, if the JSON contains comments
+     *
+     * @return the {@link JsonArray JsonArray} or {@code null}, if the elements cannot be found
+     */
+    private JsonArray parse(StructuralIndexer indexer) {
+
+        if (indexer == null || !this.findElements(indexer.positions(), indexer.count())) {
+            return null;
+        }
+
+        JsonValue[] elements = new JsonValue[this.boundsLength / 2];
+
+        IntStream.range(0, elements.length)
+                .parallel()
+                .forEach(i -> elements[i] = this.convert(this.bounds[2 * i], this.bounds[2 * i + 1]));
+
+        JsonArray jsonArray = new JsonArray(elements.length);
+
+        for (JsonValue element : elements) {
+            jsonArray.add(element);
+        }
+
+        return jsonArray;
+    }
+
+    /**
+     * Finds the bounds of the elements of the top-level JSON array by walking the passed structural positions.
+     *
+     * @param positions
+     *         the structural positions
+     * @param count
+     *         the number of structural positions
+     *
+     * @return {@code true} if the JSON value is a JSON array and all elements were found; {@code false} otherwise
+     */
+    private boolean findElements(int[] positions, int count) {
+
+        if (count < 2 || this.charAt(positions[0]) != '[' || this.charAt(positions[count - 1]) != ']') {
+            return false;
+        }
+
+        int depth = 1;
+        boolean expectElement = true;
+
+        for (int k = 1; k < count - 1; k++) {
+            int index = positions[k];
+            char c = this.charAt(index);
+
+            if (expectElement) {
+                if (c == ',' || c == ']' || c == '}' || c == ':') {
+                    return false;
+                }
+
+                this.addBound(index);
+                expectElement = false;
+            }
+
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth < 1) {
+                    return false;
+                }
+            } else if (c == ',' && depth == 1) {
+                this.addBound(index);
+                expectElement = true;
+            }
+        }
+
+        if (depth != 1 || expectElement && this.boundsLength > 0) {
+            return false;
+        }
+
+        if (this.boundsLength % 2 == 1) {
+            this.addBound(positions[count - 1]);
+        }
+
+        return true;
+    }
+
+    /**
+     * Converts the element in the passed range.
+     *
+     * @param from
+     *         the index of the first character of the element
+     * @param to
+     *         the index after the last character of the element
+     *
+     * @return the Java representation of the element
+     */
+    private JsonValue convert(int from, int to) {
+
+        if (this.chars != null) {
+            return this.jsonValueConverter.getFromJson(this.chars, from, to);
+        }
+
+        return this.jsonValueConverter.getFromJson(this.bytes, from, to - from, from);
+    }
+
+    /**
+     * Appends the passed index to the {@link #bounds}.
+     *
+     * @param index
+     *         the index
+     */
+    private void addBound(int index) {
+
+        if (this.boundsLength == this.bounds.length) {
+            this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+        }
+
+        this.bounds[this.boundsLength++] = index;
+    }
+
+    /**
+     * Returns the character at the passed index of the source. For byte sources only ASCII characters are meaningful,
+     * which suffices to find the structure.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the character
+     */
+    private char charAt(int index) {
+
+        return this.chars != null ? this.chars[index] : (char) this.bytes[index];
+    }
+
+
+}
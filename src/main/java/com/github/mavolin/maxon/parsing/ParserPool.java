@@ -0,0 +1,261 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.NumberMode;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The {@code ParserPool} keeps {@link Parser Parsers} for reuse, so that parsing many small JSON values does not
+ * allocate a new {@link JsonTokener JsonTokener} and {@link JsonReader JsonReader} with their scratch buffers for every
+ * value. The pool is a small, fixed number of slots, that are claimed and filled using atomic operations only. It
+ * neither blocks nor uses {@link ThreadLocal ThreadLocals}, so that it is safe to be used by any number of platform
+ * and virtual threads: if all probed slots are empty, a new {@link Parser Parser} is created, and if all probed slots
+ * are occupied, a returned {@link Parser Parser} is dropped.
+ */
+final class ParserPool {
+
+
+    /**
+     * The number of slots probed when acquiring or releasing a {@link Parser Parser}.
+     */
+    private static final int PROBES = 4;
+
+    /**
+     * The Java representation of numbers with a fraction or an exponent.
+     */
+    private final NumberMode numberMode;
+    /**
+     * The {@link SymbolTable SymbolTable} used by all {@link Parser Parsers} or {@code null} if none is used.
+     */
+    private final SymbolTable symbolTable;
+    /**
+     * The slots of the pool, each holding an idle {@link Parser Parser} or {@code null}.
+     */
+    private final AtomicReferenceArray<Parser> parsers;
+    /**
+     * The mask mapping a probe to a slot index.
+     */
+    private final int mask;
+
+
+    /**
+     * Instantiates a new {@code ParserPool} with twice as many slots as processors are available, rounded up to a power
+     * of two.
+     *
+     * @param numberMode
+     *         the {@link NumberMode NumberMode} of the {@link Parser Parsers}
+     * @param symbolTable
+     *         the {@link SymbolTable SymbolTable} of the {@link Parser Parsers} or {@code null} to disable
+     *         canonicalization
+     */
+    ParserPool(NumberMode numberMode, SymbolTable symbolTable) {
+
+        int size = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+
+        this.numberMode = numberMode;
+        this.symbolTable = symbolTable;
+        this.parsers = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+
+    /**
+     * Takes an idle {@link Parser Parser} from the pool or creates a new one, if none is found. The {@link Parser
+     * Parser} must be returned using {@link #release(Parser)}, once the parsed value is built.
+     *
+     * @return the {@link Parser Parser}
+     */
+    Parser acquire() {
+
+        int probe = probe();
+
+        for (int i = 0; i < PROBES; i++) {
+            Parser parser = this.parsers.getAndSet((probe + i) & this.mask, null);
+
+            if (parser != null) {
+                return parser;
+            }
+        }
+
+        return new Parser(this.numberMode, this.symbolTable);
+    }
+
+    /**
+     * Returns the passed {@link Parser Parser} to the pool. The {@link Parser Parser} releases its input first, so that
+     * an idle {@link Parser Parser} never retains the JSON it parsed last.
+     *
+     * @param parser
+     *         the {@link Parser Parser}
+     */
+    void release(Parser parser) {
+
+        parser.clear();
+
+        int probe = probe();
+
+        for (int i = 0; i < PROBES; i++) {
+            if (this.parsers.compareAndSet((probe + i) & this.mask, null, parser)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot index the current thread starts probing at. Threads with different ids mostly start at
+     * different slots, which keeps contention low.
+     *
+     * @return the probe
+     */
+    private static int probe() {
+
+        return (int) Thread.currentThread().getId();
+    }
+
+
+    /**
+     * A {@code Parser} holds a {@link JsonTokener JsonTokener} and a {@link Utf8JsonTokener Utf8JsonTokener} together
+     * with their {@link JsonReader JsonReaders}, which are reset for every parsed JSON value. Both are created when
+     * first needed.
+     */
+    static final class Parser {
+
+
+        /**
+         * The empty input the tokeners are reset to, when the {@code Parser} is released.
+         */
+        private static final byte[] EMPTY_BYTES = new byte[0];
+
+        private final NumberMode numberMode;
+        private final SymbolTable symbolTable;
+        private JsonTokener jsonTokener;
+        private JsonReader jsonReader;
+        private Utf8JsonTokener utf8JsonTokener;
+        private JsonReader utf8JsonReader;
+
+
+        private Parser(NumberMode numberMode, SymbolTable symbolTable) {
+
+            this.numberMode = numberMode;
+            this.symbolTable = symbolTable;
+        }
+
+
+        /**
+         * Returns the {@link JsonReader JsonReader} reset to read the passed {@link String String}.
+         *
+         * @param json
+         *         the JSON
+         *
+         * @return the {@link JsonReader JsonReader}
+         */
+        JsonReader reader(String json) {
+
+            this.charReader().jsonTokener.reset(json);
+
+            return this.jsonReader;
+        }
+
+        /**
+         * Returns the {@link JsonReader JsonReader} reset to read the specified range of the passed characters in
+         * place.
+         *
+         * @param json
+         *         the characters of the JSON
+         * @param from
+         *         the index of the first character
+         * @param to
+         *         the index after the last character
+         *
+         * @return the {@link JsonReader JsonReader}
+         */
+        JsonReader reader(char[] json, int from, int to) {
+
+            this.charReader().jsonTokener.reset(json, from, to);
+
+            return this.jsonReader;
+        }
+
+        /**
+         * Returns the {@link JsonReader JsonReader} reset to read the specified range of the passed UTF-8 encoded
+         * bytes in place.
+         *
+         * @param json
+         *         the UTF-8 encoded JSON
+         * @param offset
+         *         the index of the first byte
+         * @param length
+         *         the number of bytes
+         * @param index
+         *         the JSON index of the first byte
+         *
+         * @return the {@link JsonReader JsonReader}
+         *
+         * @throws IndexOutOfBoundsException
+         *         if the range exceeds the bounds of the passed array
+         */
+        JsonReader reader(byte[] json, int offset, int length, int index) {
+
+            this.byteReader().utf8JsonTokener.reset(json, offset, length, index);
+
+            return this.utf8JsonReader;
+        }
+
+        /**
+         * Releases the input of the tokeners.
+         */
+        private void clear() {
+
+            if (this.jsonTokener != null) {
+                this.jsonTokener.reset("");
+            }
+
+            if (this.utf8JsonTokener != null) {
+                this.utf8JsonTokener.reset(EMPTY_BYTES);
+            }
+        }
+
+        /**
+         * Creates the {@link JsonTokener JsonTokener} and its {@link JsonReader JsonReader}, if necessary, and resets
+         * the {@link JsonReader JsonReader}.
+         *
+         * @return this {@code Parser}
+         */
+        private Parser charReader() {
+
+            if (this.jsonTokener == null) {
+                this.jsonTokener = new JsonTokener("");
+                this.jsonTokener.setNumberMode(this.numberMode);
+                this.jsonTokener.setSymbolTable(this.symbolTable);
+                this.jsonReader = new JsonReader(this.jsonTokener);
+            } else {
+                this.jsonReader.reset();
+            }
+
+            return this;
+        }
+
+        /**
+         * Creates the {@link Utf8JsonTokener Utf8JsonTokener} and its {@link JsonReader JsonReader}, if necessary, and
+         * resets the {@link JsonReader JsonReader}.
+         *
+         * @return this {@code Parser}
+         */
+        private Parser byteReader() {
+
+            if (this.utf8JsonTokener == null) {
+                this.utf8JsonTokener = new Utf8JsonTokener(EMPTY_BYTES);
+                this.utf8JsonTokener.setNumberMode(this.numberMode);
+                this.utf8JsonTokener.setSymbolTable(this.symbolTable);
+                this.utf8JsonReader = new JsonReader(this.utf8JsonTokener);
+            } else {
+                this.utf8JsonReader.reset();
+            }
+
+            return this;
+        }
+
+
+    }
+
+
+}
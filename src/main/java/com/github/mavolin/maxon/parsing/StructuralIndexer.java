@@ -0,0 +1,375 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code StructuralIndexer} finds the positions of all structural characters of a JSON value, modeled on the first
+ * stage of simdjson. The input is processed in blocks of 64 characters: each block is classified into 64-bit masks of
+ * whitespaces, operators ({@code {}[]:,}), quotes and backslashes, and the masks of escaped characters, string contents
+ * and structural positions are computed from them using bitwise arithmetic only, with the state carried from block to
+ * block in a few {@code longs}. The result is the list of the positions of all operators and of the first character
+ * of every other value, which can then be walked without looking at the characters in between.
+ * <p>
+ * Comments are not supported by the indexer. If a {@code '/'} is found outside of a string, indexing is aborted, so
+ * that the caller can fall back to a {@link JsonTokener JsonTokener}.
+ * </p>
+ */
+final class StructuralIndexer {
+
+
+    private static final String UNEXPECTED_END_ERR_MSG = "The JSON ended unexpectedly";
+    private static final int WHITESPACE = 1;
+    private static final int OPERATOR = 2;
+    private static final int QUOTE = 4;
+    private static final int BACKSLASH = 8;
+    private static final int SLASH = 16;
+    /**
+     * The class of every ASCII character. All other characters have the class {@code 0}.
+     */
+    private static final byte[] CLASSES = new byte[128];
+    /**
+     * The mask of all bits at even positions.
+     */
+    private static final long EVEN_BITS = 0x5555_5555_5555_5555L;
+    /**
+     * The number of bytes copied at once from a {@link ByteBuffer ByteBuffer}, which must be a multiple of 64.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    static {
+        CLASSES[' '] = WHITESPACE;
+        CLASSES['\t'] = WHITESPACE;
+        CLASSES['\n'] = WHITESPACE;
+        CLASSES['\r'] = WHITESPACE;
+        CLASSES['{'] = OPERATOR;
+        CLASSES['}'] = OPERATOR;
+        CLASSES['['] = OPERATOR;
+        CLASSES[']'] = OPERATOR;
+        CLASSES[':'] = OPERATOR;
+        CLASSES[','] = OPERATOR;
+        CLASSES['"'] = QUOTE;
+        CLASSES['\\'] = BACKSLASH;
+        CLASSES['/'] = SLASH;
+    }
+
+    /**
+     * The structural positions found so far.
+     */
+    private int[] positions;
+    /**
+     * The number of valid entries in {@link #positions}.
+     */
+    private int count;
+    /**
+     * {@code 1} if the previous block ended with an odd sequence of backslashes, {@code 0} otherwise.
+     */
+    private long previousEscape;
+    /**
+     * All ones if the previous block ended inside of a string, {@code 0} otherwise.
+     */
+    private long previousInString;
+    /**
+     * {@code 1} if the previous block ended with a character of a number or literal, {@code 0} otherwise.
+     */
+    private long previousScalar;
+    /**
+     * Whether a comment was found.
+     */
+    private boolean comment;
+
+
+    private StructuralIndexer(int length) {
+
+        this.positions = new int[Math.max(16, length >>> 2)];
+    }
+
+
+    /**
+     * Finds the structural positions of the JSON value consisting of the passed UTF-8 encoded bytes.
+     *
+     * @param bytes
+     *         the array containing the UTF-8 encoded JSON value
+     * @param offset
+     *         the index of the first byte
+     * @param length
+     *         the number of bytes
+     *
+     * @return the {@code StructuralIndexer} holding the positions or {@code null} if the JSON contains comments
+     *
+     * @throws JsonParsingException
+     *         if a string is not terminated
+     */
+    static StructuralIndexer index(byte[] bytes, int offset, int length) {
+
+        StructuralIndexer indexer = new StructuralIndexer(length);
+
+        indexer.index(bytes, offset, length, offset);
+
+        return indexer.finish();
+    }
+
+    /**
+     * Finds the structural positions of the JSON value consisting of the specified range of the UTF-8 encoded bytes of
+     * the passed {@link ByteBuffer ByteBuffer}. The bytes are copied in chunks, so that direct and memory-mapped {@link
+     * ByteBuffer ByteBuffers} are supported as well. The position of the {@link ByteBuffer ByteBuffer} will not be
+     * modified.
+     *
+     * @param buffer
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON value
+     * @param offset
+     *         the absolute index of the first byte
+     * @param length
+     *         the number of bytes
+     *
+     * @return the {@code StructuralIndexer} holding the positions or {@code null} if the JSON contains comments
+     *
+     * @throws JsonParsingException
+     *         if a string is not terminated
+     */
+    static StructuralIndexer index(ByteBuffer buffer, int offset, int length) {
+
+        StructuralIndexer indexer = new StructuralIndexer(length);
+        ByteBuffer remaining = buffer.duplicate();
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, length)];
+
+        remaining.position(offset);
+
+        for (int chunkStart = offset; chunkStart < offset + length && !indexer.comment; chunkStart += chunk.length) {
+            int chunkLength = Math.min(chunk.length, offset + length - chunkStart);
+
+            remaining.get(chunk, 0, chunkLength);
+            indexer.index(chunk, 0, chunkLength, chunkStart);
+        }
+
+        return indexer.finish();
+    }
+
+    /**
+     * Finds the structural positions of the JSON value consisting of the passed characters.
+     *
+     * @param chars
+     *         the array containing the JSON value
+     * @param offset
+     *         the index of the first character
+     * @param length
+     *         the number of characters
+     *
+     * @return the {@code StructuralIndexer} holding the positions or {@code null} if the JSON contains comments
+     *
+     * @throws JsonParsingException
+     *         if a string is not terminated
+     */
+    static StructuralIndexer index(char[] chars, int offset, int length) {
+
+        StructuralIndexer indexer = new StructuralIndexer(length);
+        int end = offset + length;
+
+        for (int blockStart = offset; blockStart < end && !indexer.comment; blockStart += 64) {
+            int blockLength = Math.min(64, end - blockStart);
+            long whitespace = 0;
+            long operator = 0;
+            long quote = 0;
+            long backslash = 0;
+            long slash = 0;
+
+            for (int i = 0; i < blockLength; i++) {
+                char ch = chars[blockStart + i];
+                long c = ch < 128 ? CLASSES[ch] : 0;
+
+                whitespace |= (c & WHITESPACE) << i;
+                operator |= (c >>> 1 & 1) << i;
+                quote |= (c >>> 2 & 1) << i;
+                backslash |= (c >>> 3 & 1) << i;
+                slash |= (c >>> 4 & 1) << i;
+            }
+
+            indexer.block(blockStart, blockLength, whitespace, operator, quote, backslash, slash);
+        }
+
+        return indexer.finish();
+    }
+
+    /**
+     * Returns the structural positions. Only the first {@link #count()} entries are valid.
+     *
+     * @return the structural positions
+     */
+    int[] positions() {
+
+        return this.positions;
+    }
+
+    /**
+     * Returns the number of structural positions.
+     *
+     * @return the number of structural positions
+     */
+    int count() {
+
+        return this.count;
+    }
+
+    /**
+     * Classifies the passed bytes block by block.
+     *
+     * @param bytes
+     *         the array containing the UTF-8 encoded bytes
+     * @param offset
+     *         the index of the first byte
+     * @param length
+     *         the number of bytes
+     * @param index
+     *         the JSON index of the first byte
+     */
+    private void index(byte[] bytes, int offset, int length, int index) {
+
+        for (int blockStart = 0; blockStart < length && !this.comment; blockStart += 64) {
+            int blockLength = Math.min(64, length - blockStart);
+            long whitespace = 0;
+            long operator = 0;
+            long quote = 0;
+            long backslash = 0;
+            long slash = 0;
+
+            for (int i = 0; i < blockLength; i++) {
+                int b = bytes[offset + blockStart + i];
+                long c = b >= 0 ? CLASSES[b] : 0;
+
+                whitespace |= (c & WHITESPACE) << i;
+                operator |= (c >>> 1 & 1) << i;
+                quote |= (c >>> 2 & 1) << i;
+                backslash |= (c >>> 3 & 1) << i;
+                slash |= (c >>> 4 & 1) << i;
+            }
+
+            this.block(index + blockStart, blockLength, whitespace, operator, quote, backslash, slash);
+        }
+    }
+
+    /**
+     * Computes the structural positions of a block from its character masks and appends them to {@link #positions}.
+     *
+     * @param blockStart
+     *         the index of the first character of the block
+     * @param blockLength
+     *         the number of characters in the block
+     * @param whitespace
+     *         the mask of whitespaces
+     * @param operator
+     *         the mask of operators
+     * @param quote
+     *         the mask of quotes
+     * @param backslash
+     *         the mask of backslashes
+     * @param slash
+     *         the mask of slashes
+     */
+    private void block(int blockStart, int blockLength, long whitespace, long operator, long quote, long backslash,
+                       long slash) {
+
+        if (blockLength < 64) { // the missing characters are treated as whitespaces
+            whitespace |= -1L << blockLength;
+        }
+
+        quote &= ~this.escaped(backslash);
+
+        long inString = prefixXor(quote) ^ this.previousInString; // including opening, excluding closing quotes
+        long stringTail = inString ^ quote; // excluding opening, including closing quotes
+        long scalar = ~(operator | whitespace);
+        long nonQuoteScalar = scalar & ~quote;
+        long followsNonQuoteScalar = nonQuoteScalar << 1 | this.previousScalar;
+        long structurals = (operator | scalar & ~followsNonQuoteScalar) & ~stringTail;
+
+        this.previousInString = inString >> 63;
+        this.previousScalar = nonQuoteScalar >>> 63;
+
+        if ((slash & ~stringTail) != 0) {
+            this.comment = true;
+
+            return;
+        }
+
+        int bits = Long.bitCount(structurals);
+
+        if (this.count + bits > this.positions.length) {
+            int[] positions = new int[Math.max(this.positions.length * 2, this.count + bits)];
+
+            System.arraycopy(this.positions, 0, positions, 0, this.count);
+            this.positions = positions;
+        }
+
+        while (structurals != 0) {
+            this.positions[this.count++] = blockStart + Long.numberOfTrailingZeros(structurals);
+            structurals &= structurals - 1;
+        }
+    }
+
+    /**
+     * Computes the mask of the characters, that are escaped by a preceding odd sequence of backslashes.
+     *
+     * @param backslash
+     *         the mask of backslashes
+     *
+     * @return the mask of escaped characters
+     */
+    private long escaped(long backslash) {
+
+        long startEdges = backslash & ~(backslash << 1);
+        // a sequence continued from the previous block has the opposite parity, if that part was odd
+        long evenStartMask = EVEN_BITS ^ this.previousEscape;
+        long evenStarts = startEdges & evenStartMask;
+        long oddStarts = startEdges & ~evenStartMask;
+        long evenCarries = backslash + evenStarts;
+        long oddCarries = backslash + oddStarts;
+        boolean oddOverflow = Long.compareUnsigned(oddCarries, backslash) < 0;
+
+        oddCarries |= this.previousEscape;
+        this.previousEscape = oddOverflow ? 1 : 0;
+
+        long evenCarryEnds = evenCarries & ~backslash;
+        long oddCarryEnds = oddCarries & ~backslash;
+
+        return evenCarryEnds & ~EVEN_BITS | oddCarryEnds & EVEN_BITS;
+    }
+
+    /**
+     * Checks that the JSON did not end inside of a string and returns this {@code StructuralIndexer}.
+     *
+     * @return this {@code StructuralIndexer} or {@code null} if the JSON contains comments
+     */
+    private StructuralIndexer finish() {
+
+        if (this.comment) {
+            return null;
+        } else if (this.previousInString != 0) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        return this;
+    }
+
+    /**
+     * Computes the prefix XOR of the passed mask, i.e. every bit of the result is the XOR of all bits of the mask up to
+     * and including the same position.
+     *
+     * @param mask
+     *         the mask
+     *
+     * @return the prefix XOR
+     */
+    private static long prefixXor(long mask) {
+
+        mask ^= mask << 1;
+        mask ^= mask << 2;
+        mask ^= mask << 4;
+        mask ^= mask << 8;
+        mask ^= mask << 16;
+        mask ^= mask << 32;
+
+        return mask;
+    }
+
+
+}
@@ -0,0 +1,227 @@
+package com.github.mavolin.maxon.parsing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code SymbolTable} is a bounded cache of {@link String Strings}, that is used by a {@link JsonTokener
+ * JsonTokener} to canonicalize the names of JSON object fields and, optionally, short JSON string values. If the same
+ * name occurs again, it is looked up by the hash and the content of its raw characters and the cached {@link String
+ * String} instance is returned, so that no new {@link String String} has to be allocated and all parsed {@link
+ * com.github.mavolin.maxon.jsonvalues.JsonObject JsonObjects} share the same instance.
+ * <p>
+ * The table has a fixed number of slots. If two different symbols fall into the same slot, the newer one replaces the
+ * older one. A {@code SymbolTable} may be shared by multiple {@link JsonTokener JsonTokeners}, even if they are used
+ * concurrently.
+ * </p>
+ */
+public class SymbolTable {
+
+
+    /**
+     * The default number of slots.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * The maximum length of a symbol. Longer {@link String Strings} are not cached, so that the memory retained by the
+     * table stays bounded.
+     */
+    private static final int MAX_SYMBOL_LENGTH = 256;
+
+    /**
+     * The slots of the table.
+     */
+    private final Entry[] entries;
+    /**
+     * The mask used to compute the slot of a hash.
+     */
+    private final int mask;
+    /**
+     * The maximum length of JSON string values, that are canonicalized as well.
+     */
+    private final int maxValueLength;
+
+
+    /**
+     * Instantiates a new {@code SymbolTable} with 1024 slots, that only canonicalizes the names of JSON object fields.
+     */
+    public SymbolTable() {
+
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    /**
+     * Instantiates a new {@code SymbolTable}.
+     *
+     * @param capacity
+     *         the number of slots, which will be rounded up to the next power of two
+     * @param maxValueLength
+     *         the maximum length of JSON string values, that are canonicalized as well, or {@code 0} to only
+     *         canonicalize the names of JSON object fields
+     *
+     * @throws IllegalArgumentException
+     *         if the capacity is not positive or the maximum length is negative
+     */
+    public SymbolTable(int capacity, int maxValueLength) {
+
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30");
+        } else if (maxValueLength < 0) {
+            throw new IllegalArgumentException("The maximum value length must not be negative");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+        this.maxValueLength = maxValueLength;
+    }
+
+
+    /**
+     * Checks if a JSON string value of the passed length is canonicalized.
+     *
+     * @param length
+     *         the length of the value
+     *
+     * @return {@code true} if the value is canonicalized; {@code false} otherwise
+     */
+    public boolean isCanonicalized(int length) {
+
+        return length <= this.maxValueLength;
+    }
+
+    /**
+     * Returns the {@link String String} consisting of the specified range of the passed characters. If such a {@link
+     * String String} has been looked up before and is still in the table, the cached instance is returned.
+     *
+     * @param chars
+     *         the array containing the characters
+     * @param offset
+     *         the index of the first character
+     * @param length
+     *         the number of characters
+     *
+     * @return the {@link String String}
+     */
+    public String lookup(char[] chars, int offset, int length) {
+
+        if (length > MAX_SYMBOL_LENGTH) {
+            return new String(chars, offset, length);
+        }
+
+        int hash = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int slot = hash & this.mask;
+        Entry entry = this.entries[slot];
+
+        if (entry != null && entry.hash == hash && entry.raw == null && entry.symbol.length() == length) {
+            String symbol = entry.symbol;
+            int i = 0;
+
+            while (i < length && symbol.charAt(i) == chars[offset + i]) {
+                i++;
+            }
+
+            if (i == length) {
+                return symbol;
+            }
+        }
+
+        String symbol = new String(chars, offset, length);
+        this.entries[slot] = new Entry(symbol, hash, null);
+
+        return symbol;
+    }
+
+    /**
+     * Returns the {@link String String} decoded from the specified range of the passed UTF-8 encoded bytes. If such a
+     * {@link String String} has been looked up before and is still in the table, the cached instance is returned
+     * without decoding the bytes.
+     *
+     * @param bytes
+     *         the array containing the UTF-8 encoded bytes
+     * @param offset
+     *         the index of the first byte
+     * @param length
+     *         the number of bytes
+     *
+     * @return the {@link String String}
+     */
+    public String lookup(byte[] bytes, int offset, int length) {
+
+        if (length > MAX_SYMBOL_LENGTH) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+
+        int hash = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+
+        int slot = hash & this.mask;
+        Entry entry = this.entries[slot];
+
+        if (entry != null && entry.hash == hash && entry.raw != null && entry.raw.length == length) {
+            byte[] raw = entry.raw;
+            int i = 0;
+
+            while (i < length && raw[i] == bytes[offset + i]) {
+                i++;
+            }
+
+            if (i == length) {
+                return entry.symbol;
+            }
+        }
+
+        byte[] raw = new byte[length];
+        System.arraycopy(bytes, offset, raw, 0, length);
+
+        String symbol = new String(raw, StandardCharsets.UTF_8);
+        this.entries[slot] = new Entry(symbol, hash, raw);
+
+        return symbol;
+    }
+
+
+    /**
+     * A cached symbol. Entries are immutable, so that they can be replaced without synchronization.
+     */
+    private static final class Entry {
+
+
+        /**
+         * The cached {@link String String}.
+         */
+        private final String symbol;
+        /**
+         * The hash of the raw characters or bytes.
+         */
+        private final int hash;
+        /**
+         * The UTF-8 encoded bytes the symbol was decoded from or {@code null} if it was created from characters.
+         */
+        private final byte[] raw;
+
+
+        private Entry(String symbol, int hash, byte[] raw) {
+
+            this.symbol = symbol;
+            this.hash = hash;
+            this.raw = raw;
+        }
+
+
+    }
+
+
+}
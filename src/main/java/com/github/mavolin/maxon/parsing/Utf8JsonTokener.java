@@ -0,0 +1,706 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.utils.SwarScanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The {@code Utf8JsonTokener} is a {@link JsonTokener JsonTokener} that parses UTF-8 encoded JSON data directly from its
+ * bytes. In contrast to the {@link JsonTokener JsonTokener}, the input is neither decoded nor copied before parsing.
+ * Only the content of JSON strings is decoded, and only when the string is extracted.
+ * <p>
+ * Byte arrays and heap {@link ByteBuffer ByteBuffers} are read in place. Direct {@link ByteBuffer ByteBuffers},
+ * {@link InputStream InputStreams} and {@link ReadableByteChannel ReadableByteChannels} are read in chunks into a
+ * small, fixed-size buffer. Files are memory-mapped and read in chunks as well.
+ * </p>
+ */
+public class Utf8JsonTokener extends JsonTokener {
+
+
+    private static final String UNEXPECTED_END_ERR_MSG = "The JSON ended unexpectedly";
+    private static final String UNEXPECTED_CHAR_ERR_TMPL = "Unexpected character '%s' at index %d";
+    private static final String EXPECTED_CHAR_ERR_TMPL = "Expected %s but found '%s' at index %d";
+    private static final String INVALID_UTF8_ERR_TMPL = "Invalid UTF-8 byte sequence at index %d";
+    /**
+     * The size of the buffer used, when the bytes cannot be read in place.
+     */
+    private static final int CHUNK_SIZE = 8192;
+    /**
+     * The masks of the payload bits of a lead byte, indexed by the number of continuation bytes.
+     */
+    private static final int[] LEAD_MASKS = {0x7F, 0x1F, 0x0F, 0x07};
+    /**
+     * The smallest code points, that need a sequence with the respective number of continuation bytes. Smaller code
+     * points are overlong encodings.
+     */
+    private static final int[] MIN_CODE_POINTS = {0x00, 0x80, 0x800, 0x10000};
+    /**
+     * The maximum number of bytes of a file, that are memory-mapped at once.
+     */
+    private static final long SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * The bytes currently available for parsing.
+     */
+    private byte[] bytes;
+    /**
+     * The index of the first valid byte in {@link #bytes}.
+     */
+    private int start;
+    /**
+     * The index after the last valid byte in {@link #bytes}.
+     */
+    private int limit;
+    /**
+     * The index of the current byte in {@link #bytes}.
+     */
+    private int position;
+    /**
+     * The JSON index of the byte at {@link #start}.
+     */
+    private int base;
+    /**
+     * The source the {@link #bytes} are refilled from or {@code null} if all bytes are already available.
+     */
+    private ByteSource source;
+
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the passed UTF-8 encoded bytes.
+     *
+     * @param json
+     *         the UTF-8 encoded JSON
+     */
+    public Utf8JsonTokener(byte[] json) {
+
+        this(json, 0, json.length);
+    }
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the specified range of the passed UTF-8 encoded bytes.
+     *
+     * @param json
+     *         the UTF-8 encoded JSON
+     * @param offset
+     *         the index of the first byte of the JSON
+     * @param length
+     *         the number of bytes of the JSON
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the range exceeds the bounds of the passed array
+     */
+    public Utf8JsonTokener(byte[] json, int offset, int length) {
+
+        this.reset(json, offset, length);
+    }
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the specified range of the passed UTF-8 encoded bytes, which
+     * is part of a larger JSON. The indices reported by the {@code Utf8JsonTokener} are relative to that JSON.
+     *
+     * @param json
+     *         the UTF-8 encoded JSON
+     * @param offset
+     *         the index of the first byte in the array
+     * @param length
+     *         the number of bytes
+     * @param index
+     *         the JSON index of the first byte
+     */
+    Utf8JsonTokener(byte[] json, int offset, int length, int index) {
+
+        this.reset(json, offset, length, index);
+    }
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the remaining bytes of the passed {@link ByteBuffer
+     * ByteBuffer}. The position of the {@link ByteBuffer ByteBuffer} will not be modified.
+     *
+     * @param json
+     *         the {@link ByteBuffer ByteBuffer} containing the UTF-8 encoded JSON
+     */
+    public Utf8JsonTokener(ByteBuffer json) {
+
+        if (json.hasArray()) {
+            int offset = json.arrayOffset() + json.position();
+
+            this.init(json.array(), offset, offset + json.remaining(), null);
+        } else {
+            ByteBuffer remaining = json.duplicate();
+
+            this.init(new byte[Math.min(CHUNK_SIZE, json.remaining() + 1)], 0, 0, (b, off, len) -> {
+                if (!remaining.hasRemaining()) {
+                    return -1;
+                }
+
+                int count = Math.min(len, remaining.remaining());
+                remaining.get(b, off, count);
+
+                return count;
+            });
+        }
+    }
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the UTF-8 encoded JSON in the file of the passed {@link
+     * FileChannel FileChannel}, starting at its current position. The file is memory-mapped in segments of up to 1 GB,
+     * that are mapped when they are reached and copied chunk by chunk into the tokener's fixed-size buffer, so that
+     * files of any size can be parsed, while the bytes stay in the page cache of the operating system instead of the
+     * heap. The {@link FileChannel FileChannel} must not be closed before
+     * parsing is finished, and its position will not be modified.
+     *
+     * @param json
+     *         the {@link FileChannel FileChannel} of the file containing the UTF-8 encoded JSON
+     */
+    public Utf8JsonTokener(FileChannel json) {
+
+        this.init(new byte[CHUNK_SIZE], 0, 0, new ByteSource() {
+
+            private long mapped = -1;
+            private ByteBuffer segment = ByteBuffer.allocate(0);
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+
+                if (!this.segment.hasRemaining()) {
+                    if (this.mapped < 0) {
+                        this.mapped = json.position();
+                    }
+
+                    long size = Math.min(SEGMENT_SIZE, json.size() - this.mapped);
+
+                    if (size <= 0) {
+                        return -1;
+                    }
+
+                    this.segment = json.map(FileChannel.MapMode.READ_ONLY, this.mapped, size);
+                    this.mapped += size;
+                }
+
+                int count = Math.min(length, this.segment.remaining());
+                this.segment.get(bytes, offset, count);
+
+                return count;
+            }
+        });
+    }
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the UTF-8 encoded JSON read from the passed {@link InputStream
+     * InputStream}. Only a fixed-size part of the JSON is kept in memory at once.
+     *
+     * @param json
+     *         the {@link InputStream InputStream} providing the UTF-8 encoded JSON
+     */
+    public Utf8JsonTokener(InputStream json) {
+
+        this.init(new byte[CHUNK_SIZE], 0, 0, json::read);
+    }
+
+    /**
+     * Instantiates a new {@code Utf8JsonTokener} parsing the UTF-8 encoded JSON read from the passed {@link
+     * ReadableByteChannel ReadableByteChannel}, which must be in blocking mode. Only a fixed-size part of the JSON is
+     * kept in memory at once.
+     *
+     * @param json
+     *         the {@link ReadableByteChannel ReadableByteChannel} providing the UTF-8 encoded JSON
+     */
+    public Utf8JsonTokener(ReadableByteChannel json) {
+
+        byte[] bytes = new byte[CHUNK_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        this.init(bytes, 0, 0, (b, off, len) -> json.read(buffer.limit(off + len).position(off)));
+    }
+
+
+    /**
+     * Checks if the end of the JSON is reached or if there are still characters left, that haven't been parsed.
+     *
+     * @return {@code true} if the JSON's current char is not the last; {@code false} otherwise
+     */
+    @Override
+    public boolean hasNext() {
+
+        return this.position < this.limit - 1 || this.fill();
+    }
+
+    /**
+     * Gets the next byte as character and increments the index. Bytes that are not part of a JSON string are always
+     * ASCII characters in valid JSON.
+     *
+     * @return the next char
+     */
+    @Override
+    public char next() {
+
+        if (this.position >= this.limit - 1 && !this.fill()) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        return (char) (this.bytes[++this.position] & 0xFF);
+    }
+
+    /**
+     * Returns the next byte as character without incrementing the index
+     *
+     * @return the next char
+     */
+    @Override
+    public char nextNoIncrement() {
+
+        if (this.position >= this.limit - 1 && !this.fill()) {
+            throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+        }
+
+        return (char) (this.bytes[this.position + 1] & 0xFF);
+    }
+
+    /**
+     * Extracts the {@link String String} starting at the current character. The bytes of the {@link String String} are
+     * decoded from UTF-8. If a {@link SymbolTable SymbolTable} is set, {@link String Strings} without escape sequences
+     * are looked up by their raw bytes, so that cached {@link String Strings} are not decoded again.
+     *
+     * @param name
+     *         whether the {@link String String} is the name of a JSON object field
+     *
+     * @return the extracted {@link String String}
+     */
+    @Override
+    protected String nextString(boolean name) {
+
+        if (this.isNull())
+            return null;
+
+        char next = this.checkAndNext();
+
+        if (next != '"') {
+            throw new JsonParsingException(String.format(EXPECTED_CHAR_ERR_TMPL, "'\"'", next, this.getIndex()));
+        }
+
+        // fast path: the string contains no escapes and is fully available
+        byte[] bytes = this.bytes;
+        int from = this.position + 1;
+        int nonAscii = -1;
+        int i = SwarScanner.indexOfSpecial(bytes, from, this.limit);
+
+        while (i < this.limit) {
+            byte b = bytes[i];
+
+            if (b == '"') {
+                int length = i - from;
+
+                if (nonAscii >= 0 && !isWellFormed(bytes, nonAscii, i)) {
+                    break; // the slow path reports the malformed sequence
+                }
+
+                String string;
+
+                if (this.isCanonicalized(name, length)) {
+                    string = this.getSymbolTable().lookup(bytes, from, length);
+                } else if (nonAscii < 0) {
+                    string = new String(bytes, from, length, StandardCharsets.ISO_8859_1);
+                } else {
+                    string = new String(bytes, from, length, StandardCharsets.UTF_8);
+                }
+
+                this.position = i;
+
+                return string;
+            } else if (b == '\\') { // everything before the first escape can still be decoded in bulk
+                if (nonAscii >= 0 && !isWellFormed(bytes, nonAscii, i)) {
+                    break;
+                }
+
+                StringBuilder stringBuilder = this.stringBuilder();
+
+                stringBuilder.append(new String(bytes, from, i - from, StandardCharsets.UTF_8));
+                this.position = i - 1;
+
+                return this.nextStringSlow(stringBuilder);
+            } else if (b == '\n' || b == '\r') {
+                break;
+            }
+
+            if (b < 0 && nonAscii < 0) {
+                nonAscii = i;
+            }
+
+            i = SwarScanner.indexOfSpecial(bytes, i + 1, this.limit);
+        }
+
+        return this.nextStringSlow(this.stringBuilder());
+    }
+
+    /**
+     * Resets this {@code Utf8JsonTokener} to parse the passed {@link String String}, which is encoded to UTF-8 first.
+     * Use {@link #reset(byte[])} to avoid the encoding.
+     *
+     * @param json
+     *         the json
+     */
+    @Override
+    public void reset(String json) {
+
+        this.reset(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Resets this {@code Utf8JsonTokener} to parse the passed UTF-8 encoded bytes. The number mode, the {@link
+     * SymbolTable SymbolTable} and all scratch buffers are kept.
+     *
+     * @param json
+     *         the UTF-8 encoded JSON
+     */
+    public void reset(byte[] json) {
+
+        this.reset(json, 0, json.length);
+    }
+
+    /**
+     * Resets this {@code Utf8JsonTokener} to parse the specified range of the passed UTF-8 encoded bytes. The number
+     * mode, the {@link SymbolTable SymbolTable} and all scratch buffers are kept.
+     *
+     * @param json
+     *         the UTF-8 encoded JSON
+     * @param offset
+     *         the index of the first byte of the JSON
+     * @param length
+     *         the number of bytes of the JSON
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the range exceeds the bounds of the passed array
+     */
+    public void reset(byte[] json, int offset, int length) {
+
+        Objects.checkFromIndexSize(offset, length, json.length);
+
+        this.init(json, offset, offset + length, null);
+    }
+
+    /**
+     * Resets this {@code Utf8JsonTokener} to parse the specified range of the passed UTF-8 encoded bytes, which is part
+     * of a larger JSON. The indices reported by the {@code Utf8JsonTokener} are relative to that JSON.
+     *
+     * @param json
+     *         the UTF-8 encoded JSON
+     * @param offset
+     *         the index of the first byte in the array
+     * @param length
+     *         the number of bytes
+     * @param index
+     *         the JSON index of the first byte
+     */
+    void reset(byte[] json, int offset, int length, int index) {
+
+        this.reset(json, offset, length);
+
+        this.base = index;
+    }
+
+    /**
+     * Decrements the index by one until the beginning of the JSON is reached.
+     */
+    @Override
+    public void back() {
+
+        if (this.position < this.start) {
+            throw new IndexOutOfBoundsException("The index cannot be further decreased");
+        }
+
+        this.position--;
+    }
+
+    /**
+     * Gets the index of the current byte. Returns {@code -1} if no byte has been retrieved yet.
+     *
+     * @return the current index
+     */
+    @Override
+    public int getIndex() {
+
+        return this.base + this.position - this.start;
+    }
+
+    /**
+     * Decodes the rest of the current JSON string character by character, including escape sequences and multi-byte
+     * characters.
+     *
+     * @param stringBuilder
+     *         the {@link StringBuilder StringBuilder} containing the already decoded characters
+     *
+     * @return the decoded {@link String String}
+     */
+    private String nextStringSlow(StringBuilder stringBuilder) {
+
+        while (this.hasNext()) {
+            int run = SwarScanner.indexOfSpecial(this.bytes, this.position + 1, this.limit);
+
+            if (run > this.position + 1) { // copy plain ASCII characters without inspecting them one by one
+                for (int i = this.position + 1; i < run; i++) {
+                    stringBuilder.append((char) this.bytes[i]);
+                }
+
+                this.position = run - 1;
+
+                continue;
+            }
+
+            int b = this.bytes[++this.position];
+
+            if (b >= 0) { // ASCII
+                switch (b) {
+                    case '\n':
+                    case '\r':
+                        throw new JsonParsingException(String.format(UNEXPECTED_CHAR_ERR_TMPL, (char) b,
+                                                                     this.getIndex()));
+                    case '\\':
+                        stringBuilder.append(this.nextEscapedChar());
+                        break;
+                    case '"':
+                        return stringBuilder.toString();
+                    default:
+                        stringBuilder.append((char) b);
+                }
+            } else {
+                this.appendMultiByteChar(b, stringBuilder);
+            }
+        }
+
+        throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+    }
+
+    /**
+     * Decodes the UTF-8 multi-byte sequence starting with the passed lead byte and appends it to the passed {@link
+     * StringBuilder StringBuilder}.
+     *
+     * @param lead
+     *         the first byte of the sequence
+     * @param stringBuilder
+     *         the {@link StringBuilder StringBuilder}
+     */
+    private void appendMultiByteChar(int lead, StringBuilder stringBuilder) {
+
+        int leadIndex = this.getIndex();
+        int continuationBytes = continuationBytes(lead);
+
+        if (continuationBytes < 0) {
+            throw new JsonParsingException(String.format(INVALID_UTF8_ERR_TMPL, leadIndex));
+        }
+
+        int codePoint = lead & LEAD_MASKS[continuationBytes];
+
+        for (int i = 0; i < continuationBytes; i++) {
+            if (!this.hasNext()) {
+                throw new JsonParsingException(UNEXPECTED_END_ERR_MSG);
+            }
+
+            int b = this.bytes[++this.position];
+
+            if ((b & 0xC0) != 0x80) {
+                throw new JsonParsingException(String.format(INVALID_UTF8_ERR_TMPL, leadIndex));
+            }
+
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+
+        if (!isValidCodePoint(codePoint, continuationBytes)) {
+            throw new JsonParsingException(String.format(INVALID_UTF8_ERR_TMPL, leadIndex));
+        }
+
+        stringBuilder.appendCodePoint(codePoint);
+    }
+
+    /**
+     * Returns the number of continuation bytes following the passed lead byte of a UTF-8 multi-byte sequence. The lead
+     * bytes {@code C0} and {@code C1}, which can only start overlong encodings, and {@code F5} to {@code FF}, which
+     * start code points above {@code U+10FFFF}, are rejected, as are continuation bytes.
+     *
+     * @param lead
+     *         the lead byte
+     *
+     * @return the number of continuation bytes or {@code -1}, if the byte cannot start a multi-byte sequence
+     */
+    private static int continuationBytes(int lead) {
+
+        lead &= 0xFF;
+
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            return 1;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            return 2;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            return 3;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if the passed code point, decoded from a sequence with the passed number of continuation bytes, is
+     * well-formed UTF-8, i.e. if it is not encoded with more bytes than needed, not a surrogate and not above {@code
+     * U+10FFFF}.
+     *
+     * @param codePoint
+     *         the code point
+     * @param continuationBytes
+     *         the number of continuation bytes of its sequence
+     *
+     * @return {@code true} if the code point is valid; {@code false} otherwise
+     */
+    private static boolean isValidCodePoint(int codePoint, int continuationBytes) {
+
+        return codePoint >= MIN_CODE_POINTS[continuationBytes] && codePoint <= Character.MAX_CODE_POINT &&
+               (codePoint < Character.MIN_SURROGATE || codePoint > Character.MAX_SURROGATE);
+    }
+
+    /**
+     * Checks if the specified range of the passed bytes is well-formed UTF-8, using the same {@link
+     * #continuationBytes(int)} and {@link #isValidCodePoint(int, int)} checks as {@link #appendMultiByteChar(int,
+     * StringBuilder)}, so that the fast and the slow path of {@link #nextString(boolean)} accept exactly the same bytes.
+     * Runs of ASCII characters are skipped eight bytes at a time.
+     *
+     * @param bytes
+     *         the bytes
+     * @param from
+     *         the index of the first byte
+     * @param to
+     *         the index after the last byte
+     *
+     * @return {@code true} if the bytes are well-formed; {@code false} otherwise
+     */
+    private static boolean isWellFormed(byte[] bytes, int from, int to) {
+
+        int i = SwarScanner.indexOfNonAscii(bytes, from, to);
+
+        while (i < to) {
+            int lead = bytes[i];
+            int continuationBytes = continuationBytes(lead);
+
+            if (continuationBytes < 0 || i + continuationBytes >= to) {
+                return false;
+            }
+
+            int codePoint = lead & LEAD_MASKS[continuationBytes];
+
+            for (int j = i + 1; j <= i + continuationBytes; j++) {
+                if ((bytes[j] & 0xC0) != 0x80) {
+                    return false;
+                }
+
+                codePoint = (codePoint << 6) | (bytes[j] & 0x3F);
+            }
+
+            if (!isValidCodePoint(codePoint, continuationBytes)) {
+                return false;
+            }
+
+            i = SwarScanner.indexOfNonAscii(bytes, i + continuationBytes + 1, to);
+        }
+
+        return true;
+    }
+
+    /**
+     * Refills the buffer from the source, keeping the current byte so that {@link #back()} stays possible.
+     *
+     * @return {@code true} if new bytes are available; {@code false} if the end of the JSON is reached
+     */
+    private boolean fill() {
+
+        if (this.source == null) {
+            return false;
+        }
+
+        int keepFrom = Math.max(this.position, this.start);
+        int keep = this.limit - keepFrom;
+
+        System.arraycopy(this.bytes, keepFrom, this.bytes, 0, keep);
+
+        this.base += keepFrom - this.start;
+        this.position -= keepFrom;
+        this.start = 0;
+        this.limit = keep;
+
+        try {
+            while (this.position >= this.limit - 1) {
+                int read = this.source.read(this.bytes, this.limit, this.bytes.length - this.limit);
+
+                if (read < 0) {
+                    this.source = null;
+                    return false;
+                }
+
+                this.limit += read;
+            }
+        } catch (IOException e) {
+            throw new JsonParsingException("Unable to read the JSON", e);
+        }
+
+        return true;
+    }
+
+    private void init(byte[] bytes, int start, int limit, ByteSource source) {
+
+        this.bytes = bytes;
+        this.start = start;
+        this.limit = limit;
+        this.position = start - 1;
+        this.base = 0;
+        this.source = source;
+
+        // skip the byte order mark, if present
+        if (this.hasNext() && this.nextNoIncrement() == 0xEF) {
+            this.next();
+
+            if (this.hasNext() && this.nextNoIncrement() == 0xBB) {
+                this.next();
+
+                if (this.hasNext() && this.nextNoIncrement() == 0xBF) {
+                    this.next();
+                    return;
+                }
+
+                this.back();
+            }
+
+            this.back();
+        }
+    }
+
+
+    /**
+     * A source the bytes of a {@code Utf8JsonTokener} can be refilled from.
+     */
+    private interface ByteSource {
+
+
+        /**
+         * Reads up to {@code length} bytes into the passed array.
+         *
+         * @param bytes
+         *         the array the bytes are read into
+         * @param offset
+         *         the index of the first byte to write to
+         * @param length
+         *         the maximum number of bytes to read
+         *
+         * @return the number of bytes read; {@code -1} if the end of the source is reached
+         *
+         * @throws IOException
+         *         if an I/O error occurs
+         */
+        int read(byte[] bytes, int offset, int length) throws IOException;
+
+
+    }
+
+
+}
@@ -3,11 +3,10 @@ package com.github.mavolin.maxon.utils;
 import com.github.mavolin.maxon.PrintStyle;
 import com.github.mavolin.maxon.jsonvalues.*;
 
-import java.util.Map;
-
 /**
  * The {@code JsonPrinter} class is a utility class, used to print JSONs in their {@link String String} representation
- * using a specific set of style options.
+ * using a specific set of style options. All values are printed in a single pass by a {@link JsonWriter JsonWriter},
+ * either into a {@link String String} or straight into an {@link Appendable Appendable}.
  */
 public class JsonPrinter {
 
@@ -26,37 +25,27 @@ public class JsonPrinter {
      */
     public static String printJsonPrimitive(JsonPrimitive jsonPrimitive) {
 
-        if (jsonPrimitive.isNull()) {
-            return "null";
-        } else if (jsonPrimitive.isBoolean()) {
-            return jsonPrimitive.getAsBoolean().toString();
-        } else if (jsonPrimitive.isCharacter()) {
-            String character = String.valueOf(jsonPrimitive.getAsCharacter());
+        StringBuilder stringBuilder = new StringBuilder();
 
-            return "\"" + character
-                    .replace("\\", "\\\\")
-                    .replace("\"", "\\\"")
-                    .replace("\b", "\\b")
-                    .replace("\f", "\\f")
-                    .replace("\n", "\\n")
-                    .replace("\r", "\\r")
-                    .replace("\t", "\\t")
-                   + "\"";
-        } else if (jsonPrimitive.isNumber()) {
-            return jsonPrimitive.getAsBigDecimal().toString();
-        } else {
-            String json = jsonPrimitive.getAsString();
+        printJsonPrimitive(jsonPrimitive, stringBuilder);
 
-            return "\"" + json
-                    .replace("\\", "\\\\")
-                    .replace("\"", "\\\"")
-                    .replace("\b", "\\b")
-                    .replace("\f", "\\f")
-                    .replace("\n", "\\n")
-                    .replace("\r", "\\r")
-                    .replace("\t", "\\t")
-                   + "\"";
-        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Prints the {@link JsonPrimitive JsonPrimitve} in its JSON form into the passed {@link Appendable Appendable}.
+     *
+     * @param jsonPrimitive
+     *         the {@link JsonPrimitive JsonPrimitive}
+     * @param out
+     *         the {@link Appendable Appendable}
+     *
+     * @throws java.io.UncheckedIOException
+     *         if the {@link Appendable Appendable} throws an {@link java.io.IOException IOException}
+     */
+    public static void printJsonPrimitive(JsonPrimitive jsonPrimitive, Appendable out) {
+
+        printJsonValue(jsonPrimitive, out, ' ', 0, false, PrintStyle.NO_WHITESPACE);
     }
 
     /**
@@ -79,13 +68,37 @@ public class JsonPrinter {
     public static String printJsonArray(JsonArray jsonArray, char whitespaceChar, int whitespaceCharQty,
                                         boolean ignoreNull, PrintStyle printStyle) {
 
-        if (printStyle == PrintStyle.NO_WHITESPACE) {
-            return printJsonArrayNoWhitespace(jsonArray, ignoreNull);
-        } else if (printStyle == PrintStyle.SINGLE_WHITESPACE) {
-            return printJsonArraySingleWhitespace(jsonArray, ignoreNull);
-        } else {
-            return printJsonArrayPrettyPrinted(jsonArray, whitespaceChar, whitespaceCharQty, ignoreNull, 0);
-        }
+        StringBuilder stringBuilder = new StringBuilder();
+
+        printJsonArray(jsonArray, stringBuilder, whitespaceChar, whitespaceCharQty, ignoreNull, printStyle);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Prints the data of the passed {@link JsonArray JsonArray} in the specified style into the passed {@link
+     * Appendable Appendable}.
+     *
+     * @param jsonArray
+     *         the {@link JsonArray JsonArray}
+     * @param out
+     *         the {@link Appendable Appendable}
+     * @param whitespaceChar
+     *         the whitespace char
+     * @param whitespaceCharQty
+     *         the quantity of whitespace chars to use when producing indent
+     * @param ignoreNull
+     *         ignore {@code nulls}?
+     * @param printStyle
+     *         the {@link PrintStyle PrintStyle}
+     *
+     * @throws java.io.UncheckedIOException
+     *         if the {@link Appendable Appendable} throws an {@link java.io.IOException IOException}
+     */
+    public static void printJsonArray(JsonArray jsonArray, Appendable out, char whitespaceChar, int whitespaceCharQty,
+                                      boolean ignoreNull, PrintStyle printStyle) {
+
+        printJsonValue(jsonArray, out, whitespaceChar, whitespaceCharQty, ignoreNull, printStyle);
     }
 
     /**
@@ -108,264 +121,46 @@ public class JsonPrinter {
     public static String printJsonObject(JsonObject jsonObject, char whitespaceChar, int whitespaceCharQty,
                                          boolean ignoreNull, PrintStyle printStyle) {
 
-        if (printStyle == PrintStyle.NO_WHITESPACE) {
-            return printJsonObjectNoWhitespace(jsonObject, ignoreNull);
-        } else if (printStyle == PrintStyle.SINGLE_WHITESPACE) {
-            return printJsonObjectSingleWhitespace(jsonObject, ignoreNull);
-        } else {
-            return printJsonObjectPrettyPrinted(jsonObject, whitespaceChar, whitespaceCharQty, ignoreNull, 0);
-        }
-    }
-
-    private static String printJsonArrayNoWhitespace(JsonArray jsonArray, boolean ignoreNull) {
-
-        StringBuilder arrayBuilder = new StringBuilder("[");
-        boolean first = true;
-
-        for (JsonElement value : jsonArray) {
-            if (value.isNull() && ignoreNull) {
-                continue;
-            }
-            if (!first) {
-                arrayBuilder.append(",");
-            }
+        StringBuilder stringBuilder = new StringBuilder();
 
-            JsonValue jsonValue = value.getAsJsonValue();
-            String stringValue;
+        printJsonObject(jsonObject, stringBuilder, whitespaceChar, whitespaceCharQty, ignoreNull, printStyle);
 
-            if (jsonValue instanceof JsonPrimitive) {
-                stringValue = printJsonPrimitive((JsonPrimitive) jsonValue);
-            } else if (jsonValue instanceof JsonArray) {
-                stringValue = printJsonArrayNoWhitespace((JsonArray) jsonValue, ignoreNull);
-            } else {
-                stringValue = printJsonObjectNoWhitespace((JsonObject) jsonValue, ignoreNull);
-            }
-            arrayBuilder.append(stringValue);
-
-            first = false;
-        }
-
-        arrayBuilder.append("]");
-
-        return arrayBuilder.toString();
+        return stringBuilder.toString();
     }
 
-    private static String printJsonArraySingleWhitespace(JsonArray jsonArray, boolean ignoreNull) {
-
-        StringBuilder arrayBuilder = new StringBuilder("[");
-        boolean first = true;
-
-        for (JsonElement value : jsonArray) {
-            if (value.isNull() && ignoreNull) {
-                continue;
-            }
-            if (!first) {
-                arrayBuilder.append(", ");
-            }
-
-            JsonValue jsonValue = value.getAsJsonValue();
-            String stringValue;
-
-            if (jsonValue instanceof JsonPrimitive) {
-                stringValue = printJsonPrimitive((JsonPrimitive) jsonValue);
-            } else if (jsonValue instanceof JsonArray) {
-                stringValue = printJsonArraySingleWhitespace((JsonArray) jsonValue, ignoreNull);
-            } else {
-                stringValue = printJsonObjectSingleWhitespace((JsonObject) jsonValue, ignoreNull);
-            }
-            arrayBuilder.append(stringValue);
-
-            first = false;
-        }
-
-        arrayBuilder.append("]");
-
-        return arrayBuilder.toString();
-    }
-
-    private static String printJsonArrayPrettyPrinted(JsonArray jsonArray, char whitespaceChar, int whitespaceCharQty,
-                                                      boolean ignoreNull, int indentLvl) {
-
-        String bracketIndent = generateIndent(whitespaceCharQty * indentLvl, whitespaceChar);
-        String contentIndent = generateIndent(whitespaceCharQty * indentLvl + whitespaceCharQty, whitespaceChar);
-
-        StringBuilder arrayBuilder = new StringBuilder("[\n" + contentIndent);
-        boolean first = true;
-
-        for (JsonElement value : jsonArray) {
-            if (value.isNull() && ignoreNull) {
-                continue;
-            }
-            if (!first) {
-                arrayBuilder
-                        .append(",\n")
-                        .append(contentIndent);
-            }
-
-            JsonValue jsonValue = value.getAsJsonValue();
-            String stringValue;
-
-            if (jsonValue instanceof JsonPrimitive) {
-                stringValue = printJsonPrimitive((JsonPrimitive) jsonValue);
-            } else if (jsonValue instanceof JsonArray) {
-                stringValue = printJsonArrayPrettyPrinted((JsonArray) jsonValue, whitespaceChar, whitespaceCharQty,
-                                                          ignoreNull, indentLvl + 1);
-            } else {
-                stringValue = printJsonObjectPrettyPrinted((JsonObject) jsonValue, whitespaceChar, whitespaceCharQty,
-                                                           ignoreNull, indentLvl + 1);
-            }
-
-            arrayBuilder.append(stringValue);
-
-            first = false;
-        }
-
-        arrayBuilder
-                .append("\n")
-                .append(bracketIndent)
-                .append("]");
-
-        return arrayBuilder.toString();
-    }
-
-    private static String printJsonObjectNoWhitespace(JsonObject jsonObject, boolean ignoreNull) {
-
-        StringBuilder objectBuilder = new StringBuilder("{");
-        boolean first = true;
-
-        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-            String key = entry.getKey();
-            JsonElement value = entry.getValue();
-
-            if (value.isNull() && ignoreNull) {
-                continue;
-            }
-            if (!first) {
-                objectBuilder.append(",");
-            }
-
-            objectBuilder
-                    .append("\"")
-                    .append(key)
-                    .append("\":");
-
-            JsonValue jsonValue = value.getAsJsonValue();
-            String stringValue;
-
-            if (jsonValue instanceof JsonPrimitive) {
-                stringValue = printJsonPrimitive((JsonPrimitive) jsonValue);
-            } else if (jsonValue instanceof JsonArray) {
-                stringValue = printJsonArrayNoWhitespace((JsonArray) jsonValue, ignoreNull);
-            } else {
-                stringValue = printJsonObjectNoWhitespace((JsonObject) jsonValue, ignoreNull);
-            }
-            objectBuilder.append(stringValue);
-
-            first = false;
-        }
-
-        objectBuilder.append("}");
-
-        return objectBuilder.toString();
-    }
-
-    private static String printJsonObjectSingleWhitespace(JsonObject jsonObject, boolean ignoreNull) {
-
-        StringBuilder objectBuilder = new StringBuilder("{");
-        boolean first = true;
-
-        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-            String key = entry.getKey();
-            JsonElement value = entry.getValue();
-
-            if (value.isNull() && ignoreNull) {
-                continue;
-            }
-            if (!first) {
-                objectBuilder.append(", ");
-            }
-
-            objectBuilder
-                    .append("\"")
-                    .append(key)
-                    .append("\": ");
-
-            JsonValue jsonValue = value.getAsJsonValue();
-            String stringValue;
-
-            if (jsonValue instanceof JsonPrimitive) {
-                stringValue = printJsonPrimitive((JsonPrimitive) jsonValue);
-            } else if (jsonValue instanceof JsonArray) {
-                stringValue = printJsonArraySingleWhitespace((JsonArray) jsonValue, ignoreNull);
-            } else {
-                stringValue = printJsonObjectSingleWhitespace((JsonObject) jsonValue, ignoreNull);
-            }
-            objectBuilder.append(stringValue);
-
-            first = false;
-        }
-
-        objectBuilder.append("}");
+    /**
+     * Prints the data of the passed {@link JsonObject JsonObject} in the specified style into the passed {@link
+     * Appendable Appendable}.
+     *
+     * @param jsonObject
+     *         the {@link JsonObject JsonObject}
+     * @param out
+     *         the {@link Appendable Appendable}
+     * @param whitespaceChar
+     *         the whitespace char
+     * @param whitespaceCharQty
+     *         the quantity of whitespace chars to use when producing indent
+     * @param ignoreNull
+     *         ignore {@code nulls}?
+     * @param printStyle
+     *         the {@link PrintStyle PrintStyle}
+     *
+     * @throws java.io.UncheckedIOException
+     *         if the {@link Appendable Appendable} throws an {@link java.io.IOException IOException}
+     */
+    public static void printJsonObject(JsonObject jsonObject, Appendable out, char whitespaceChar,
+                                       int whitespaceCharQty, boolean ignoreNull, PrintStyle printStyle) {
 
-        return objectBuilder.toString();
+        printJsonValue(jsonObject, out, whitespaceChar, whitespaceCharQty, ignoreNull, printStyle);
     }
 
-    private static String printJsonObjectPrettyPrinted(JsonObject jsonObject, char whitespaceChar,
-                                                       int whitespaceCharQty, boolean ignoreNull, int indentLvl) {
-
-        String bracketIndent = generateIndent(indentLvl * whitespaceCharQty, whitespaceChar);
-        String contentIndent = generateIndent(indentLvl * whitespaceCharQty + whitespaceCharQty, whitespaceChar);
-
-        StringBuilder objectBuilder = new StringBuilder("{\n" + contentIndent);
-        boolean first = true;
-
-        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-            String key = entry.getKey();
-            JsonElement value = entry.getValue();
-
-            if (value.isNull() && ignoreNull) {
-                continue;
-            }
-            if (!first) {
-                objectBuilder
-                        .append(",\n")
-                        .append(contentIndent);
-            }
-
-            objectBuilder
-                    .append("\"")
-                    .append(key)
-                    .append("\": ");
-
-            JsonValue jsonValue = value.getAsJsonValue();
-            String stringValue;
-
-            if (jsonValue instanceof JsonPrimitive) {
-                stringValue = printJsonPrimitive((JsonPrimitive) jsonValue);
-            } else if (jsonValue instanceof JsonArray) {
-                stringValue = printJsonArrayPrettyPrinted((JsonArray) jsonValue, whitespaceChar, whitespaceCharQty,
-                                                          ignoreNull, indentLvl + 1);
-            } else {
-                stringValue = printJsonObjectPrettyPrinted((JsonObject) jsonValue, whitespaceChar, whitespaceCharQty,
-                                                           ignoreNull, indentLvl + 1);
-            }
-
-            objectBuilder.append(stringValue);
-
-            first = false;
-        }
-
-        objectBuilder
-                .append("\n")
-                .append(bracketIndent)
-                .append("}");
-
-        return objectBuilder.toString();
-    }
+    private static void printJsonValue(JsonValue jsonValue, Appendable out, char whitespaceChar,
+                                       int whitespaceCharQty, boolean ignoreNull, PrintStyle printStyle) {
 
-    private static String generateIndent(int qty, char whitespaceChar) {
+        JsonWriter jsonWriter = new JsonWriter(out, whitespaceChar, whitespaceCharQty, ignoreNull, printStyle);
 
-        return String.valueOf(whitespaceChar).repeat(qty);
+        jsonWriter.value(jsonValue);
+        jsonWriter.flush();
     }
 
 
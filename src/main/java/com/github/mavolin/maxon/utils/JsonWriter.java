@@ -0,0 +1,698 @@
+package com.github.mavolin.maxon.utils;
+
+import com.github.mavolin.maxon.PrintStyle;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonElement;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The {@code JsonWriter} is the counterpart of the {@link com.github.mavolin.maxon.parsing.JsonReader JsonReader}: it
+ * writes a JSON value token by token in a single pass into an {@link Appendable Appendable}, using the style options of
+ * the {@link JsonPrinter JsonPrinter}. The output is collected in a fixed-size buffer, which is handed to the {@link
+ * Appendable Appendable} once it is full or the {@code JsonWriter} is {@link #flush() flushed}, so that neither the
+ * nested values nor the whole JSON are ever built as a {@link String String}.
+ * <p>
+ * Example:<br>
+ * <code>
+ *     JsonWriter jsonWriter = new JsonWriter(writer, ' ', 4, false, PrintStyle.NO_WHITESPACE);<br>
+ *     jsonWriter.beginObject().name("id").value(42).name("tags").beginArray().value("a").endArray().endObject();<br>
+ *     jsonWriter.flush();
+ * </code>
+ * </p>
+ * <p>
+ * {@link IOException IOExceptions} thrown by the {@link Appendable Appendable} are rethrown as {@link
+ * UncheckedIOException UncheckedIOExceptions}.
+ * </p>
+ */
+public class JsonWriter implements Flushable, Closeable {
+
+
+    private static final String NOT_IN_ARRAY_ERR_MSG = "There is no open array to end";
+    private static final String NOT_IN_OBJECT_ERR_MSG = "There is no open object to end";
+    private static final String MISPLACED_NAME_ERR_MSG = "A name can only be written inside an object before a value";
+    private static final String MISSING_NAME_ERR_MSG = "A value inside an object must be preceded by a name";
+    private static final String NOT_FINITE_ERR_MSG = "NaN and infinite numbers cannot be represented in JSON";
+
+    /**
+     * Inside an array before the first element.
+     */
+    private static final int EMPTY_ARRAY = 0;
+    /**
+     * Inside an array after at least one element.
+     */
+    private static final int NONEMPTY_ARRAY = 1;
+    /**
+     * Inside an object before the first field.
+     */
+    private static final int EMPTY_OBJECT = 2;
+    /**
+     * Inside an object after at least one field.
+     */
+    private static final int NONEMPTY_OBJECT = 3;
+
+    /**
+     * The number of characters buffered before they are handed to the {@link Appendable Appendable}.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The {@link Appendable Appendable} the JSON is written to.
+     */
+    private final Appendable out;
+    /**
+     * The character used as indent when {@link PrintStyle#PRETTY_PRINTED PrintStyle.PRETTY_PRINTED} is selected.
+     */
+    private final char whitespaceChar;
+    /**
+     * The quantity of whitespace characters used per indent level.
+     */
+    private final int whitespaceCharQty;
+    /**
+     * Defines if {@code nulls} inside of arrays and objects are left out.
+     */
+    private final boolean ignoreNull;
+    /**
+     * The style the JSON is written in.
+     */
+    private final PrintStyle printStyle;
+
+    /**
+     * The characters not yet handed to the {@link Appendable Appendable}.
+     */
+    private final char[] buffer = new char[BUFFER_SIZE];
+    /**
+     * The number of characters in the {@link #buffer}.
+     */
+    private int position;
+
+    /**
+     * A line feed followed by the indent of the deepest level written so far. The indent of any lower level is a
+     * prefix of it, so that indents are generated only once per level.
+     */
+    private char[] indent = {'\n'};
+
+    /**
+     * The scopes of all currently open JSON values, the innermost being the last.
+     */
+    private int[] scopes = new int[32];
+    /**
+     * The number of open scopes.
+     */
+    private int depth;
+    /**
+     * The name of the next field, which is written together with its value.
+     */
+    private String name;
+    /**
+     * The {@link KeyCache KeyCache} used to look up escaped keys or {@code null} if keys are escaped every time.
+     */
+    private KeyCache keyCache;
+
+
+    /**
+     * Instantiates a new {@code JsonWriter} writing to the passed {@link Appendable Appendable}.
+     *
+     * @param out
+     *         the {@link Appendable Appendable}
+     * @param whitespaceChar
+     *         the whitespace char
+     * @param whitespaceCharQty
+     *         the quantity of whitespace chars to use when producing indent
+     * @param ignoreNull
+     *         ignore {@code nulls}?
+     * @param printStyle
+     *         the {@link PrintStyle PrintStyle}
+     */
+    public JsonWriter(Appendable out, char whitespaceChar, int whitespaceCharQty, boolean ignoreNull,
+                      PrintStyle printStyle) {
+
+        this.out = out;
+        this.whitespaceChar = whitespaceChar;
+        this.whitespaceCharQty = whitespaceCharQty;
+        this.ignoreNull = ignoreNull;
+        this.printStyle = printStyle;
+    }
+
+
+    /**
+     * Sets the {@link KeyCache KeyCache} used to look up the quoted and escaped keys of JSON objects.
+     *
+     * @param keyCache
+     *         the {@link KeyCache KeyCache} or {@code null} to escape keys every time
+     */
+    public void setKeyCache(KeyCache keyCache) {
+
+        this.keyCache = keyCache;
+    }
+
+    /**
+     * Starts a new JSON array.
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter beginArray() {
+
+        this.beforeValue();
+        this.write('[');
+        this.push(EMPTY_ARRAY);
+
+        return this;
+    }
+
+    /**
+     * Ends the current JSON array.
+     *
+     * @return this {@code JsonWriter}
+     *
+     * @throws IllegalStateException
+     *         if the innermost open value is not an array
+     */
+    public JsonWriter endArray() {
+
+        if (this.depth == 0 || this.scopes[this.depth - 1] > NONEMPTY_ARRAY) {
+            throw new IllegalStateException(NOT_IN_ARRAY_ERR_MSG);
+        }
+
+        this.pop();
+        this.write(']');
+
+        return this;
+    }
+
+    /**
+     * Starts a new JSON object.
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter beginObject() {
+
+        this.beforeValue();
+        this.write('{');
+        this.push(EMPTY_OBJECT);
+
+        return this;
+    }
+
+    /**
+     * Ends the current JSON object.
+     *
+     * @return this {@code JsonWriter}
+     *
+     * @throws IllegalStateException
+     *         if the innermost open value is not an object or a name is missing its value
+     */
+    public JsonWriter endObject() {
+
+        if (this.depth == 0 || this.scopes[this.depth - 1] < EMPTY_OBJECT || this.name != null) {
+            throw new IllegalStateException(NOT_IN_OBJECT_ERR_MSG);
+        }
+
+        this.pop();
+        this.write('}');
+
+        return this;
+    }
+
+    /**
+     * Sets the name of the next field of the current JSON object. The name is written together with the value, so that
+     * the whole field can be left out, if the value is {@code null} and {@code nulls} are ignored.
+     *
+     * @param name
+     *         the name
+     *
+     * @return this {@code JsonWriter}
+     *
+     * @throws IllegalStateException
+     *         if the innermost open value is not an object or the previous name is still missing its value
+     */
+    public JsonWriter name(String name) {
+
+        if (this.depth == 0 || this.scopes[this.depth - 1] < EMPTY_OBJECT || this.name != null) {
+            throw new IllegalStateException(MISPLACED_NAME_ERR_MSG);
+        }
+
+        this.name = name;
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@link String String} or {@code null}.
+     *
+     * @param value
+     *         the {@link String String}
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter value(String value) {
+
+        if (value == null) {
+            return this.nullValue();
+        }
+
+        this.beforeValue();
+        this.writeString(value);
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@code boolean}.
+     *
+     * @param value
+     *         the {@code boolean}
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter value(boolean value) {
+
+        this.beforeValue();
+        this.write(value ? "true" : "false");
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@code long}.
+     *
+     * @param value
+     *         the {@code long}
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter value(long value) {
+
+        this.beforeValue();
+        this.ensureCapacity(NumberFormatter.MAX_LONG_LENGTH);
+        this.position = NumberFormatter.writeLong(value, this.buffer, this.position);
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@code double} using the shortest decimal, that rounds to the exact same {@code double}.
+     *
+     * @param value
+     *         the {@code double}
+     *
+     * @return this {@code JsonWriter}
+     *
+     * @throws IllegalArgumentException
+     *         if the {@code double} is NaN or infinite
+     */
+    public JsonWriter value(double value) {
+
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(NOT_FINITE_ERR_MSG);
+        }
+
+        this.beforeValue();
+        this.ensureCapacity(NumberFormatter.MAX_DOUBLE_LENGTH);
+        this.position = NumberFormatter.writeDouble(value, this.buffer, this.position);
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@code float} using the shortest decimal, that rounds to the exact same {@code float}.
+     *
+     * @param value
+     *         the {@code float}
+     *
+     * @return this {@code JsonWriter}
+     *
+     * @throws IllegalArgumentException
+     *         if the {@code float} is NaN or infinite
+     */
+    public JsonWriter value(float value) {
+
+        if (!Float.isFinite(value)) {
+            throw new IllegalArgumentException(NOT_FINITE_ERR_MSG);
+        }
+
+        this.beforeValue();
+        this.ensureCapacity(NumberFormatter.MAX_FLOAT_LENGTH);
+        this.position = NumberFormatter.writeFloat(value, this.buffer, this.position);
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@link Number Number} or {@code null}.
+     *
+     * @param value
+     *         the {@link Number Number}
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter value(Number value) {
+
+        if (value == null) {
+            return this.nullValue();
+        }
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return this.value(value.longValue());
+        } else if (value instanceof Double) {
+            return this.value(value.doubleValue());
+        } else if (value instanceof Float) {
+            return this.value(value.floatValue());
+        }
+
+        this.beforeValue();
+
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            this.write(value.toString());
+        } else {
+            this.write(new BigDecimal(value.toString()).toString());
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes {@code null}. Inside of arrays and objects nothing is written, if {@code nulls} are ignored.
+     *
+     * @return this {@code JsonWriter}
+     */
+    public JsonWriter nullValue() {
+
+        if (this.ignoreNull && this.depth > 0) {
+            this.name = null;
+
+            return this;
+        }
+
+        this.beforeValue();
+        this.write("null");
+
+        return this;
+    }
+
+    /**
+     * Writes the passed {@link JsonValue JsonValue} including all of its children or {@code null}.
+     *
+     * @param value
+     *         the {@link JsonValue JsonValue}
+     *
+     * @return this {@code JsonWriter}
+     *
+     * @throws IllegalArgumentException
+     *         if the {@link JsonValue JsonValue} is neither a {@link JsonPrimitive JsonPrimitive}, nor a {@link
+     *         JsonArray JsonArray}, nor a {@link JsonObject JsonObject}
+     */
+    public JsonWriter value(JsonValue value) {
+
+        if (value == null) {
+            return this.nullValue();
+        }
+
+        if (value instanceof JsonPrimitive) {
+            JsonPrimitive jsonPrimitive = (JsonPrimitive) value;
+
+            if (jsonPrimitive.isNull()) {
+                this.nullValue();
+            } else if (jsonPrimitive.isBoolean()) {
+                this.value((boolean) jsonPrimitive.getAsBoolean());
+            } else if (jsonPrimitive.isCharacter()) {
+                this.beforeValue();
+                this.writeString(String.valueOf(jsonPrimitive.getAsCharacter()));
+            } else if (jsonPrimitive.isNumber()) {
+                this.value(jsonPrimitive.getAsNumber());
+            } else {
+                this.value(jsonPrimitive.getAsString());
+            }
+        } else if (value instanceof JsonArray) {
+            this.beginArray();
+
+            for (JsonElement element : (JsonArray) value) {
+                this.value(element.getAsJsonValue());
+            }
+
+            this.endArray();
+        } else if (value instanceof JsonObject) {
+            this.beginObject();
+
+            for (Map.Entry<String, JsonElement> entry : ((JsonObject) value).entrySet()) {
+                this.name(entry.getKey()).value(entry.getValue().getAsJsonValue());
+            }
+
+            this.endObject();
+        } else {
+            throw new IllegalArgumentException("The passed JsonValue is not supported");
+        }
+
+        return this;
+    }
+
+    /**
+     * Hands all buffered characters to the {@link Appendable Appendable} and flushes it, if it is {@link Flushable
+     * Flushable}.
+     */
+    @Override
+    public void flush() {
+
+        this.flushBuffer();
+
+        if (this.out instanceof Flushable) {
+            try {
+                ((Flushable) this.out).flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Flushes this {@code JsonWriter} and closes the {@link Appendable Appendable}, if it is {@link Closeable
+     * Closeable}.
+     *
+     * @throws IOException
+     *         if the {@link Appendable Appendable} cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.flush();
+
+        if (this.out instanceof Closeable) {
+            ((Closeable) this.out).close();
+        }
+    }
+
+    /**
+     * Writes the separator or the name, that precedes the next value of the current scope.
+     */
+    private void beforeValue() {
+
+        if (this.depth == 0) {
+            return;
+        }
+
+        int scope = this.scopes[this.depth - 1];
+
+        if (scope == NONEMPTY_ARRAY || scope == NONEMPTY_OBJECT) {
+            this.writeSeparator();
+        } else {
+            this.scopes[this.depth - 1] = scope + 1;
+        }
+
+        if (scope >= EMPTY_OBJECT) {
+            if (this.name == null) {
+                throw new IllegalStateException(MISSING_NAME_ERR_MSG);
+            }
+
+            if (this.keyCache != null) {
+                char[] key = this.keyCache.lookup(this.name);
+
+                this.write(key, 0, key.length);
+            } else {
+                this.writeString(this.name);
+            }
+
+            this.write(this.printStyle == PrintStyle.NO_WHITESPACE ? ":" : ": ");
+            this.name = null;
+        }
+    }
+
+    private void writeSeparator() {
+
+        if (this.printStyle == PrintStyle.NO_WHITESPACE) {
+            this.write(',');
+        } else if (this.printStyle == PrintStyle.SINGLE_WHITESPACE) {
+            this.write(", ");
+        } else {
+            this.write(',');
+            this.writeIndent();
+        }
+    }
+
+    private void push(int scope) {
+
+        if (this.depth == this.scopes.length) {
+            this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+        }
+
+        this.scopes[this.depth++] = scope;
+
+        if (this.printStyle == PrintStyle.PRETTY_PRINTED) {
+            this.writeIndent();
+        }
+    }
+
+    private void pop() {
+
+        this.depth--;
+
+        if (this.printStyle == PrintStyle.PRETTY_PRINTED) {
+            this.writeIndent();
+        }
+    }
+
+    /**
+     * Writes a line feed followed by the indent of the current depth. The cached indent is grown, if the current depth
+     * is deeper than any depth written before.
+     */
+    private void writeIndent() {
+
+        int length = 1 + this.depth * this.whitespaceCharQty;
+
+        if (length > this.indent.length) {
+            int oldLength = this.indent.length;
+
+            this.indent = Arrays.copyOf(this.indent, Math.max(length, oldLength * 2));
+            Arrays.fill(this.indent, oldLength, this.indent.length, this.whitespaceChar);
+        }
+
+        this.write(this.indent, 0, length);
+    }
+
+    /**
+     * Writes the passed {@link String String} as a quoted and escaped JSON string. Runs of characters, that need no
+     * escaping, are written in bulk.
+     *
+     * @param string
+     *         the {@link String String}
+     */
+    private void writeString(String string) {
+
+        int length = string.length();
+        int start = 0;
+
+        this.write('"');
+
+        while (start < length) {
+            int next = StringEscaper.nextEscape(string, start, length);
+
+            this.write(string, start, next);
+
+            if (next == length) {
+                break;
+            }
+
+            this.write(StringEscaper.escapeSequence(string.charAt(next)));
+            start = next + 1;
+        }
+
+        this.write('"');
+    }
+
+    /**
+     * Flushes the {@link #buffer}, if it has no room for the passed number of characters, so that they can be written
+     * into it directly.
+     *
+     * @param length
+     *         the number of characters
+     */
+    private void ensureCapacity(int length) {
+
+        if (BUFFER_SIZE - this.position < length) {
+            this.flushBuffer();
+        }
+    }
+
+    private void write(char c) {
+
+        if (this.position == BUFFER_SIZE) {
+            this.flushBuffer();
+        }
+
+        this.buffer[this.position++] = c;
+    }
+
+    private void write(String string) {
+
+        this.write(string, 0, string.length());
+    }
+
+    private void write(String string, int from, int to) {
+
+        while (from < to) {
+            if (this.position == BUFFER_SIZE) {
+                this.flushBuffer();
+            }
+
+            int count = Math.min(to - from, BUFFER_SIZE - this.position);
+
+            string.getChars(from, from + count, this.buffer, this.position);
+            this.position += count;
+            from += count;
+        }
+    }
+
+    private void write(char[] chars, int offset, int length) {
+
+        while (length > 0) {
+            if (this.position == BUFFER_SIZE) {
+                this.flushBuffer();
+            }
+
+            int count = Math.min(length, BUFFER_SIZE - this.position);
+
+            System.arraycopy(chars, offset, this.buffer, this.position, count);
+            this.position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Hands the buffered characters to the {@link Appendable Appendable}. {@link StringBuilder StringBuilders} and
+     * {@link Writer Writers} take the {@link #buffer} directly, any other {@link Appendable Appendable} is passed a
+     * {@link String String}.
+     */
+    private void flushBuffer() {
+
+        if (this.position == 0) {
+            return;
+        }
+
+        try {
+            if (this.out instanceof StringBuilder) {
+                ((StringBuilder) this.out).append(this.buffer, 0, this.position);
+            } else if (this.out instanceof Writer) {
+                ((Writer) this.out).write(this.buffer, 0, this.position);
+            } else {
+                this.out.append(new String(this.buffer, 0, this.position));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.position = 0;
+    }
+
+
+}
@@ -0,0 +1,127 @@
+package com.github.mavolin.maxon.utils;
+
+/**
+ * The {@code KeyCache} is a bounded cache of quoted and escaped JSON object keys, that is used by a {@link JsonWriter
+ * JsonWriter}, so that keys occurring again and again, like the names of the fields of a class, are escaped only once
+ * and then written in bulk.
+ * <p>
+ * The cache has a fixed number of slots. If two different keys fall into the same slot, the newer one replaces the
+ * older one. A {@code KeyCache} may be shared by multiple {@link JsonWriter JsonWriters}, even if they are used
+ * concurrently.
+ * </p>
+ */
+public class KeyCache {
+
+
+    /**
+     * The default number of slots.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * The maximum length of a cached key. Longer keys are escaped every time, so that the memory retained by the cache
+     * stays bounded.
+     */
+    private static final int MAX_KEY_LENGTH = 256;
+
+    /**
+     * The slots of the cache.
+     */
+    private final Entry[] entries;
+    /**
+     * The mask used to compute the slot of a hash.
+     */
+    private final int mask;
+
+
+    /**
+     * Instantiates a new {@code KeyCache} with 1024 slots.
+     */
+    public KeyCache() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new {@code KeyCache}.
+     *
+     * @param capacity
+     *         the number of slots, which will be rounded up to the next power of two
+     *
+     * @throws IllegalArgumentException
+     *         if the capacity is not positive
+     */
+    public KeyCache(int capacity) {
+
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+
+    /**
+     * Returns the passed key quoted and escaped as JSON string. If the key has been looked up before and is still in
+     * the cache, the cached characters are returned.
+     *
+     * @param key
+     *         the key
+     *
+     * @return the characters of the quoted and escaped key, which are shared by all {@link JsonWriter JsonWriters}
+     *         using this cache and thus must not be modified, which is why this method is only visible to the {@link
+     *         JsonWriter JsonWriter}
+     */
+    char[] lookup(String key) {
+
+        if (key.length() > MAX_KEY_LENGTH) {
+            return StringEscaper.quote(key).toCharArray();
+        }
+
+        int slot = key.hashCode() & this.mask;
+        Entry entry = this.entries[slot];
+
+        if (entry != null && (entry.key == key || entry.key.equals(key))) {
+            return entry.quoted;
+        }
+
+        char[] quoted = StringEscaper.quote(key).toCharArray();
+        this.entries[slot] = new Entry(key, quoted);
+
+        return quoted;
+    }
+
+
+    /**
+     * A cached key. Entries are immutable, so that they can be replaced without synchronization.
+     */
+    private static final class Entry {
+
+
+        /**
+         * The key.
+         */
+        private final String key;
+        /**
+         * The quoted and escaped key.
+         */
+        private final char[] quoted;
+
+
+        private Entry(String key, char[] quoted) {
+
+            this.key = key;
+            this.quoted = quoted;
+        }
+
+
+    }
+
+
+}
@@ -0,0 +1,654 @@
+package com.github.mavolin.maxon.utils;
+
+import java.math.BigInteger;
+
+/**
+ * The {@code NumberFormatter} writes the decimal representation of numbers straight into a {@code char[]}, without
+ * creating a {@link String String}, a {@link java.math.BigDecimal BigDecimal} or any other object per number.
+ * <p>
+ * {@code doubles} and {@code floats} are formatted using the Schubfach algorithm by Raffaello Giulietti, which yields
+ * the shortest decimal, that rounds to the exact same binary value, and is closest to it among all decimals of that
+ * length. The layout is the one of {@link Double#toString(double)}: plain notation with at least one digit after the
+ * decimal point for magnitudes in [10<sup>-3</sup>, 10<sup>7</sup>) and computerized scientific notation, like {@code
+ * 1.0E10}, otherwise.
+ * </p>
+ */
+final class NumberFormatter {
+
+
+    private static final String NOT_FINITE_ERR_MSG = "NaN and infinite numbers cannot be represented in JSON";
+
+    /**
+     * The maximum number of characters written for a {@code long}.
+     */
+    static final int MAX_LONG_LENGTH = 20;
+    /**
+     * The maximum number of characters written for a {@code double}, e.g. {@code -2.2250738585072014E-308}.
+     */
+    static final int MAX_DOUBLE_LENGTH = 24;
+    /**
+     * The maximum number of characters written for a {@code float}, e.g. {@code -1.17549435E-38}.
+     */
+    static final int MAX_FLOAT_LENGTH = 15;
+
+    /**
+     * The pairs of digits of all numbers from {@code 00} to {@code 99}.
+     */
+    private static final char[] DIGIT_PAIRS = new char[200];
+    /**
+     * The powers of ten, that fit into a {@code long}.
+     */
+    private static final long[] POW10 = new long[19];
+
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final long MASK_32 = (1L << 32) - 1;
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    /*
+     * The parameters of the binary64 format: the precision, the minimum exponent, the smallest normal significand and
+     * the largest subnormal significand, that needs an extra digit, as well as the number of digits needed to
+     * represent any double.
+     */
+    private static final int DOUBLE_P = 53;
+    private static final int DOUBLE_Q_MIN = -1074;
+    private static final long DOUBLE_C_MIN = 1L << DOUBLE_P - 1;
+    private static final long DOUBLE_C_TINY = 3;
+    private static final int DOUBLE_H = 17;
+
+    /*
+     * The parameters of the binary32 format.
+     */
+    private static final int FLOAT_P = 24;
+    private static final int FLOAT_Q_MIN = -149;
+    private static final int FLOAT_C_MIN = 1 << FLOAT_P - 1;
+    private static final int FLOAT_C_TINY = 8;
+    private static final int FLOAT_H = 9;
+
+    /**
+     * The smallest and the largest decimal exponent {@code k}, for which {@link #G} holds an approximation of
+     * 10<sup>-k</sup>.
+     */
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    /**
+     * The 126-bit approximations {@code g} of 10<sup>-k</sup> for all {@code k} from {@link #K_MIN} to {@link #K_MAX},
+     * stored as pairs of the upper and the lower 63 bits. With 10<sup>-k</sup> = &beta; 2<sup>r</sup> and
+     * 2<sup>125</sup> &le; &beta; &lt; 2<sup>126</sup>, {@code g} is floor(&beta;) + 1. The table is computed once,
+     * when the class is initialized.
+     */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[2 * i] = (char) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (char) ('0' + i % 10);
+        }
+
+        POW10[0] = 1;
+
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = 10 * POW10[i - 1];
+        }
+
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int r = flog2pow10(-k) - 125;
+            BigInteger beta;
+
+            if (k <= 0) {
+                BigInteger pow10 = BigInteger.TEN.pow(-k);
+
+                beta = r >= 0 ? pow10.shiftRight(r) : pow10.shiftLeft(-r);
+            } else {
+                beta = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+            }
+
+            BigInteger g = beta.add(BigInteger.ONE);
+
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+
+    private NumberFormatter() {
+        // private to prevent instantiation
+    }
+
+
+    /**
+     * Writes the decimal digits of the passed {@code long} into the passed array.
+     *
+     * @param value
+     *         the {@code long}
+     * @param chars
+     *         the array, which must have room for {@link #MAX_LONG_LENGTH} characters
+     * @param index
+     *         the index the first character is written to
+     *
+     * @return the index after the last written character
+     */
+    static int writeLong(long value, char[] chars, int index) {
+
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                "-9223372036854775808".getChars(0, MAX_LONG_LENGTH, chars, index);
+
+                return index + MAX_LONG_LENGTH;
+            }
+
+            chars[index++] = '-';
+            value = -value;
+        }
+
+        int length = 1;
+
+        while (length < POW10.length && value >= POW10[length]) {
+            length++;
+        }
+
+        int end = index + length;
+        int i = end;
+
+        while (value >= 100) {
+            long quotient = value / 100;
+            int pair = (int) (value - 100 * quotient) << 1;
+
+            chars[--i] = DIGIT_PAIRS[pair + 1];
+            chars[--i] = DIGIT_PAIRS[pair];
+            value = quotient;
+        }
+
+        if (value >= 10) {
+            chars[--i] = DIGIT_PAIRS[((int) value << 1) + 1];
+            chars[--i] = DIGIT_PAIRS[(int) value << 1];
+        } else {
+            chars[--i] = (char) ('0' + value);
+        }
+
+        return end;
+    }
+
+    /**
+     * Writes the shortest decimal, that rounds to the passed {@code double}, into the passed array.
+     *
+     * @param value
+     *         the {@code double}
+     * @param chars
+     *         the array, which must have room for {@link #MAX_DOUBLE_LENGTH} characters
+     * @param index
+     *         the index the first character is written to
+     *
+     * @return the index after the last written character
+     *
+     * @throws IllegalArgumentException
+     *         if the {@code double} is NaN or infinite
+     */
+    static int writeDouble(double value, char[] chars, int index) {
+
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & DOUBLE_C_MIN - 1;
+        int bq = (int) (bits >>> DOUBLE_P - 1) & 0x7FF;
+
+        if (bq == 0x7FF) {
+            throw new IllegalArgumentException(NOT_FINITE_ERR_MSG);
+        }
+
+        if (bits < 0) {
+            chars[index++] = '-';
+        }
+
+        if (bq != 0) { // normal
+            int mq = -DOUBLE_Q_MIN + 1 - bq;
+            long c = DOUBLE_C_MIN | t;
+
+            if (0 < mq && mq < DOUBLE_P) { // integers are written as they are
+                long f = c >> mq;
+
+                if (f << mq == c) {
+                    return doubleToChars(f, 0, chars, index);
+                }
+            }
+
+            return doubleToDecimal(-mq, c, 0, chars, index);
+        } else if (t != 0) { // subnormal
+            return t < DOUBLE_C_TINY ?
+                   doubleToDecimal(DOUBLE_Q_MIN, 10 * t, -1, chars, index) :
+                   doubleToDecimal(DOUBLE_Q_MIN, t, 0, chars, index);
+        }
+
+        chars[index++] = '0';
+        chars[index++] = '.';
+        chars[index++] = '0';
+
+        return index;
+    }
+
+    /**
+     * Writes the shortest decimal, that rounds to the passed {@code float}, into the passed array.
+     *
+     * @param value
+     *         the {@code float}
+     * @param chars
+     *         the array, which must have room for {@link #MAX_FLOAT_LENGTH} characters
+     * @param index
+     *         the index the first character is written to
+     *
+     * @return the index after the last written character
+     *
+     * @throws IllegalArgumentException
+     *         if the {@code float} is NaN or infinite
+     */
+    static int writeFloat(float value, char[] chars, int index) {
+
+        int bits = Float.floatToRawIntBits(value);
+        int t = bits & FLOAT_C_MIN - 1;
+        int bq = bits >>> FLOAT_P - 1 & 0xFF;
+
+        if (bq == 0xFF) {
+            throw new IllegalArgumentException(NOT_FINITE_ERR_MSG);
+        }
+
+        if (bits < 0) {
+            chars[index++] = '-';
+        }
+
+        if (bq != 0) { // normal
+            int mq = -FLOAT_Q_MIN + 1 - bq;
+            int c = FLOAT_C_MIN | t;
+
+            if (0 < mq && mq < FLOAT_P) { // integers are written as they are
+                int f = c >> mq;
+
+                if (f << mq == c) {
+                    return floatToChars(f, 0, chars, index);
+                }
+            }
+
+            return floatToDecimal(-mq, c, 0, chars, index);
+        } else if (t != 0) { // subnormal
+            return t < FLOAT_C_TINY ?
+                   floatToDecimal(FLOAT_Q_MIN, 10 * t, -1, chars, index) :
+                   floatToDecimal(FLOAT_Q_MIN, t, 0, chars, index);
+        }
+
+        chars[index++] = '0';
+        chars[index++] = '.';
+        chars[index++] = '0';
+
+        return index;
+    }
+
+    /**
+     * Computes the shortest decimal f 10<sup>e</sup> in the rounding interval of c 2<sup>q</sup> and writes it.
+     *
+     * @param q
+     *         the binary exponent
+     * @param c
+     *         the significand
+     * @param dk
+     *         the correction of the decimal exponent, if c was multiplied by 10
+     * @param chars
+     *         the array
+     * @param index
+     *         the index the first character is written to
+     *
+     * @return the index after the last written character
+     */
+    private static int doubleToDecimal(int q, long c, int dk, char[] chars, int index) {
+
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+
+        if (c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else { // the rounding interval is asymmetric at powers of two
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = roundToOdd(g1, g0, cb << h);
+        long vbl = roundToOdd(g1, g0, cbl << h);
+        long vbr = roundToOdd(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+
+        if (s >= 100) { // try a decimal with one digit less first
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+
+            if (upin != wpin) {
+                return doubleToChars(upin ? sp10 : tp10, k, chars, index);
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+
+        if (uin != win) {
+            return doubleToChars(uin ? s : t, k + dk, chars, index);
+        }
+
+        long cmp = vb - (s + t << 1);
+
+        return doubleToChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, chars, index);
+    }
+
+    /**
+     * Computes the shortest decimal f 10<sup>e</sup> in the rounding interval of c 2<sup>q</sup> and writes it.
+     *
+     * @param q
+     *         the binary exponent
+     * @param c
+     *         the significand
+     * @param dk
+     *         the correction of the decimal exponent, if c was multiplied by 10
+     * @param chars
+     *         the array
+     * @param index
+     *         the index the first character is written to
+     *
+     * @return the index after the last written character
+     */
+    private static int floatToDecimal(int q, int c, int dk, char[] chars, int index) {
+
+        int out = c & 0x1;
+        long cb = (long) c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+
+        if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else { // the rounding interval is asymmetric at powers of two
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+
+        int h = q + flog2pow10(-k) + 33;
+        long g = G[2 * (k - K_MIN)] + 1;
+
+        int vb = roundToOdd(g, cb << h);
+        int vbl = roundToOdd(g, cbl << h);
+        int vbr = roundToOdd(g, cbr << h);
+
+        int s = vb >> 2;
+
+        if (s >= 100) { // try a decimal with one digit less first
+            int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+
+            if (upin != wpin) {
+                return floatToChars(upin ? sp10 : tp10, k, chars, index);
+            }
+        }
+
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+
+        if (uin != win) {
+            return floatToChars(uin ? s : t, k + dk, chars, index);
+        }
+
+        int cmp = vb - (s + t << 1);
+
+        return floatToChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, chars, index);
+    }
+
+    /**
+     * Computes the product of g and cp, rounded to odd, scaled down by 2<sup>126</sup>.
+     */
+    private static long roundToOdd(long g1, long g0, long cp) {
+
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Computes the product of g and cp, rounded to odd, scaled down by 2<sup>95</sup>.
+     */
+    private static int roundToOdd(long g, long cp) {
+
+        long x1 = Math.multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+
+        return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Writes the decimal f 10<sup>e</sup> in the layout of {@link Double#toString(double)}.
+     */
+    private static int doubleToChars(long f, int e, char[] chars, int index) {
+
+        int length = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+
+        if (f >= POW10[length]) {
+            length++;
+        }
+
+        // scale f to exactly 17 digits, so that f 10^e = 0.f 10^(e + length)
+        f *= POW10[DOUBLE_H - length];
+        e += length;
+
+        // split f into its first digit h, the next 8 digits m and the last 8 digits l
+        long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+        int l = (int) (f - 100_000_000L * hm);
+        int h = (int) (hm * 1_441_151_881L >>> 57);
+        int m = (int) (hm - 100_000_000 * h);
+
+        if (0 < e && e <= 7) { // plain notation without leading zeros
+            chars[index++] = (char) ('0' + h);
+
+            int y = firstDigits(m);
+            int i = 1;
+
+            for (; i < e; i++) {
+                int t = 10 * y;
+
+                chars[index++] = (char) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+
+            chars[index++] = '.';
+
+            for (; i <= 8; i++) {
+                int t = 10 * y;
+
+                chars[index++] = (char) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+
+            return removeTrailingZeros(chars, l == 0 ? index : write8Digits(l, chars, index));
+        } else if (-3 < e && e <= 0) { // plain notation with leading zeros
+            chars[index++] = '0';
+            chars[index++] = '.';
+
+            for (; e < 0; e++) {
+                chars[index++] = '0';
+            }
+
+            chars[index++] = (char) ('0' + h);
+            index = write8Digits(m, chars, index);
+
+            return removeTrailingZeros(chars, l == 0 ? index : write8Digits(l, chars, index));
+        }
+
+        chars[index++] = (char) ('0' + h);
+        chars[index++] = '.';
+        index = write8Digits(m, chars, index);
+        index = removeTrailingZeros(chars, l == 0 ? index : write8Digits(l, chars, index));
+
+        return writeExponent(e - 1, chars, index);
+    }
+
+    /**
+     * Writes the decimal f 10<sup>e</sup> in the layout of {@link Float#toString(float)}.
+     */
+    private static int floatToChars(int f, int e, char[] chars, int index) {
+
+        int length = flog10pow2(Integer.SIZE - Integer.numberOfLeadingZeros(f));
+
+        if (f >= POW10[length]) {
+            length++;
+        }
+
+        // scale f to exactly 9 digits, so that f 10^e = 0.f 10^(e + length)
+        f *= (int) POW10[FLOAT_H - length];
+        e += length;
+
+        // split f into its first digit h and the last 8 digits l
+        int h = (int) (f * 1_441_151_881L >>> 57);
+        int l = f - 100_000_000 * h;
+
+        if (0 < e && e <= 7) { // plain notation without leading zeros
+            chars[index++] = (char) ('0' + h);
+
+            int y = firstDigits(l);
+            int i = 1;
+
+            for (; i < e; i++) {
+                int t = 10 * y;
+
+                chars[index++] = (char) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+
+            chars[index++] = '.';
+
+            for (; i <= 8; i++) {
+                int t = 10 * y;
+
+                chars[index++] = (char) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+
+            return removeTrailingZeros(chars, index);
+        } else if (-3 < e && e <= 0) { // plain notation with leading zeros
+            chars[index++] = '0';
+            chars[index++] = '.';
+
+            for (; e < 0; e++) {
+                chars[index++] = '0';
+            }
+
+            chars[index++] = (char) ('0' + h);
+
+            return removeTrailingZeros(chars, write8Digits(l, chars, index));
+        }
+
+        chars[index++] = (char) ('0' + h);
+        chars[index++] = '.';
+        index = removeTrailingZeros(chars, write8Digits(l, chars, index));
+
+        return writeExponent(e - 1, chars, index);
+    }
+
+    /**
+     * Writes exactly 8 digits of the passed number, including leading zeros, from left to right.
+     */
+    private static int write8Digits(int value, char[] chars, int index) {
+
+        int y = firstDigits(value);
+
+        for (int i = 0; i < 8; i++) {
+            int t = 10 * y;
+
+            chars[index++] = (char) ('0' + (t >>> 28));
+            y = t & MASK_28;
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the 8-digit number scaled to a 28-bit fixed-point fraction, from which the digits can be extracted from
+     * left to right by repeated multiplication by 10.
+     */
+    private static int firstDigits(int value) {
+
+        return (int) (Math.multiplyHigh((long) (value + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    /**
+     * Removes the trailing zeros before the passed index, but keeps the one directly after the decimal point.
+     */
+    private static int removeTrailingZeros(char[] chars, int index) {
+
+        while (chars[index - 1] == '0') {
+            index--;
+        }
+
+        return chars[index - 1] == '.' ? index + 1 : index;
+    }
+
+    private static int writeExponent(int e, char[] chars, int index) {
+
+        chars[index++] = 'E';
+
+        if (e < 0) {
+            chars[index++] = '-';
+            e = -e;
+        }
+
+        if (e >= 100) {
+            int d = e * 1_311 >>> 17; // e / 100
+
+            chars[index++] = (char) ('0' + d);
+            e -= 100 * d;
+            chars[index++] = DIGIT_PAIRS[e << 1];
+            chars[index++] = DIGIT_PAIRS[(e << 1) + 1];
+        } else if (e >= 10) {
+            chars[index++] = DIGIT_PAIRS[e << 1];
+            chars[index++] = DIGIT_PAIRS[(e << 1) + 1];
+        } else {
+            chars[index++] = (char) ('0' + e);
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns floor(e log<sub>10</sub>(2)) for |e| &le; 5456721.
+     */
+    private static int flog10pow2(int e) {
+
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * Returns floor(e log<sub>10</sub>(3/4 2)) for |e| &le; 1838394.
+     */
+    private static int flog10threeQuartersPow2(int e) {
+
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * Returns floor(e log<sub>2</sub>(10)) for |e| &le; 1233.
+     */
+    private static int flog2pow10(int e) {
+
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+
+}
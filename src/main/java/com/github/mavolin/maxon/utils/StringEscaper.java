@@ -0,0 +1,110 @@
+package com.github.mavolin.maxon.utils;
+
+/**
+ * The {@code StringEscaper} decides which characters of a JSON string must be escaped using a lookup table with one
+ * entry per ASCII character, so that a string is scanned only once and runs of characters, that need no escaping, can
+ * be written in bulk. Quotes, backslashes and all control characters below {@code 0x20} are escaped, the latter using
+ * their short form, if JSON defines one, and {@code \}{@code uXXXX} otherwise.
+ */
+final class StringEscaper {
+
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The escape sequences of all ASCII characters or {@code null} for the characters, that need no escaping.
+     */
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = "\\u00" + HEX_DIGITS[c >> 4] + HEX_DIGITS[c & 0xF];
+        }
+
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+
+    private StringEscaper() {
+
+    }
+
+
+    /**
+     * Returns the index of the first character in the specified range of the passed {@link String String}, that must
+     * be escaped.
+     *
+     * @param string
+     *         the {@link String String}
+     * @param from
+     *         the index of the first character to check
+     * @param to
+     *         the index after the last character to check
+     *
+     * @return the index of the character or {@code to}, if no character in the range must be escaped
+     */
+    static int nextEscape(String string, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            char c = string.charAt(i);
+
+            if (c < 128 && ESCAPES[c] != null) {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    /**
+     * Returns the escape sequence of the passed character, which must be one {@link #nextEscape(String, int, int)}
+     * stopped at.
+     *
+     * @param c
+     *         the character
+     *
+     * @return the escape sequence
+     */
+    static String escapeSequence(char c) {
+
+        return ESCAPES[c];
+    }
+
+    /**
+     * Returns the passed {@link String String} quoted and escaped as JSON string.
+     *
+     * @param string
+     *         the {@link String String}
+     *
+     * @return the JSON string
+     */
+    static String quote(String string) {
+
+        int length = string.length();
+        StringBuilder stringBuilder = new StringBuilder(length + 2).append('"');
+        int start = 0;
+
+        while (start < length) {
+            int next = nextEscape(string, start, length);
+
+            stringBuilder.append(string, start, next);
+
+            if (next == length) {
+                break;
+            }
+
+            stringBuilder.append(escapeSequence(string.charAt(next)));
+            start = next + 1;
+        }
+
+        return stringBuilder.append('"').toString();
+    }
+
+
+}
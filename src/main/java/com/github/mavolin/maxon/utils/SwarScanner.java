@@ -0,0 +1,124 @@
+package com.github.mavolin.maxon.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * The {@code SwarScanner} class is a utility class, that searches byte arrays eight bytes at a time, using SWAR (SIMD
+ * within a register) arithmetic on {@code long} words. The words are read through a byte array view {@link VarHandle
+ * VarHandle} in little-endian order, so that the lowest byte of a word is the first one in the array and the index of
+ * the first match is given by the number of trailing zeros of the match mask.
+ * <p>
+ * The masks are computed using the well-known "has zero byte" and "has less than" bit tricks. They may flag some bytes
+ * after a match, due to borrows propagating upwards, but never a byte before the first match, which is all that is
+ * needed to find it.
+ * </p>
+ */
+public class SwarScanner {
+
+
+    /**
+     * The view reading eight bytes of a byte array as one little-endian {@code long}.
+     */
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+                                                                                ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101_0101_0101_0101L;
+    private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+    private static final long QUOTES = ONES * '"';
+    private static final long BACKSLASHES = ONES * '\\';
+    private static final long SPACES = ONES * ' ';
+
+
+    private SwarScanner() {
+        // private to prevent instantiation
+    }
+
+    /**
+     * Returns the index of the first byte in the specified range of the passed array, that is a quote, a backslash, a
+     * control character below {@code 0x20} or not an ASCII character, i.e. the first byte, that ends a run of
+     * characters, that can be copied from a JSON string as they are.
+     *
+     * @param bytes
+     *         the array
+     * @param from
+     *         the index of the first byte to check
+     * @param to
+     *         the index after the last byte to check
+     *
+     * @return the index of the byte or {@code to}, if no byte in the range matches
+     */
+    public static int indexOfSpecial(byte[] bytes, int from, int to) {
+
+        int i = from;
+
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long word = (long) LONGS.get(bytes, i);
+            long mask = word & HIGH_BITS | zeroBytes(word ^ QUOTES) | zeroBytes(word ^ BACKSLASHES) |
+                        (word - SPACES) & ~word & HIGH_BITS;
+
+            if (mask != 0) {
+                return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+        }
+
+        for (; i < to; i++) {
+            byte b = bytes[i];
+
+            if (b < ' ' || b == '"' || b == '\\') { // bytes are signed, so non-ASCII bytes are negative
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    /**
+     * Returns the index of the first byte in the specified range of the passed array, that is not an ASCII character.
+     *
+     * @param bytes
+     *         the array
+     * @param from
+     *         the index of the first byte to check
+     * @param to
+     *         the index after the last byte to check
+     *
+     * @return the index of the byte or {@code to}, if all bytes in the range are ASCII characters
+     */
+    public static int indexOfNonAscii(byte[] bytes, int from, int to) {
+
+        int i = from;
+
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long mask = (long) LONGS.get(bytes, i) & HIGH_BITS;
+
+            if (mask != 0) {
+                return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+        }
+
+        for (; i < to; i++) {
+            if (bytes[i] < 0) {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    /**
+     * Flags the high bit of every zero byte of the passed word. Only the lowest flagged byte is guaranteed to be zero.
+     *
+     * @param word
+     *         the word
+     *
+     * @return the mask of flagged bytes
+     */
+    private static long zeroBytes(long word) {
+
+        return (word - ONES) & ~word & HIGH_BITS;
+    }
+
+
+}
@@ -0,0 +1,354 @@
+package com.github.mavolin.maxon.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * The {@code Utf8Writer} encodes characters as UTF-8 straight into bytes, without building a {@link String String} or
+ * going through a {@link java.nio.charset.CharsetEncoder CharsetEncoder}. Runs of ASCII characters are copied using a
+ * fast path, that needs a single comparison per character. Surrogate pairs are encoded as four bytes, even if they
+ * are split across two writes; unpaired surrogates are replaced by {@code '?'}, just like {@link
+ * String#getBytes(java.nio.charset.Charset)} does.
+ * <p>
+ * The bytes are either written into a {@link ByteBuffer ByteBuffer} supplied by the caller, collected in a growing
+ * array, that can be retrieved using {@link #toByteArray()}, or buffered and written to an {@link OutputStream
+ * OutputStream} or a {@link WritableByteChannel WritableByteChannel}.
+ * </p>
+ */
+public class Utf8Writer extends Writer {
+
+
+    /**
+     * The size of the buffer used when writing to an {@link OutputStream OutputStream} or a {@link WritableByteChannel
+     * WritableByteChannel}.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The {@link OutputStream OutputStream} the bytes are written to or {@code null}.
+     */
+    private final OutputStream outputStream;
+    /**
+     * The {@link WritableByteChannel WritableByteChannel} the bytes are written to or {@code null}.
+     */
+    private final WritableByteChannel channel;
+    /**
+     * The {@link ByteBuffer ByteBuffer} the bytes are written to or {@code null}.
+     */
+    private final ByteBuffer target;
+
+    /**
+     * The array the characters are encoded into. This is the backing array of the {@link #target}, if it has one.
+     */
+    private byte[] bytes;
+    /**
+     * The index in {@link #bytes} the next byte is written to.
+     */
+    private int position;
+    /**
+     * The index in {@link #bytes} no byte may be written to.
+     */
+    private int limit;
+    /**
+     * The high surrogate ending the last write, whose low surrogate is expected to start the next write, or {@code 0}.
+     */
+    private char highSurrogate;
+
+
+    /**
+     * Instantiates a new {@code Utf8Writer} collecting the bytes in a growing array.
+     */
+    public Utf8Writer() {
+
+        this(null, null, null);
+
+        this.bytes = new byte[256];
+        this.limit = this.bytes.length;
+    }
+
+    /**
+     * Instantiates a new {@code Utf8Writer} writing to the passed {@link OutputStream OutputStream}.
+     *
+     * @param outputStream
+     *         the {@link OutputStream OutputStream}
+     */
+    public Utf8Writer(OutputStream outputStream) {
+
+        this(outputStream, null, null);
+
+        this.bytes = new byte[BUFFER_SIZE];
+        this.limit = BUFFER_SIZE;
+    }
+
+    /**
+     * Instantiates a new {@code Utf8Writer} writing to the passed {@link WritableByteChannel WritableByteChannel}.
+     *
+     * @param channel
+     *         the {@link WritableByteChannel WritableByteChannel}
+     */
+    public Utf8Writer(WritableByteChannel channel) {
+
+        this(null, channel, null);
+
+        this.bytes = new byte[BUFFER_SIZE];
+        this.limit = BUFFER_SIZE;
+    }
+
+    /**
+     * Instantiates a new {@code Utf8Writer} writing into the remaining space of the passed {@link ByteBuffer
+     * ByteBuffer}. Heap buffers are encoded into in place, direct buffers are filled through a small intermediate
+     * array. The position of the {@link ByteBuffer ByteBuffer} is advanced, whenever this {@code Utf8Writer} is {@link
+     * #flush() flushed}.
+     *
+     * @param target
+     *         the {@link ByteBuffer ByteBuffer}
+     *
+     * @throws BufferOverflowException
+     *         when writing, if the remaining space of the {@link ByteBuffer ByteBuffer} is exceeded
+     */
+    public Utf8Writer(ByteBuffer target) {
+
+        this(null, null, target);
+
+        if (target.hasArray()) {
+            this.bytes = target.array();
+            this.position = target.arrayOffset() + target.position();
+            this.limit = target.arrayOffset() + target.limit();
+        } else {
+            this.bytes = new byte[Math.min(BUFFER_SIZE, Math.max(target.remaining(), 4))];
+            this.limit = this.bytes.length;
+        }
+    }
+
+    private Utf8Writer(OutputStream outputStream, WritableByteChannel channel, ByteBuffer target) {
+
+        this.outputStream = outputStream;
+        this.channel = channel;
+        this.target = target;
+    }
+
+
+    @Override
+    public void write(int c) throws IOException {
+
+        this.write(new char[]{(char) c}, 0, 1);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+
+        int end = offset + length;
+        int i = offset;
+
+        if (this.highSurrogate != 0 && i < end) {
+            if (Character.isLowSurrogate(chars[i])) {
+                this.ensureRemaining(4);
+                this.writeCodePoint(Character.toCodePoint(this.highSurrogate, chars[i++]));
+            } else {
+                this.ensureRemaining(1);
+                this.bytes[this.position++] = '?';
+            }
+
+            this.highSurrogate = 0;
+        }
+
+        while (i < end) {
+            int asciiEnd = Math.min(end, i + this.limit - this.position);
+
+            while (i < asciiEnd && chars[i] < 0x80) {
+                this.bytes[this.position++] = (byte) chars[i++];
+            }
+
+            if (i == end) {
+                break;
+            }
+
+            char c = chars[i++];
+
+            if (c < 0x80) {
+                this.ensureRemaining(1);
+                this.bytes[this.position++] = (byte) c;
+            } else if (c < 0x800) {
+                this.ensureRemaining(2);
+                this.bytes[this.position++] = (byte) (0xC0 | c >> 6);
+                this.bytes[this.position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c)) {
+                if (i == end) {
+                    this.highSurrogate = c;
+                } else if (Character.isLowSurrogate(chars[i])) {
+                    this.ensureRemaining(4);
+                    this.writeCodePoint(Character.toCodePoint(c, chars[i++]));
+                } else {
+                    this.ensureRemaining(1);
+                    this.bytes[this.position++] = '?';
+                }
+            } else if (Character.isLowSurrogate(c)) {
+                this.ensureRemaining(1);
+                this.bytes[this.position++] = '?';
+            } else {
+                this.ensureRemaining(3);
+                this.bytes[this.position++] = (byte) (0xE0 | c >> 12);
+                this.bytes[this.position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                this.bytes[this.position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    @Override
+    public void write(String string, int offset, int length) throws IOException {
+
+        char[] chars = new char[length];
+
+        string.getChars(offset, offset + length, chars, 0);
+        this.write(chars, 0, length);
+    }
+
+    /**
+     * Writes all buffered bytes to the {@link OutputStream OutputStream}, {@link WritableByteChannel
+     * WritableByteChannel} or {@link ByteBuffer ByteBuffer} and flushes the {@link OutputStream OutputStream}.
+     *
+     * @throws IOException
+     *         if the bytes cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+
+        if (this.target != null) {
+            if (this.target.hasArray()) {
+                this.target.position(this.position - this.target.arrayOffset());
+            } else {
+                this.drain();
+            }
+        } else if (this.outputStream != null || this.channel != null) {
+            this.drain();
+        }
+
+        if (this.outputStream != null) {
+            this.outputStream.flush();
+        }
+    }
+
+    /**
+     * Flushes this {@code Utf8Writer} and closes the {@link OutputStream OutputStream} or {@link WritableByteChannel
+     * WritableByteChannel}. A high surrogate ending the last write is replaced by {@code '?'}.
+     *
+     * @throws IOException
+     *         if the bytes cannot be written or the target cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.finish();
+        this.flush();
+
+        if (this.outputStream != null) {
+            this.outputStream.close();
+        } else if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Returns a copy of the bytes collected by a {@code Utf8Writer} created using {@link #Utf8Writer()}. A high
+     * surrogate ending the last write is replaced by {@code '?'}.
+     *
+     * @return the UTF-8 encoded bytes
+     *
+     * @throws IllegalStateException
+     *         if this {@code Utf8Writer} writes to a target
+     */
+    public byte[] toByteArray() {
+
+        if (this.outputStream != null || this.channel != null || this.target != null) {
+            throw new IllegalStateException("The bytes have been written to the target of this Utf8Writer");
+        }
+
+        try {
+            this.finish();
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // unreachable, the array grows instead of being written
+        }
+
+        return Arrays.copyOf(this.bytes, this.position);
+    }
+
+    /**
+     * Replaces a high surrogate ending the last write by {@code '?'}, since its low surrogate will not follow anymore.
+     *
+     * @throws IOException
+     *         if the bytes cannot be written
+     */
+    private void finish() throws IOException {
+
+        if (this.highSurrogate != 0) {
+            this.ensureRemaining(1);
+            this.bytes[this.position++] = '?';
+            this.highSurrogate = 0;
+        }
+    }
+
+    private void writeCodePoint(int codePoint) {
+
+        this.bytes[this.position++] = (byte) (0xF0 | codePoint >> 18);
+        this.bytes[this.position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        this.bytes[this.position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        this.bytes[this.position++] = (byte) (0x80 | codePoint & 0x3F);
+    }
+
+    /**
+     * Makes sure, that the passed number of bytes can be written, by draining or growing {@link #bytes}.
+     *
+     * @param count
+     *         the number of bytes
+     *
+     * @throws IOException
+     *         if the bytes cannot be written
+     */
+    private void ensureRemaining(int count) throws IOException {
+
+        if (this.limit - this.position < count) {
+            this.drain();
+        }
+    }
+
+    /**
+     * Empties {@link #bytes} by writing them to the target or, if there is none, grows it.
+     *
+     * @throws IOException
+     *         if the bytes cannot be written
+     * @throws BufferOverflowException
+     *         if the remaining space of the target {@link ByteBuffer ByteBuffer} is exceeded
+     */
+    private void drain() throws IOException {
+
+        if (this.outputStream != null) {
+            this.outputStream.write(this.bytes, 0, this.position);
+        } else if (this.channel != null) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(this.bytes, 0, this.position);
+
+            while (byteBuffer.hasRemaining()) {
+                this.channel.write(byteBuffer);
+            }
+        } else if (this.target != null) {
+            if (this.target.hasArray()) {
+                throw new BufferOverflowException();
+            }
+
+            this.target.put(this.bytes, 0, this.position);
+        } else {
+            this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+            this.limit = this.bytes.length;
+
+            return;
+        }
+
+        this.position = 0;
+    }
+
+
+}
@@ -1,6 +1,6 @@
 /**
  * Contains the {@link com.github.mavolin.maxon.utils.JsonPrinter JsonPrinter} used to generate a
  * {@link java.lang.String String} output from the three {@link com.github.mavolin.maxon.jsonvalues.JsonValue
- * JsonValues}.
+ * JsonValues} and the {@link com.github.mavolin.maxon.utils.JsonWriter JsonWriter} it writes the output with.
  */
 package com.github.mavolin.maxon.utils;
\ No newline at end of file
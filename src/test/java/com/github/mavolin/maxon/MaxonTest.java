@@ -1,14 +1,39 @@
 package com.github.mavolin.maxon;
 
 import com.github.mavolin.maxon.convert.Serialize;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
 import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
 import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,6 +105,153 @@ class MaxonTest {
                      maxon.getFromJson("{ \"str\": \"Hello World!\", \"i\": 3 }", TestObject1.class));
     }
 
+    @Test
+    void getFromJsonBytesTest() {
+
+        Maxon maxon = new Maxon();
+
+        byte[] json = "{ \"str\": \"Hello World!\", \"i\": 3 }".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new TestObject1(), maxon.getFromJson(json, TestObject1.class));
+        assertEquals(new TestObject1(), maxon.getFromJson(json, 0, json.length, TestObject1.class));
+        assertEquals(new TestObject1(), maxon.getFromJson(ByteBuffer.wrap(json), TestObject1.class));
+        assertEquals(3, maxon.getFromJson(json, json.length - 3, 1, int.class));
+    }
+
+    @Test
+    void getFromJsonStreamTest() throws IOException {
+
+        Maxon maxon = new Maxon();
+
+        String json = "{ \"str\": \"Hello World!\", \"i\": 3 } // trailing comment";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new TestObject1(), maxon.getFromJson(new StringReader(json), TestObject1.class));
+        assertEquals(new TestObject1(), maxon.getFromJson(new ByteArrayInputStream(bytes), TestObject1.class));
+
+        try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes))) {
+            assertEquals(new TestObject1(), maxon.getFromJson(channel, TestObject1.class));
+        }
+
+        assertThrows(JsonParsingException.class,
+                     () -> maxon.getFromJson(new StringReader("{ \"str\": "), TestObject1.class));
+    }
+
+    @Test
+    void writeJsonTest() {
+
+        Maxon maxon = new MaxonConfigurator().setPrintStyle(PrintStyle.PRETTY_PRINTED).buildMaxon();
+        TestObject1 testObject = new TestObject1();
+        String json = maxon.getAsJson(testObject);
+
+        StringBuilder stringBuilder = new StringBuilder();
+        StringWriter stringWriter = new StringWriter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        maxon.writeJson(testObject, stringBuilder);
+        maxon.writeJson(testObject, stringWriter);
+        maxon.writeJson(testObject, outputStream);
+
+        assertEquals(json, stringBuilder.toString());
+        assertEquals(json, stringWriter.toString());
+        assertEquals(json, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeJsonDirectTest() {
+
+        TestObject3 testObject = new TestObject3();
+
+        for (PrintStyle printStyle : PrintStyle.values()) {
+            for (boolean ignoreNull : new boolean[]{true, false}) {
+                Maxon maxon = new MaxonConfigurator().setPrintStyle(printStyle).setIgnoreNull(ignoreNull).buildMaxon();
+
+                assertEquals(maxon.getAsJson(maxon.getAsJsonValue(testObject)), maxon.getAsJson(testObject));
+            }
+        }
+    }
+
+    @Test
+    void writeJsonBytesTest() throws IOException {
+
+        Maxon maxon = new Maxon();
+        JsonObject jsonObject = new JsonObject().put("text", "Gr\u00FC\u00DFe \uD83D\uDE00").put("n", 1);
+        byte[] json = maxon.getAsJson(jsonObject).getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(json, maxon.getAsJsonBytes(jsonObject));
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(json.length);
+
+        maxon.writeJson(jsonObject, byteBuffer);
+
+        assertArrayEquals(json, byteBuffer.array());
+        assertFalse(byteBuffer.hasRemaining());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (WritableByteChannel channel = Channels.newChannel(outputStream)) {
+            maxon.writeJson(jsonObject, channel);
+        }
+
+        assertArrayEquals(json, outputStream.toByteArray());
+    }
+
+    @Test
+    void getFromJsonLinesTest() {
+
+        Maxon maxon = new Maxon();
+
+        byte[] json = "{ \"str\": \"Hello World!\", \"i\": 3 }\n{ \"str\": \"Hello World!\", \"i\": 3 }\n"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(List.of(new TestObject1(), new TestObject1()),
+                     maxon.getFromJsonLines(json, TestObject1.class, true).collect(Collectors.toList()));
+
+        byte[] withNull = "{ \"str\": \"Hello World!\", \"i\": 3 }\nnull\n".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(Arrays.asList(new TestObject1(), null),
+                     maxon.getFromJsonLines(withNull, TestObject1.class, true).collect(Collectors.toList()));
+    }
+
+    @Test
+    void getFromJsonPathTest() throws IOException {
+
+        Maxon maxon = new Maxon();
+
+        Path path = Files.createTempFile("maxon", ".json");
+
+        try {
+            Files.write(path, "{ \"str\": \"Hello World!\", \"i\": 3 }".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(new TestObject1(), maxon.getFromJson(path, TestObject1.class));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void getFromJsonReaderTest() {
+
+        Maxon maxon = new Maxon();
+
+        String json = "{\"nested\": {\"str\": \"Hello World!\", \"i\": 3}, \"skipped\": [1, 2], " +
+                      "\"raw\": {\"a\": [true]}, \"count\": null}";
+        TestObject2 testObject = maxon.getFromJson(json, TestObject2.class);
+
+        assertEquals(new TestObject1(), testObject.nested);
+        assertEquals(new JsonObject().put("a", new JsonArray().add(true)), testObject.raw);
+        assertNull(testObject.count);
+
+        JsonReader jsonReader = new JsonReader("[{\"str\": \"Hello World!\", \"i\": 3}, 7]");
+
+        assertEquals(JsonToken.START_ARRAY, jsonReader.nextToken());
+        assertEquals(JsonToken.START_OBJECT, jsonReader.nextToken());
+        assertEquals(new TestObject1(), maxon.getFromJson(jsonReader, TestObject1.class));
+        assertEquals(7, maxon.getFromJson(jsonReader, int.class));
+        assertEquals(JsonToken.END_ARRAY, jsonReader.nextToken());
+        assertThrows(JsonParsingException.class, () -> maxon.getFromJson("{\"nested\": {}} {}", TestObject2.class));
+    }
+
 
     static class TestObject1 {
 
@@ -104,4 +276,41 @@ class MaxonTest {
     }
 
 
+    static class TestObject2 {
+
+
+        TestObject1 nested;
+        JsonObject raw;
+        Integer count = 5;
+
+
+    }
+
+
+    static class TestObject3 {
+
+
+        TestObject1 nested = new TestObject1();
+        TestObject2 empty = new TestObject2();
+        JsonObject raw = new JsonObject().put("a", 1.5).put("b", (String) null);
+        String missing;
+        char c = '"';
+        double d = 1.0E10;
+        float f = 0.1f;
+        int[] ints = {1, -2, 3};
+        char[] chars = {'x', '\n'};
+        double[] doubles = {0.5, 1.0E-5};
+        Object[] objects = {"s", null, 7L, new int[0]};
+        ArrayList<String> list = new ArrayList<>(List.of("a", "b"));
+        LinkedList<Integer> emptyList = new LinkedList<>();
+        TreeMap<String, Double> map = new TreeMap<>(Map.of("x", 1.0, "y", 2.5));
+        AtomicIntegerArray atomics = new AtomicIntegerArray(new int[]{4, 5});
+        AtomicBoolean flag = new AtomicBoolean(true);
+        PrintStyle printStyle = PrintStyle.PRETTY_PRINTED;
+        LocalDate date = LocalDate.of(2020, 2, 29);
+
+
+    }
+
+
 }
\ No newline at end of file
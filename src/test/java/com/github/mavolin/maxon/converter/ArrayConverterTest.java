@@ -0,0 +1,109 @@
+package com.github.mavolin.maxon.converter;
+
+import com.github.mavolin.maxon.Maxon;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayConverterTest {
+
+
+    @Test
+    void getAsJsonTest() {
+
+        ArrayConverter arrayConverter = new ArrayConverter();
+        Maxon maxon = new Maxon();
+
+        assertEquals(new JsonArray().add(1).add(-2).add(3), arrayConverter.getAsJson(new int[]{1, -2, 3}, maxon));
+        assertEquals(new JsonArray().add(true).add(false), arrayConverter.getAsJson(new boolean[]{true, false}, maxon));
+        assertEquals(new JsonArray().add(new JsonPrimitive('a')), arrayConverter.getAsJson(new char[]{'a'}, maxon));
+        assertEquals(new JsonArray().add("a").add("b"), arrayConverter.getAsJson(new String[]{"a", "b"}, maxon));
+        assertEquals(new JsonArray(), arrayConverter.getAsJson(new double[0], maxon));
+        assertThrows(JsonParsingException.class, () -> arrayConverter.getAsJson("Hello World!", maxon));
+    }
+
+    @Test
+    void getFromJsonTest() {
+
+        ArrayConverter arrayConverter = new ArrayConverter();
+        Maxon maxon = new Maxon();
+
+        assertArrayEquals(new long[]{1, 2, 3},
+                          arrayConverter.getFromJson(new JsonArray().add(1).add(2).add(3), long[].class, maxon));
+        assertArrayEquals(new String[]{"a", null},
+                          arrayConverter.getFromJson(new JsonArray().add("a").add(JsonPrimitive.NULL), String[].class,
+                                                     maxon));
+        assertThrows(JsonParsingException.class, () -> arrayConverter
+                .getFromJson(new JsonArray().add(1).add(JsonPrimitive.NULL), int[].class, maxon));
+        assertThrows(JsonParsingException.class, () -> arrayConverter
+                .getFromJson(new JsonPrimitive(1), int[].class, maxon));
+    }
+
+    @Test
+    void getFromJsonReaderTest() {
+
+        ArrayConverter arrayConverter = new ArrayConverter();
+        Maxon maxon = new Maxon();
+
+        StringBuilder json = new StringBuilder("[");
+        int[] ints = new int[100];
+
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i * 31 - 1000;
+            json.append(i == 0 ? "" : ", ").append(ints[i]);
+        }
+
+        assertArrayEquals(ints, arrayConverter.getFromJson(reader(json.append(']').toString()), int[].class, maxon));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 0},
+                          arrayConverter.getFromJson(reader("[-9223372036854775808, 0]"), long[].class, maxon));
+        assertArrayEquals(new double[]{1.5, -2e3, 7, 0.1},
+                          arrayConverter.getFromJson(reader("[1.5, -2e3, 7, 0.1]"), double[].class, maxon));
+        assertArrayEquals(new float[]{0.1f, 3f},
+                          arrayConverter.getFromJson(reader("[0.1, 3]"), float[].class, maxon));
+        assertArrayEquals(new byte[]{-1, 127}, arrayConverter.getFromJson(reader("[-1, 127]"), byte[].class, maxon));
+        assertArrayEquals(new short[]{-1, 300}, arrayConverter.getFromJson(reader("[-1, 300]"), short[].class, maxon));
+        assertArrayEquals(new boolean[]{true, false},
+                          arrayConverter.getFromJson(reader("[true, false]"), boolean[].class, maxon));
+        assertArrayEquals(new char[]{'a', '\n'},
+                          arrayConverter.getFromJson(reader("[\"a\", \"\\n\"]"), char[].class, maxon));
+        assertArrayEquals(new int[0], arrayConverter.getFromJson(reader("[]"), int[].class, maxon));
+        assertArrayEquals(new String[]{"a", null},
+                          arrayConverter.getFromJson(reader("[\"a\", null]"), String[].class, maxon));
+        assertArrayEquals(new int[][]{{1}, {}, {2, 3}},
+                          arrayConverter.getFromJson(reader("[[1], [], [2, 3]]"), int[][].class, maxon));
+
+        assertThrows(JsonParsingException.class,
+                     () -> arrayConverter.getFromJson(reader("[1, null]"), int[].class, maxon));
+        assertThrows(JsonParsingException.class,
+                     () -> arrayConverter.getFromJson(reader("[\"ab\"]"), char[].class, maxon));
+        assertThrows(JsonParsingException.class,
+                     () -> arrayConverter.getFromJson(reader("{}"), int[].class, maxon));
+    }
+
+    @Test
+    void maxonTest() {
+
+        Maxon maxon = new Maxon();
+
+        assertArrayEquals(new int[]{1, 2, 3}, maxon.getFromJson("[1, 2, 3]", int[].class));
+        assertArrayEquals(new double[]{0.5, 2}, maxon.getFromJson("[0.5, 2]", double[].class));
+        assertArrayEquals(new long[]{4, 5}, maxon.getFromJson(maxon.getAsJsonValue(new long[]{4, 5}), long[].class));
+        assertArrayEquals(new String[]{"x"}, maxon.getFromJson("[\"x\"]", String[].class));
+    }
+
+    private static JsonReader reader(String json) {
+
+        JsonReader jsonReader = new JsonReader(json);
+
+        jsonReader.nextToken();
+
+        return jsonReader;
+    }
+
+
+}
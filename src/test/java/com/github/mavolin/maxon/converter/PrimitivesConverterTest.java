@@ -4,6 +4,7 @@ import com.github.mavolin.maxon.exceptions.IllegalTypeRequestedException;
 import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.parsing.JsonReader;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
@@ -98,5 +99,38 @@ class PrimitivesConverterTest {
                 primitivesConverter.getFromJson(trueBool, String.class));
     }
 
+    @Test
+    void getFromJsonReaderTest() {
+
+        PrimitivesConverter primitivesConverter = new PrimitivesConverter();
+
+        assertEquals(true, read(primitivesConverter, "true", boolean.class));
+        assertEquals('m', read(primitivesConverter, "\"m\"", Character.class));
+        assertEquals((byte) 123, read(primitivesConverter, "123", byte.class));
+        assertEquals((short) 1234, read(primitivesConverter, "1234", Short.class));
+        assertEquals(-12345, read(primitivesConverter, "-12345", int.class));
+        assertEquals(Long.MAX_VALUE, read(primitivesConverter, "9223372036854775807", Long.class));
+        assertEquals(0.1f, read(primitivesConverter, "0.1", float.class));
+        assertEquals(1.5E300, read(primitivesConverter, "1.5E300", Double.class));
+        assertEquals(new BigInteger("123456789012345678901234567890"),
+                     read(primitivesConverter, "123456789012345678901234567890", BigInteger.class));
+        assertEquals(new BigDecimal("12345.6789"), read(primitivesConverter, "12345.6789", BigDecimal.class));
+        assertEquals("Hello World!", read(primitivesConverter, "\"Hello World!\"", String.class));
+
+        assertThrows(IllegalTypeRequestedException.class, () -> read(primitivesConverter, "1", boolean.class));
+        assertThrows(IllegalTypeRequestedException.class, () -> read(primitivesConverter, "\"mm\"", char.class));
+        assertThrows(IllegalTypeRequestedException.class, () -> read(primitivesConverter, "\"1\"", int.class));
+        assertThrows(IllegalTypeRequestedException.class, () -> read(primitivesConverter, "1", String.class));
+    }
+
+    private static <T> T read(PrimitivesConverter primitivesConverter, String json, Class<T> clazz) {
+
+        JsonReader jsonReader = new JsonReader(json);
+
+        jsonReader.nextToken();
+
+        return primitivesConverter.getFromJson(jsonReader, clazz, null);
+    }
+
 
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import com.github.mavolin.maxon.convert.DeserializationConstructor;
 import com.github.mavolin.maxon.convert.Serialize;
 import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import com.github.mavolin.maxon.parsing.JsonReader;
+import com.github.mavolin.maxon.parsing.JsonToken;
 import org.junit.jupiter.api.Test;
 
 import java.util.Objects;
@@ -93,6 +95,74 @@ class UniversalObjectConverterTest {
                                                           new Maxon()));
     }
 
+    @Test
+    void getFromJsonReaderTest() {
+
+        UniversalObjectConverter universalObjectConverter = new UniversalObjectConverter();
+
+        StandardObject testObject = new StandardObject();
+        testObject.str = "Hello World!";
+        testObject.i = 9;
+
+        JsonReader jsonReader = new JsonReader("{\"unknown\": {\"a\": [1, {}]}, \"str\": \"Hello World!\", " +
+                                               "\"i\": 9}");
+
+        jsonReader.nextToken();
+
+        assertEquals(testObject, universalObjectConverter.getFromJson(jsonReader, StandardObject.class, new Maxon()));
+        assertEquals(JsonToken.END_OBJECT, jsonReader.currentToken());
+        assertNull(jsonReader.nextToken());
+
+        JsonReader array = new JsonReader("[]");
+
+        array.nextToken();
+
+        assertThrows(JsonParsingException.class,
+                     () -> universalObjectConverter.getFromJson(array, StandardObject.class, new Maxon()));
+    }
+
+    @Test
+    void getFromJsonReaderAbortOnMissingFieldTest() {
+
+        UniversalObjectConverter universalObjectConverter = new UniversalObjectConverter();
+
+        AbortOnMissingFieldObject testObject = new AbortOnMissingFieldObject();
+        testObject.i = 9;
+
+        JsonReader missingStr = new JsonReader("{\"i\": 9}");
+        JsonReader missingI = new JsonReader("{\"str\": \"Hello World!\"}");
+
+        missingStr.nextToken();
+        missingI.nextToken();
+
+        assertEquals(testObject,
+                     universalObjectConverter.getFromJson(missingStr, AbortOnMissingFieldObject.class, new Maxon()));
+        assertThrows(JsonParsingException.class, () ->
+                universalObjectConverter.getFromJson(missingI, AbortOnMissingFieldObject.class, new Maxon()));
+    }
+
+    @Test
+    void getFromJsonReaderDeserializationConstructorTest() {
+
+        UniversalObjectConverter universalObjectConverter = new UniversalObjectConverter();
+
+        DeserializationConstructorObject testObject = new DeserializationConstructorObject("Hello World!");
+        testObject.i = 9;
+
+        JsonReader jsonReader = new JsonReader("{\"i\": 9, \"str\": \"Hello World!\"}");
+        JsonReader missingStr = new JsonReader("{\"i\": 9}");
+
+        jsonReader.nextToken();
+        missingStr.nextToken();
+
+        assertEquals(testObject,
+                     universalObjectConverter.getFromJson(jsonReader, DeserializationConstructorObject.class,
+                                                          new Maxon()));
+        assertThrows(JsonParsingException.class, () ->
+                universalObjectConverter.getFromJson(missingStr, DeserializationConstructorObject.class,
+                                                     new Maxon()));
+    }
+
     static class StandardObject {
 
 
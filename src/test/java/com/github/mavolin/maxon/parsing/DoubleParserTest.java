@@ -0,0 +1,68 @@
+package com.github.mavolin.maxon.parsing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleParserTest {
+
+
+    @Test
+    void parseTest() {
+
+        String[] numbers = {
+                "0.0", "-0.0", "1.5", "-1.5", "0.1", "3.141592653589793", "1e0", "1E+2", "1e-2", "123.456e7",
+                "2.2250738585072014e-308", "2.2250738585072011e-308", "4.9e-324", "1e-400", "1.7976931348623157e308",
+                "1.7976931348623159e308", "1e400", "9007199254740993.0", "9007199254740992.5",
+                "0.000000000000000000000000000000123456789", "12345678901234567890123456789.0e-10",
+                "7.2057594037927933e16", "1.00000000000000011102230246251565404236316680908203125",
+                "1.00000000000000011102230246251565404236316680908203124", "2.4703282292062327e-324",
+                "2.4703282292062328e-324", "8.98846567431158e307", "0.30000000000000004"
+        };
+
+        for (String number : numbers) {
+            assertEquals(Double.parseDouble(number), parse(number), number);
+        }
+    }
+
+    @Test
+    void parseRandomTest() {
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+
+            String number = Double.toString(value);
+
+            assertEquals(value, parse(number), number);
+        }
+
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder number = new StringBuilder();
+
+            number.append(random.nextInt(1_000_000)).append('.');
+
+            for (int digits = 1 + random.nextInt(25); digits > 0; digits--) {
+                number.append(random.nextInt(10));
+            }
+
+            number.append('e').append(random.nextInt(640) - 320);
+
+            assertEquals(Double.parseDouble(number.toString()), parse(number.toString()), number.toString());
+        }
+    }
+
+    private static double parse(String number) {
+
+        return DoubleParser.parse(number.toCharArray(), 0, number.length());
+    }
+
+
+}
@@ -0,0 +1,209 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.IllegalTypeRequestedException;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReaderTest {
+
+
+    @Test
+    void nextTokenTest() {
+
+        JsonReader jsonReader = new JsonReader("{\"id\": 42, \"tags\": [\"a\", true, null], // comment\n" +
+                                               "\"nested\": {\"pi\": 3.14, \"ok\": false}}");
+
+        assertNull(jsonReader.currentToken());
+        assertEquals(JsonToken.START_OBJECT, jsonReader.nextToken());
+        assertNull(jsonReader.currentName());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals("id", jsonReader.currentName());
+        assertEquals("id", jsonReader.getString());
+        assertEquals(JsonToken.NUMBER, jsonReader.nextToken());
+        assertEquals("id", jsonReader.currentName());
+        assertEquals(42, jsonReader.getLong());
+        assertEquals(42, jsonReader.getInt());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals(JsonToken.START_ARRAY, jsonReader.nextToken());
+        assertEquals("tags", jsonReader.currentName());
+        assertEquals(JsonToken.STRING, jsonReader.nextToken());
+        assertNull(jsonReader.currentName());
+        assertEquals("a", jsonReader.getString());
+        assertEquals(JsonToken.TRUE, jsonReader.nextToken());
+        assertTrue(jsonReader.getBoolean());
+        assertEquals(JsonToken.NULL, jsonReader.nextToken());
+        assertEquals(JsonToken.END_ARRAY, jsonReader.nextToken());
+        assertEquals("tags", jsonReader.currentName());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals(JsonToken.START_OBJECT, jsonReader.nextToken());
+        assertEquals("nested", jsonReader.currentName());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals(JsonToken.NUMBER, jsonReader.nextToken());
+        assertEquals(3.14, jsonReader.getDouble());
+        assertEquals(new BigDecimal("3.14"), jsonReader.getBigDecimal());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals(JsonToken.FALSE, jsonReader.nextToken());
+        assertFalse(jsonReader.getBoolean());
+        assertEquals(JsonToken.END_OBJECT, jsonReader.nextToken());
+        assertEquals(JsonToken.END_OBJECT, jsonReader.nextToken());
+        assertNull(jsonReader.nextToken());
+        assertNull(jsonReader.nextToken());
+    }
+
+    @Test
+    void nextTokenIllegalJsonTest() {
+
+        assertThrows(JsonParsingException.class, () -> readAll("[1, 2"));
+        assertThrows(JsonParsingException.class, () -> readAll("[1 2]"));
+        assertThrows(JsonParsingException.class, () -> readAll("[1, ]"));
+        assertThrows(JsonParsingException.class, () -> readAll("{\"a\" 1}"));
+        assertThrows(JsonParsingException.class, () -> readAll("{a: 1}"));
+        assertThrows(JsonParsingException.class, () -> readAll("{\"a\": 1,}"));
+        assertThrows(JsonParsingException.class, () -> readAll("1 2"));
+        assertThrows(JsonParsingException.class, () -> readAll("nul"));
+        assertThrows(JsonParsingException.class, () -> readAll(""));
+    }
+
+    @Test
+    void illegalTypeRequestTest() {
+
+        JsonReader jsonReader = new JsonReader("[\"a\"]");
+
+        jsonReader.nextToken();
+        assertThrows(IllegalTypeRequestedException.class, jsonReader::getString);
+
+        jsonReader.nextToken();
+        assertThrows(IllegalTypeRequestedException.class, jsonReader::getNumber);
+        assertThrows(IllegalTypeRequestedException.class, jsonReader::getBoolean);
+    }
+
+    @Test
+    void skipChildrenTest() {
+
+        JsonReader jsonReader = new JsonReader("{\"skip\": {\"a\": [1, {\"b\": 2}], \"c\": \"}\"}, \"keep\": 1}");
+
+        jsonReader.nextToken();
+        jsonReader.nextToken();
+        assertEquals(JsonToken.START_OBJECT, jsonReader.nextToken());
+
+        jsonReader.skipChildren();
+        assertEquals(JsonToken.END_OBJECT, jsonReader.currentToken());
+        assertEquals("skip", jsonReader.currentName());
+
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals("keep", jsonReader.currentName());
+        assertEquals(JsonToken.NUMBER, jsonReader.nextToken());
+        assertEquals(1, jsonReader.getInt());
+    }
+
+    @Test
+    void streamingTest() throws IOException {
+
+        StringBuilder json = new StringBuilder("[");
+
+        for (int i = 0; i < 20000; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+
+            json.append("{\"id\": ").append(i).append(", \"name\": \"näme ").append(i).append("\"}");
+        }
+
+        json.append("]");
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (JsonReader reader = new JsonReader(new StringReader(json.toString()));
+             JsonReader inputStream = new JsonReader(new ByteArrayInputStream(bytes))) {
+            for (JsonReader jsonReader : new JsonReader[]{reader, inputStream}) {
+                long idSum = 0;
+                int names = 0;
+                JsonToken token;
+
+                while ((token = jsonReader.nextToken()) != null) {
+                    if (token == JsonToken.NUMBER) {
+                        idSum += jsonReader.getLong();
+                    } else if (token == JsonToken.STRING) {
+                        assertEquals("näme " + names++, jsonReader.getString());
+                    }
+                }
+
+                assertEquals(20000L * 19999 / 2, idSum);
+                assertEquals(20000, names);
+            }
+
+            assertEquals(json.length() - 1, reader.getIndex());
+            assertEquals(bytes.length - 1, inputStream.getIndex());
+        }
+    }
+
+    @Test
+    void resetTest() {
+
+        JsonTokener jsonTokener = new JsonTokener("{\"a\": [1");
+        JsonReader jsonReader = new JsonReader(jsonTokener);
+
+        assertEquals(JsonToken.START_OBJECT, jsonReader.nextToken());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals(JsonToken.START_ARRAY, jsonReader.nextToken());
+        assertEquals(JsonToken.NUMBER, jsonReader.nextToken());
+
+        jsonTokener.reset("[true]");
+        jsonReader.reset();
+
+        assertNull(jsonReader.currentToken());
+        assertNull(jsonReader.currentName());
+        assertEquals(JsonToken.START_ARRAY, jsonReader.nextToken());
+        assertEquals(JsonToken.TRUE, jsonReader.nextToken());
+        assertEquals(JsonToken.END_ARRAY, jsonReader.nextToken());
+        assertNull(jsonReader.nextToken());
+    }
+
+    @Test
+    void numberGetterTest() {
+
+        JsonReader jsonReader = new JsonReader("[12345678901234567890, 2.5e2, -7, 0.1]");
+
+        jsonReader.nextToken();
+        jsonReader.nextToken();
+
+        assertEquals(1.2345678901234567e19, jsonReader.getDouble());
+        assertEquals(new BigDecimal("12345678901234567890"), jsonReader.getBigDecimal());
+
+        jsonReader.nextToken();
+
+        assertEquals(250.0, jsonReader.getDouble());
+        assertEquals(250, jsonReader.getLong());
+
+        jsonReader.nextToken();
+
+        assertEquals(-7, jsonReader.getInt());
+        assertEquals(-7.0, jsonReader.getDouble());
+        assertEquals(-7L, jsonReader.getNumber());
+
+        jsonReader.nextToken();
+
+        assertEquals(0.1, jsonReader.getDouble());
+        assertEquals(new BigDecimal("0.1"), jsonReader.getNumber());
+    }
+
+    private static void readAll(String json) {
+
+        JsonReader jsonReader = new JsonReader(json);
+
+        //noinspection StatementWithEmptyBody
+        while (jsonReader.nextToken() != null) {
+            // consume
+        }
+    }
+
+
+}
@@ -0,0 +1,71 @@
+package com.github.mavolin.maxon.parsing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A simple benchmark of the lexer, that reads a generated document with the {@link JsonReader JsonReader} over both
+ * tokeners. It is not run as part of the tests; run its {@code main} method from the IDE or with the test classpath.
+ */
+class JsonTokenerBenchmark {
+
+
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int ITERATIONS = 50;
+
+
+    public static void main(String[] args) {
+
+        String json = createDocument();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        System.out.printf("document: %d characters%n", json.length());
+
+        run("JsonTokener", () -> read(new JsonTokener(json)));
+        run("Utf8JsonTokener", () -> read(new Utf8JsonTokener(bytes)));
+    }
+
+    private static void run(String name, Runnable runnable) {
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runnable.run();
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+
+        long nanos = (System.nanoTime() - start) / ITERATIONS;
+
+        System.out.printf("%-16s %8.3f ms/op%n", name, nanos / 1e6);
+    }
+
+    private static void read(JsonTokener jsonTokener) {
+
+        JsonReader jsonReader = new JsonReader(jsonTokener);
+
+        while (jsonReader.nextToken() != null) {
+            // only the lexing is measured
+        }
+    }
+
+    private static String createDocument() {
+
+        StringBuilder json = new StringBuilder("[\n");
+
+        for (int i = 0; i < 100_000; i++) {
+            json.append(i == 0 ? "" : ",\n")
+                    .append("  // entry ").append(i).append('\n')
+                    .append("  {\n    \"id\": ").append(i)
+                    .append(",\n    \"active\": ").append(i % 2 == 0)
+                    .append(",\n    \"parent\": null")
+                    .append(",\n    \"score\": ").append(i * 0.25)
+                    .append(",\n    \"tags\": [true, false, null, -").append(i).append("]\n  }");
+        }
+
+        return json.append("\n]").toString();
+    }
+
+
+}
@@ -3,6 +3,7 @@ package com.github.mavolin.maxon.parsing;
 import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -164,17 +165,32 @@ class JsonTokenerTest {
         JsonTokener negativeExponentTokener = new JsonTokener("1e-2");
         JsonTokener doubleExponentTokener = new JsonTokener("1e12");
 
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(-1), (BigDecimal) negativeNumTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(-1), negativeNumTokener.nextNumber(), 0);
         assertEquals(1, negativeNumTokener.getIndex());
-        this.assertCompareToBigDecimal(BigDecimal.ONE, (BigDecimal) nonNegativeNumTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(12), (BigDecimal) doubleDigitTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(1.2), (BigDecimal) decimalTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(1.23), (BigDecimal) doubleDecimalTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(100), (BigDecimal) smallExponentTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(100), (BigDecimal) bigExponentTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(100), (BigDecimal) positiveExponentTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(0.01), (BigDecimal) negativeExponentTokener.nextNumber(), 0);
-        this.assertCompareToBigDecimal(BigDecimal.valueOf(1e12), (BigDecimal) doubleExponentTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.ONE, nonNegativeNumTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(12), doubleDigitTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(1.2), decimalTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(1.23), doubleDecimalTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(100), smallExponentTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(100), bigExponentTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(100), positiveExponentTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(0.01), negativeExponentTokener.nextNumber(), 0);
+        this.assertCompareToBigDecimal(BigDecimal.valueOf(1e12), doubleExponentTokener.nextNumber(), 0);
+    }
+
+    @Test
+    void nextNumberIntegralTest() {
+
+        assertEquals(42L, new JsonTokener("42").nextNumber());
+        assertEquals(-7L, new JsonTokener("-7,").nextNumber());
+        assertEquals(Long.MAX_VALUE, new JsonTokener("9223372036854775807").nextNumber());
+        assertEquals(Long.MIN_VALUE, new JsonTokener("-9223372036854775808").nextNumber());
+        assertEquals(new BigDecimal("9223372036854775808"), new JsonTokener("9223372036854775808").nextNumber());
+        assertEquals(new BigDecimal("-9223372036854775809"), new JsonTokener("-9223372036854775809").nextNumber());
+        assertEquals(new BigDecimal("123456789012345678901234567890"),
+                     new JsonTokener("123456789012345678901234567890").nextNumber());
+        assertEquals(new BigDecimal("12.5"), new JsonTokener("12.5").nextNumber());
+        assertEquals(new BigDecimal("1e3"), new JsonTokener("1e3").nextNumber());
     }
 
     @Test
@@ -211,6 +227,65 @@ class JsonTokenerTest {
         assertThrows(JsonParsingException.class, illegalControlCharacter::nextString);
     }
 
+    @Test
+    void nextStringUnicodeEscapeTest() {
+
+        JsonTokener surrogatePairTokener = new JsonTokener("\"smile: \\uD83D\\ude00!\"");
+        JsonTokener upperCaseTokener = new JsonTokener("\"\\u00C4\\u00e4\"");
+        JsonTokener illegalHexTokener = new JsonTokener("\"\\u00g0\"");
+        JsonTokener shortHexTokener = new JsonTokener("\"\\u00\"");
+
+        assertEquals("smile: \uD83D\uDE00!", surrogatePairTokener.nextString());
+        assertEquals("\u00C4\u00E4", upperCaseTokener.nextString());
+        assertThrows(JsonParsingException.class, illegalHexTokener::nextString);
+        assertThrows(JsonParsingException.class, shortHexTokener::nextString);
+    }
+
+    @Test
+    void nextStringReaderTest() {
+
+        StringBuilder string = new StringBuilder();
+
+        for (int i = 0; i < 3000; i++) {
+            string.append("text ").append(i).append(i % 7 == 0 ? "\\n\\u00fc" : "");
+        }
+
+        JsonTokener jsonTokener = new JsonTokener(new StringReader("\"" + string + "\", \"" + string + "\""));
+
+        String expected = string.toString().replace("\\n", "\n").replace("\\u00fc", "\u00fc");
+
+        assertEquals(expected, jsonTokener.nextString());
+        assertEquals(',', jsonTokener.next());
+        jsonTokener.skipCommentAndWhitespace();
+        assertEquals(expected, jsonTokener.nextString());
+        assertFalse(jsonTokener.hasNext());
+    }
+
+    @Test
+    void skipValueTest() {
+
+        JsonTokener jsonTokener = new JsonTokener("{\"a\": [1, \"]\\\"}\", {\"b\": null}], // ]}\n\"c\": 2}" +
+                                                  "\"str\\\"ing\"-12.5e+3 true null [] 1");
+        JsonTokener illegalTokener = new JsonTokener("]");
+        JsonTokener unclosedTokener = new JsonTokener("[[1, 2]");
+
+        jsonTokener.skipValue();
+        assertEquals('"', jsonTokener.nextNoIncrement());
+        jsonTokener.skipValue();
+        assertEquals('-', jsonTokener.nextNoIncrement());
+        jsonTokener.skipValue();
+        assertEquals(' ', jsonTokener.next());
+
+        for (int i = 0; i < 3; i++) {
+            jsonTokener.skipValue();
+            jsonTokener.skipCommentAndWhitespace();
+        }
+
+        assertEquals(1L, jsonTokener.nextNumber());
+        assertThrows(JsonParsingException.class, illegalTokener::skipValue);
+        assertThrows(JsonParsingException.class, unclosedTokener::skipValue);
+    }
+
     @Test
     void backTest() {
 
@@ -239,10 +314,31 @@ class JsonTokenerTest {
         assertEquals(1, jsonTokener.getIndex());
     }
 
-    private void assertCompareToBigDecimal(BigDecimal bigDecimal1, BigDecimal bigDecimal2, int expectedReturn) {
+    @Test
+    void resetTest() {
+
+        JsonTokener jsonTokener = new JsonTokener(new StringReader("\"abc\""));
+
+        assertEquals("abc", jsonTokener.nextString());
+
+        jsonTokener.reset("\"a\\nb\" 1");
+        assertEquals(-1, jsonTokener.getIndex());
+        assertEquals("a\nb", jsonTokener.nextString());
+        jsonTokener.skipCommentAndWhitespace();
+        assertEquals(1L, jsonTokener.nextNumber());
+        assertFalse(jsonTokener.hasNext());
+
+        jsonTokener.reset("\"x\\ty\"");
+        assertEquals("x\ty", jsonTokener.nextString());
+
+        jsonTokener.reset("");
+        assertFalse(jsonTokener.hasNext());
+    }
+
+    private void assertCompareToBigDecimal(BigDecimal bigDecimal, Number number, int expectedReturn) {
 
         //noinspection SimplifiableJUnitAssertion
-        assertTrue(bigDecimal1.compareTo(bigDecimal2) == expectedReturn);
+        assertTrue(bigDecimal.compareTo(new BigDecimal(number.toString())) == expectedReturn);
     }
 
 
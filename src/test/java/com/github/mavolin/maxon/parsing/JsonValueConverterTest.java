@@ -1,10 +1,27 @@
 package com.github.mavolin.maxon.parsing;
 
+import com.github.mavolin.maxon.NumberMode;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
 import com.github.mavolin.maxon.jsonvalues.JsonArray;
 import com.github.mavolin.maxon.jsonvalues.JsonObject;
 import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class JsonValueConverterTest {
@@ -55,5 +72,325 @@ class JsonValueConverterTest {
         assertEquals(jsonObjectJava, jsonObjectConverted);
     }
 
+    @Test
+    void getFromJsonBytesTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+
+        String json = "{\"key\": [1, \"Grüße\", true], \"other\": null}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = ("  " + json + "xyz").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        JsonObject jsonObjectJava = new JsonObject();
+        jsonObjectJava
+                .put("key", new JsonArray()
+                        .add(1)
+                        .add("Grüße")
+                        .add(true))
+                .put("other", (String) null);
+
+        assertEquals(jsonObjectJava, jsonValueConverter.getFromJson(bytes));
+        assertEquals(jsonObjectJava, jsonValueConverter.getFromJson(padded, 0, padded.length - 3));
+        assertEquals(jsonObjectJava, jsonValueConverter.getFromJson(ByteBuffer.wrap(bytes)));
+        assertEquals(jsonObjectJava, jsonValueConverter.getFromJson(direct));
+    }
+
+    @Test
+    void getFromJsonStreamTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+
+        StringBuilder json = new StringBuilder("[");
+        JsonArray jsonArrayJava = new JsonArray();
+
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+
+            json.append("{\"value\": \"ü").append(i).append("\"}");
+            jsonArrayJava.add(new JsonObject().put("value", "ü" + i));
+        }
+
+        json.append(']');
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(jsonArrayJava, jsonValueConverter.getFromJson(new StringReader(json.toString())));
+        assertEquals(jsonArrayJava, jsonValueConverter.getFromJson(new ByteArrayInputStream(bytes)));
+        assertEquals(jsonArrayJava,
+                     jsonValueConverter.getFromJson(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        assertEquals(jsonArrayJava.size(),
+                     jsonValueConverter.read(Channels.newChannel(new ByteArrayInputStream(bytes)), this::countStrings));
+    }
+
+    @Test
+    void getFromJsonReaderTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        JsonReader jsonReader = new JsonReader("{\"a\": [1, 2], \"b\": {\"c\": null}}");
+
+        jsonReader.nextToken();
+        jsonReader.nextToken();
+
+        assertEquals(new JsonArray().add(1).add(2), jsonValueConverter.getFromJson(jsonReader));
+        assertEquals(JsonToken.END_ARRAY, jsonReader.currentToken());
+        assertEquals(JsonToken.FIELD_NAME, jsonReader.nextToken());
+        assertEquals(new JsonObject().put("c", (String) null), jsonValueConverter.getFromJson(jsonReader));
+        assertEquals(JsonToken.END_OBJECT, jsonReader.nextToken());
+    }
+
+    @Test
+    void getFromJsonPathTest() throws IOException {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        StringBuilder json = new StringBuilder("\ufeff[");
+
+        for (int i = 0; i < 2000; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"id\": ").append(i).append(", \"name\": \"n\u00e4me ").append(i)
+                    .append("\"}");
+        }
+
+        json.append(']');
+
+        Path path = Files.createTempFile("maxon", ".json");
+
+        try {
+            Files.write(path, json.toString().getBytes(StandardCharsets.UTF_8));
+
+            JsonValue expected = jsonValueConverter.getFromJson(json.substring(1));
+            JsonArray lazy = (JsonArray) jsonValueConverter.getLazyFromJson(path);
+
+            assertEquals(expected, jsonValueConverter.getFromJson(path));
+            assertEquals("n\u00e4me 1999", lazy.getAsJsonObject(1999).getAsString("name"));
+            assertEquals(expected, lazy);
+        } finally {
+            Files.delete(path);
+        }
+
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getFromJson(path));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson(path));
+    }
+
+    @Test
+    void getFromJsonLinesTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        StringBuilder lines = new StringBuilder();
+        List<JsonValue> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            String line = "{\"id\": " + i + ", \"tags\": [\"a\", \"b\"]}";
+
+            lines.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+            expected.add(jsonValueConverter.getFromJson(line));
+
+            if (i % 1000 == 0) {
+                lines.append(" \n");
+            }
+        }
+
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected, jsonValueConverter.getFromJsonLines(bytes, true).collect(Collectors.toList()));
+        assertEquals(LongStream.range(0, 20_000).boxed().collect(Collectors.toList()),
+                     jsonValueConverter.getFromJsonLines(ByteBuffer.wrap(bytes), false)
+                             .map(jsonValue -> ((JsonObject) jsonValue).getAsLong("id"))
+                             .sorted()
+                             .collect(Collectors.toList()));
+        assertEquals(expected, jsonValueConverter.getFromJsonLines(ByteBuffer.allocateDirect(bytes.length).put(bytes)
+                                                                           .flip(), true)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(new JsonPrimitive(1L), new JsonPrimitive(2L)),
+                     jsonValueConverter.getFromJsonLines("1\n2".getBytes(StandardCharsets.UTF_8), true)
+                             .collect(Collectors.toList()));
+
+        byte[] malformed = "1\n{\"a\": }\n3\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getFromJsonLines(malformed, true).count());
+    }
+
+    @Test
+    void mapLinesTest() throws IOException {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        Path path = Files.createTempFile("maxon", ".jsonl");
+
+        try {
+            // the first break is the last byte of the first window, the others follow the segment size
+            List<String> expected = List.of("[1, 2, 3, 4, 5]\n", "{}\n[10, 20]\n", "3\n4\n5\n6\n", "7\n8\n9\n0\n1\n");
+
+            Files.write(path, String.join("", expected).getBytes(StandardCharsets.UTF_8));
+
+            List<ByteBuffer> segments = jsonValueConverter.mapLines(path, 8, 16);
+
+            assertEquals(expected, segments.stream()
+                    .map(segment -> StandardCharsets.UTF_8.decode(segment.duplicate()).toString())
+                    .collect(Collectors.toList()));
+            assertEquals(12, segments.stream()
+                    .flatMap(segment -> jsonValueConverter.getFromJsonLines(segment, true))
+                    .count());
+            assertEquals(1, jsonValueConverter.mapLines(path, 8, 64).size());
+            assertThrows(JsonParsingException.class, () -> jsonValueConverter.mapLines(path, 8, 15));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void getFromJsonNumberModeTest() {
+
+        JsonValueConverter bigDecimalConverter = new JsonValueConverter();
+        JsonValueConverter doubleConverter = new JsonValueConverter(NumberMode.DOUBLE);
+
+        JsonArray bigDecimals = (JsonArray) bigDecimalConverter.getFromJson("[1, 0.1, 2e3, 12345678901234567890]");
+        JsonArray doubles = (JsonArray) doubleConverter.getFromJson("[1, 0.1, 2e3, 12345678901234567890]");
+
+        assertEquals(1L, bigDecimals.getAsLong(0));
+        assertEquals(new BigDecimal("0.1"), bigDecimals.getAsBigDecimal(1));
+        assertEquals(1L, doubles.getAsLong(0));
+        assertEquals(0.1, doubles.getAsDouble(1));
+        assertEquals(2000.0, doubles.getAsDouble(2));
+        assertEquals(new BigDecimal("12345678901234567890"), doubles.getAsBigDecimal(3));
+    }
+
+    @Test
+    void getFromJsonParallelTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        StringBuilder json = new StringBuilder("[");
+
+        for (int i = 0; i < 50_000; i++) {
+            json.append(i == 0 ? "" : ",\n")
+                    .append("{\"id\": ").append(i)
+                    .append(", \"text\": \"],[\\\"{,\", \"values\": [").append(i).append(", null, [true]]}");
+        }
+
+        String source = json.append("]").toString();
+        JsonValue expected = jsonValueConverter.getFromJson(source);
+
+        assertEquals(expected, jsonValueConverter.getFromJsonParallel(source));
+        assertEquals(expected, jsonValueConverter.getFromJsonParallel(source.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(new JsonArray(), jsonValueConverter.getFromJsonParallel(" [ ] ", 0));
+        assertEquals(new JsonArray().add(1).add("a"), jsonValueConverter.getFromJsonParallel("[1, // comment\n\"a\"]", 0));
+        assertEquals(new JsonObject().put("a", 1), jsonValueConverter.getFromJsonParallel("{\"a\": 1}", 0));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getFromJsonParallel("[1, {\"a\" 1}]", 0));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getFromJsonParallel("[1, 2,]", 0));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getFromJsonParallel("[1, [2]]]", 0));
+    }
+
+    @Test
+    void getLazyFromJsonTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+
+        String json = "{\"a\": [1, 2.5, {\"b\": \"x\\ny\"}], // comment\n" +
+                "\"c\": null, \"d\": {}, \"e\": [], \"f\": true, \"a\u00e4\": -3}";
+
+        JsonValue eager = jsonValueConverter.getFromJson(json);
+        JsonObject lazy = (JsonObject) jsonValueConverter.getLazyFromJson(json);
+        JsonObject lazyBytes = (JsonObject) jsonValueConverter.getLazyFromJson(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(6, lazy.size());
+        assertEquals("x\ny", lazy.getAsJsonArray("a").getAsJsonObject(2).getAsString("b"));
+        assertSame(lazy.getAsJsonArray("a"), lazy.getAsJsonArray("a"));
+        assertTrue(((JsonPrimitive) lazy.getAsJsonValue("c")).isNull());
+        assertEquals(-3, lazyBytes.getAsInteger("a\u00e4"));
+        assertEquals(eager, lazy);
+        assertEquals(eager, lazyBytes);
+        assertEquals(eager, jsonValueConverter.getLazyFromJson(json.replace("// comment\n", "")));
+
+        lazy.put("g", 1);
+        lazy.remove("f");
+        lazy.getAsJsonArray("e").add(4);
+
+        assertEquals(6, lazy.size());
+        assertEquals(4, lazy.getAsJsonArray("e").getAsInteger(0));
+        assertTrue(lazy.has("g"));
+        assertFalse(lazy.has("f"));
+    }
+
+    @Test
+    void getLazyFromJsonValidationTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("{\"a\": 1"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[1 2]"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("{\"a\" 1}"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[1] x"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[tru]"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[truex]"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[1x]"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[\"a\"1]"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("{\"a\": 1,}"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson("[1, // x\n 2"));
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getLazyFromJson(""));
+
+        // malformed numbers are only detected when they are decoded
+        JsonArray jsonArray = (JsonArray) jsonValueConverter.getLazyFromJson("[1, 1-2]");
+
+        assertEquals(1, jsonArray.getAsInteger(0));
+        assertThrows(JsonParsingException.class, () -> jsonArray.getAsInteger(1));
+    }
+
+    @Test
+    void extractTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        String json = "{\"header\": {\"tenantId\": \"t-1\", \"a/b\": 1, \"m~n\": 2}, " +
+                "\"items\": [{\"id\": 10}, {\"id\": 11}], \"skipped\": [[\"}\", {}], null]}";
+
+        JsonValue[] values = jsonValueConverter.extract(json, "/header/tenantId", "/items/1/id", "/header/a~1b",
+                                                        "/header/m~0n", "/missing", "/items/2", "/header/tenantId/x",
+                                                        "/items/01");
+
+        assertEquals(new JsonPrimitive("t-1"), values[0]);
+        assertEquals(new JsonPrimitive(11), values[1]);
+        assertEquals(new JsonPrimitive(1), values[2]);
+        assertEquals(new JsonPrimitive(2), values[3]);
+        assertNull(values[4]);
+        assertNull(values[5]);
+        assertNull(values[6]);
+        assertNull(values[7]);
+
+        JsonValue[] nested = jsonValueConverter.extract(json.getBytes(StandardCharsets.UTF_8), "/items", "/items/0/id",
+                                                        "");
+
+        assertEquals(new JsonArray().add(new JsonObject().put("id", 10)).add(new JsonObject().put("id", 11)),
+                     nested[0]);
+        assertEquals(new JsonPrimitive(10), nested[1]);
+        assertEquals(jsonValueConverter.getFromJson(json), nested[2]);
+        assertThrows(IllegalArgumentException.class, () -> jsonValueConverter.extract(json, "header"));
+    }
+
+    @Test
+    void extractStopsEarlyTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+
+        // the rest of the JSON is malformed, but never read
+        JsonValue[] values = jsonValueConverter.extract("{\"a\": {\"b\": true, \"c\": [1, 2]}, \"d\": ]]]", "/a/b");
+
+        assertEquals(new JsonPrimitive(true), values[0]);
+        assertThrows(JsonParsingException.class,
+                     () -> jsonValueConverter.extract("{\"a\": {\"b\": true}, \"d\": ]]]", "/x"));
+    }
+
+    private int countStrings(JsonReader jsonReader) {
+
+        int count = 0;
+
+        while (jsonReader.nextToken() != null) {
+            if (jsonReader.currentToken() == JsonToken.STRING) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
 
-}
\ No newline at end of file
+}
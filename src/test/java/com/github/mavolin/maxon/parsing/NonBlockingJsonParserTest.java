@@ -0,0 +1,172 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import com.github.mavolin.maxon.jsonvalues.JsonValue;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NonBlockingJsonParserTest {
+
+
+    private static final String JSON = "{\"id\": -42.5e1, \"tags\": [\"a\\u00fc\\\"\", true, null, false], // comment\n" +
+            "\"nested\": {\"text\": \"Grüße, 世界 \uD83D\uDE00\", \"list\": [[], {}]}}";
+
+
+    @Test
+    void nextTokenTest() {
+
+        NonBlockingJsonParser parser = new NonBlockingJsonParser();
+
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer("{\"na"));
+        assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer("me\" "));
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer(": 12"));
+        assertEquals(JsonToken.FIELD_NAME, parser.nextToken());
+        assertEquals("name", parser.getString());
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer("3}"));
+        assertEquals(JsonToken.NUMBER, parser.nextToken());
+        assertEquals("name", parser.currentName());
+        assertEquals(123, parser.getNumber().intValue());
+        assertEquals(JsonToken.END_OBJECT, parser.nextToken());
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer(" 7"));
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.endOfInput();
+        assertEquals(JsonToken.NUMBER, parser.nextToken());
+        assertEquals(7, parser.getNumber().intValue());
+        assertNull(parser.nextToken());
+        assertThrows(IllegalStateException.class, () -> parser.feed(buffer("1")));
+    }
+
+    @Test
+    void nextValueTest() {
+
+        JsonValue expected = new JsonValueConverter().getFromJson(JSON);
+        byte[] bytes = (JSON + "\n" + JSON).getBytes(StandardCharsets.UTF_8);
+
+        for (int chunkSize = 1; chunkSize <= 7; chunkSize++) { // splits multi-byte characters and escapes
+            NonBlockingJsonParser parser = new NonBlockingJsonParser();
+            List<JsonValue> values = new ArrayList<>();
+
+            for (int i = 0; i < bytes.length; i += chunkSize) {
+                parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+
+                JsonValue value;
+
+                while ((value = parser.nextValue()) != null) {
+                    values.add(value);
+                }
+
+                assertEquals(JsonToken.NEED_MORE_INPUT, parser.currentToken());
+            }
+
+            parser.endOfInput();
+
+            assertNull(parser.nextValue());
+            assertNull(parser.currentToken());
+            assertEquals(2, values.size());
+            assertEquals(expected, values.get(0));
+            assertEquals(expected, values.get(1));
+        }
+    }
+
+    @Test
+    void largeValueTest() {
+
+        NonBlockingJsonParser parser = new NonBlockingJsonParser();
+        JsonArray expected = new JsonArray();
+
+        parser.feed(buffer("["));
+
+        for (int i = 0; i < 5000; i++) {
+            parser.feed(buffer((i > 0 ? ", " : "") + "{\"value\": \"ä" + i + "\"}"));
+            expected.add(new JsonObject().put("value", "ä" + i));
+
+            assertNull(parser.nextValue());
+        }
+
+        parser.feed(buffer("]"));
+
+        assertEquals(expected, parser.nextValue());
+    }
+
+    @Test
+    void illegalJsonTest() {
+
+        assertThrows(JsonParsingException.class, () -> parseAll("[1 2]"));
+        assertThrows(JsonParsingException.class, () -> parseAll("{\"a\" 1}"));
+        assertThrows(JsonParsingException.class, () -> parseAll("{a: 1}"));
+        assertThrows(JsonParsingException.class, () -> parseAll("[tru]"));
+        assertThrows(JsonParsingException.class, () -> parseAll("[1-2]"));
+        assertThrows(JsonParsingException.class, () -> parseAll("[\"\\m\"]"));
+        assertThrows(JsonParsingException.class, () -> parseAll("[\"abc"));
+        assertThrows(JsonParsingException.class, () -> parseAll("[1,"));
+        assertThrows(JsonParsingException.class, () -> parseAll(""));
+        assertThrows(JsonParsingException.class, () -> parseAll("truefalse"));
+        assertThrows(JsonParsingException.class, () -> parseAll("1true"));
+        assertThrows(JsonParsingException.class, () -> parseAll("\"a\"\"b\""));
+    }
+
+    @Test
+    void topLevelValuesTest() {
+
+        NonBlockingJsonParser parser = new NonBlockingJsonParser();
+
+        parser.feed(buffer("true"));
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer(" \"a\""));
+        assertEquals(JsonToken.TRUE, parser.nextToken());
+        assertEquals(JsonToken.NEED_MORE_INPUT, parser.nextToken());
+
+        parser.feed(buffer("\n1 {}"));
+        assertEquals(JsonToken.STRING, parser.nextToken());
+        assertEquals("a", parser.getString());
+        assertEquals(JsonToken.NUMBER, parser.nextToken());
+        assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+        assertEquals(JsonToken.END_OBJECT, parser.nextToken());
+
+        parser.feed(buffer(" null"));
+        parser.endOfInput();
+        assertEquals(JsonToken.NULL, parser.nextToken());
+        assertNull(parser.nextToken());
+    }
+
+    private static void parseAll(String json) {
+
+        NonBlockingJsonParser parser = new NonBlockingJsonParser();
+
+        parser.feed(buffer(json));
+        parser.endOfInput();
+
+        //noinspection StatementWithEmptyBody
+        while (parser.nextToken() != null) {
+            // consume
+        }
+    }
+
+    private static ByteBuffer buffer(String string) {
+
+        return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+}
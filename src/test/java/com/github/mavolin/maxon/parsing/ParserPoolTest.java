@@ -0,0 +1,92 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.NumberMode;
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import com.github.mavolin.maxon.jsonvalues.JsonPrimitive;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserPoolTest {
+
+
+    @Test
+    void acquireTest() {
+
+        ParserPool parserPool = new ParserPool(NumberMode.BIG_DECIMAL, null);
+        ParserPool.Parser parser = parserPool.acquire();
+        JsonReader jsonReader = parser.reader("[1]");
+
+        parserPool.release(parser);
+
+        assertSame(parser, parserPool.acquire());
+        assertSame(jsonReader, parser.reader("{}"));
+        assertEquals(JsonToken.START_OBJECT, jsonReader.nextToken());
+        assertNotSame(parser, parserPool.acquire());
+    }
+
+    @Test
+    void reuseAfterErrorTest() {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+
+        assertThrows(JsonParsingException.class, () -> jsonValueConverter.getFromJson("{\"a\": [1, 2"));
+        assertThrows(JsonParsingException.class,
+                     () -> jsonValueConverter.getFromJson("{\"a\": tru}".getBytes(StandardCharsets.UTF_8)));
+
+        JsonObject jsonObject = (JsonObject) jsonValueConverter.getFromJson("{\"b\": \"c\\nd\"}");
+
+        assertEquals("c\nd", ((JsonPrimitive) jsonObject.getAsJsonValue("b")).getAsString());
+        assertEquals(new JsonPrimitive(true), jsonValueConverter.getFromJson("true".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void concurrencyTest() throws Exception {
+
+        JsonValueConverter jsonValueConverter = new JsonValueConverter();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String value = "v\\t" + thread + "-" + i;
+                        String json = "{\"id\": " + i + ", \"value\": \"" + value + "\"}";
+                        JsonObject jsonObject = (JsonObject) (i % 2 == 0 ?
+                                                              jsonValueConverter.getFromJson(json) :
+                                                              jsonValueConverter.getFromJson(
+                                                                      json.getBytes(StandardCharsets.UTF_8)));
+
+                        if (((JsonPrimitive) jsonObject.getAsJsonValue("id")).getAsLong() != i ||
+                            !("v\t" + thread + "-" + i).equals(
+                                    ((JsonPrimitive) jsonObject.getAsJsonValue("value")).getAsString())) {
+                            return false;
+                        }
+                    }
+
+                    return true;
+                }));
+            }
+
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+
+}
@@ -0,0 +1,112 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuralIndexerTest {
+
+
+    @Test
+    void indexTest() {
+
+        String json = "{\"a\\\"]\": [1, true, \"x\\\\\"], \"b\":null}";
+
+        assertEquals(List.of(0, 1, 7, 9, 10, 11, 13, 17, 19, 24, 25, 27, 30, 31, 35),
+                     positions(StructuralIndexer.index(json.toCharArray(), 0, json.length())));
+        assertNull(StructuralIndexer.index("[1, // comment\n2]".toCharArray(), 0, 17));
+        assertNotNull(StructuralIndexer.index("[\"//\"]".toCharArray(), 0, 6));
+        assertThrows(JsonParsingException.class, () -> StructuralIndexer.index("[\"a]".toCharArray(), 0, 4));
+    }
+
+    @Test
+    void indexRandomTest() {
+
+        Random random = new Random(42);
+        String alphabet = "{}[]:,\"\\\\\\ a1\né";
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder json = new StringBuilder();
+
+            for (int length = random.nextInt(300); length > 0; length--) {
+                json.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+
+            String source = json.toString();
+            byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+            List<Integer> expected = naivePositions(source);
+
+            if (expected == null) {
+                assertThrows(JsonParsingException.class,
+                             () -> StructuralIndexer.index(source.toCharArray(), 0, source.length()));
+                assertThrows(JsonParsingException.class, () -> StructuralIndexer.index(bytes, 0, bytes.length));
+            } else {
+                assertEquals(expected, positions(StructuralIndexer.index(source.toCharArray(), 0, source.length())),
+                             source);
+                assertEquals(naivePositions(new String(bytes, StandardCharsets.ISO_8859_1)),
+                             positions(StructuralIndexer.index(bytes, 0, bytes.length)), source);
+            }
+        }
+    }
+
+    private static List<Integer> positions(StructuralIndexer indexer) {
+
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < indexer.count(); i++) {
+            positions.add(indexer.positions()[i]);
+        }
+
+        return positions;
+    }
+
+    // backslashes escape the next character even outside of strings, which only matters for invalid JSON
+    private static List<Integer> naivePositions(String json) {
+
+        List<Integer> positions = new ArrayList<>();
+        boolean inString = false;
+        boolean escape = false;
+        boolean previousScalar = false;
+
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                } else if (c == '\\') {
+                    escape = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+
+                previousScalar = false;
+            } else if ("{}[]:,".indexOf(c) >= 0) {
+                positions.add(i);
+                previousScalar = false;
+                escape = false;
+            } else if (" \t\n\r".indexOf(c) >= 0) {
+                previousScalar = false;
+                escape = false;
+            } else {
+                if (!previousScalar) {
+                    positions.add(i);
+                }
+
+                inString = c == '"' && !escape;
+                previousScalar = !inString;
+                escape = !escape && c == '\\';
+            }
+        }
+
+        return inString ? null : positions;
+    }
+
+
+}
@@ -0,0 +1,73 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.NumberMode;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolTableTest {
+
+
+    @Test
+    void lookupTest() {
+
+        SymbolTable symbolTable = new SymbolTable();
+        char[] chars = "xkeyxkey".toCharArray();
+        byte[] bytes = "xküyxküy".getBytes(StandardCharsets.UTF_8);
+
+        String first = symbolTable.lookup(chars, 1, 3);
+
+        assertEquals("key", first);
+        assertSame(first, symbolTable.lookup(chars, 5, 3));
+        assertNotSame(first, symbolTable.lookup("kex".toCharArray(), 0, 3));
+
+        String firstFromBytes = symbolTable.lookup(bytes, 1, 4);
+
+        assertEquals("küy", firstFromBytes);
+        assertSame(firstFromBytes, symbolTable.lookup(bytes, 6, 4));
+    }
+
+    @Test
+    void boundedTest() {
+
+        SymbolTable symbolTable = new SymbolTable(4, 0);
+
+        for (int i = 0; i < 100; i++) {
+            String symbol = symbolTable.lookup(("key" + i).toCharArray(), 0, ("key" + i).length());
+
+            assertEquals("key" + i, symbol);
+            assertSame(symbol, symbolTable.lookup(symbol.toCharArray(), 0, symbol.length()));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new SymbolTable(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SymbolTable(4, -1));
+    }
+
+    @Test
+    void canonicalizeTest() {
+
+        String json = "[{\"status\": \"OK\", \"message\": \"some longer text\"}, " +
+                "{\"status\": \"OK\", \"message\": \"some longer text\"}]";
+
+        for (boolean utf8 : new boolean[]{false, true}) {
+            JsonValueConverter jsonValueConverter = new JsonValueConverter(NumberMode.BIG_DECIMAL,
+                                                                           new SymbolTable(64, 4));
+            JsonArray jsonArray = (JsonArray) (utf8 ?
+                                               jsonValueConverter.getFromJson(json.getBytes(StandardCharsets.UTF_8)) :
+                                               jsonValueConverter.getFromJson(json));
+            JsonObject first = jsonArray.getAsJsonObject(0);
+            JsonObject second = jsonArray.getAsJsonObject(1);
+
+            assertEquals(first, second);
+            assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+            assertSame(first.getAsString("status"), second.getAsString("status"));
+            assertNotSame(first.getAsString("message"), second.getAsString("message"));
+        }
+    }
+
+
+}
@@ -0,0 +1,227 @@
+package com.github.mavolin.maxon.parsing;
+
+import com.github.mavolin.maxon.exceptions.JsonParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8JsonTokenerTest {
+
+
+    @Test
+    void nextTest() {
+
+        Utf8JsonTokener jsonTokener = new Utf8JsonTokener(bytes("12"));
+
+        assertEquals(-1, jsonTokener.getIndex());
+
+        assertEquals('1', jsonTokener.next());
+        assertEquals(0, jsonTokener.getIndex());
+
+        assertEquals('2', jsonTokener.next());
+        assertEquals(1, jsonTokener.getIndex());
+        assertFalse(jsonTokener.hasNext());
+    }
+
+    @Test
+    void sliceTest() {
+
+        byte[] json = bytes("xx\"abc\"yy");
+        Utf8JsonTokener jsonTokener = new Utf8JsonTokener(json, 2, 5);
+
+        assertEquals("abc", jsonTokener.nextString());
+        assertEquals(4, jsonTokener.getIndex());
+        assertFalse(jsonTokener.hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                new Utf8JsonTokener(json, 5, 5));
+    }
+
+    @Test
+    void byteOrderMarkTest() {
+
+        byte[] json = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 't', 'r', 'u', 'e'};
+
+        assertTrue(new Utf8JsonTokener(json).nextBoolean());
+    }
+
+    @Test
+    void nextStringTest() {
+
+        Utf8JsonTokener helloWorldTokener = new Utf8JsonTokener(bytes("\"Hello World!\""));
+        Utf8JsonTokener multiByteTokener = new Utf8JsonTokener(bytes("\"Grüße, 世界 \uD83D\uDE00\""));
+        Utf8JsonTokener controlCharacter = new Utf8JsonTokener(
+                bytes("\"\\\", \\\\, \\/, \\b, \\f, \\n, \\r, \\t, \\u23fb, ü\""));
+        Utf8JsonTokener missingLastQuoteTokener = new Utf8JsonTokener(bytes("\"Hello World"));
+        Utf8JsonTokener newlineTokener = new Utf8JsonTokener(bytes("\"\n\""));
+        Utf8JsonTokener illegalControlCharacter = new Utf8JsonTokener(bytes("\"\\m\""));
+        Utf8JsonTokener invalidUtf8Tokener = new Utf8JsonTokener(new byte[]{'"', '\\', 'n', (byte) 0xC3, '"'});
+
+        assertEquals("Hello World!", helloWorldTokener.nextString());
+        assertEquals("Grüße, 世界 \uD83D\uDE00", multiByteTokener.nextString());
+        assertEquals("\", \\, /, \b, \f, \n, \r, \t, \u23fb, ü", controlCharacter.nextString());
+        assertThrows(JsonParsingException.class, missingLastQuoteTokener::nextString);
+        assertThrows(JsonParsingException.class, newlineTokener::nextString);
+        assertThrows(JsonParsingException.class, illegalControlCharacter::nextString);
+        assertThrows(JsonParsingException.class, invalidUtf8Tokener::nextString);
+    }
+
+    @Test
+    void nextLongStringTest() {
+
+        String ascii = "The quick brown fox jumps over the lazy dog. ".repeat(50);
+        String mixed = ascii + "\u00FC" + ascii + "\uD83D\uDE00";
+
+        assertEquals(ascii, new Utf8JsonTokener(bytes("\"" + ascii + "\"")).nextString());
+        assertEquals(mixed, new Utf8JsonTokener(bytes("\"" + mixed + "\"")).nextString());
+        assertEquals(ascii + "\n" + mixed,
+                     new Utf8JsonTokener(bytes("\"" + ascii + "\\n" + mixed + "\"")).nextString());
+        assertEquals(ascii + "\t", new Utf8JsonTokener(bytes("\"" + ascii + "\t\"")).nextString());
+
+        byte[] truncated = bytes("\"" + ascii + "\u00FC\"");
+        byte[] overlong = bytes("\"" + ascii + "\uD83D\uDE00\"");
+
+        truncated[truncated.length - 2] = 'x';
+        overlong[overlong.length - 5] = (byte) 0xF7;
+
+        assertThrows(JsonParsingException.class, new Utf8JsonTokener(truncated)::nextString);
+        assertThrows(JsonParsingException.class, new Utf8JsonTokener(overlong)::nextString);
+    }
+
+    @Test
+    void invalidUtf8Test() {
+
+        int[][] invalid = {{0xC0, 0xA2}, {0xC1, 0xBF}, {0xE0, 0x80, 0xA2}, {0xE0, 0x9F, 0xBF}, {0xF0, 0x80, 0x80, 0xA2},
+                           {0xF0, 0x8F, 0xBF, 0xBF}, {0xED, 0xA0, 0x80}, {0xED, 0xBF, 0xBF}, {0xF4, 0x90, 0x80, 0x80},
+                           {0xF5, 0x80, 0x80, 0x80}, {0xFF}, {0x80}};
+
+        for (int[] sequence : invalid) {
+            assertThrows(JsonParsingException.class, new Utf8JsonTokener(escaped(sequence))::nextString);
+            assertThrows(JsonParsingException.class, new Utf8JsonTokener(plain(sequence))::nextString);
+            assertThrows(JsonParsingException.class, new Utf8JsonTokener(plainThenEscaped(sequence))::nextString);
+        }
+
+        assertEquals("\n\u0080\u07FF\u0800\uD7FF\uE000\uFFFF\uD800\uDC00\uDBFF\uDFFF",
+                     new Utf8JsonTokener(escaped(0xC2, 0x80, 0xDF, 0xBF, 0xE0, 0xA0, 0x80, 0xED, 0x9F, 0xBF,
+                                                 0xEE, 0x80, 0x80, 0xEF, 0xBF, 0xBF, 0xF0, 0x90, 0x80, 0x80,
+                                                 0xF4, 0x8F, 0xBF, 0xBF)).nextString());
+        assertEquals("x\u0080\uFFFD\uD800\uDC00y",
+                     new Utf8JsonTokener(plain(0xC2, 0x80, 0xEF, 0xBF, 0xBD, 0xF0, 0x90, 0x80, 0x80)).nextString());
+    }
+
+    @Test
+    void nextCharacterTest() {
+
+        assertEquals('ü', new Utf8JsonTokener(bytes("\"ü\"")).nextCharacter());
+        assertThrows(JsonParsingException.class, new Utf8JsonTokener(bytes("\"üü\""))::nextCharacter);
+    }
+
+    @Test
+    void directByteBufferTest() {
+
+        StringBuilder json = new StringBuilder("[");
+
+        for (int i = 0; i < 5000; i++) {
+            json.append("\"ä").append(i).append("\\n\", ");
+        }
+
+        json.append("null]");
+
+        byte[] bytes = bytes(json.toString());
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        Utf8JsonTokener jsonTokener = new Utf8JsonTokener(direct);
+
+        assertEquals('[', jsonTokener.next());
+
+        for (int i = 0; i < 5000; i++) {
+            assertEquals("ä" + i + "\n", jsonTokener.nextString());
+            assertEquals(',', jsonTokener.next());
+            jsonTokener.skipCommentAndWhitespace();
+        }
+
+        assertNull(jsonTokener.nextString());
+        assertEquals(']', jsonTokener.next());
+        assertFalse(jsonTokener.hasNext());
+        assertEquals(bytes.length - 1, jsonTokener.getIndex());
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void resetTest() {
+
+        Utf8JsonTokener jsonTokener = new Utf8JsonTokener(bytes("\"ä\\n\""));
+
+        assertEquals("ä\n", jsonTokener.nextString());
+
+        jsonTokener.reset(bytes("[\"ö\\t\"]"), 1, 6);
+        assertEquals(-1, jsonTokener.getIndex());
+        assertEquals("ö\t", jsonTokener.nextString());
+        assertFalse(jsonTokener.hasNext());
+
+        jsonTokener.reset("\uFEFFtrue"); // with a byte order mark
+        assertEquals(true, jsonTokener.nextBoolean());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> jsonTokener.reset(new byte[2], 1, 2));
+    }
+
+    /**
+     * Returns a JSON string containing the passed bytes after an escape sequence, so that they are decoded by the slow
+     * path.
+     */
+    private static byte[] escaped(int... sequence) {
+
+        return string("\\n", sequence, "");
+    }
+
+    /**
+     * Returns a JSON string containing only the passed bytes, so that they are checked by the fast path.
+     */
+    private static byte[] plain(int... sequence) {
+
+        return string("x", sequence, "y");
+    }
+
+    /**
+     * Returns a JSON string containing the passed bytes before an escape sequence, so that they are checked by the fast
+     * path before the rest is decoded by the slow path.
+     */
+    private static byte[] plainThenEscaped(int... sequence) {
+
+        return string("x", sequence, "\\n");
+    }
+
+    private static byte[] string(String prefix, int[] sequence, String suffix) {
+
+        byte[] bytes = new byte[prefix.length() + sequence.length + suffix.length() + 2];
+        int index = 0;
+
+        bytes[index++] = '"';
+
+        for (char c : prefix.toCharArray()) {
+            bytes[index++] = (byte) c;
+        }
+
+        for (int b : sequence) {
+            bytes[index++] = (byte) b;
+        }
+
+        for (char c : suffix.toCharArray()) {
+            bytes[index++] = (byte) c;
+        }
+
+        bytes[index] = '"';
+
+        return bytes;
+    }
+
+    private static byte[] bytes(String string) {
+
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+
+}
@@ -347,5 +347,17 @@ class JsonPrinterTest {
                                                                          PrintStyle.PRETTY_PRINTED));
     }
 
+    @Test
+    void escapingTest() {
+
+        JsonObject testObject = new JsonObject()
+                .put("key \"with\" quotes\\", "\u0000\u001F\u0007 \u00E9\u007F")
+                .put("line\nbreak", new JsonPrimitive('\u0001'));
+
+        assertEquals("{\"key \\\"with\\\" quotes\\\\\":\"\\u0000\\u001F\\u0007 \u00E9\u007F\"," +
+                     "\"line\\nbreak\":\"\\u0001\"}",
+                     JsonPrinter.printJsonObject(testObject, ' ', 4, false, PrintStyle.NO_WHITESPACE));
+    }
+
 
 }
\ No newline at end of file
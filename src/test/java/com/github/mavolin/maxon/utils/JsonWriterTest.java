@@ -0,0 +1,134 @@
+package com.github.mavolin.maxon.utils;
+
+import com.github.mavolin.maxon.PrintStyle;
+import com.github.mavolin.maxon.jsonvalues.JsonArray;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonWriterTest {
+
+
+    @Test
+    void streamingTest() {
+
+        StringBuilder out = new StringBuilder();
+        JsonWriter jsonWriter = new JsonWriter(out, ' ', 2, true, PrintStyle.PRETTY_PRINTED);
+
+        jsonWriter
+                .beginObject()
+                .name("id").value(42)
+                .name("missing").nullValue()
+                .name("tags").beginArray().value("a").value((String) null).value(true).endArray()
+                .name("empty").beginObject().endObject()
+                .endObject()
+                .flush();
+
+        assertEquals("{\n  \"id\": 42,\n  \"tags\": [\n    \"a\",\n    true\n  ],\n  \"empty\": {\n    \n  }\n}",
+                     out.toString());
+    }
+
+    @Test
+    void numberTest() {
+
+        StringBuilder out = new StringBuilder();
+        JsonWriter jsonWriter = new JsonWriter(out, ' ', 0, false, PrintStyle.NO_WHITESPACE);
+
+        jsonWriter
+                .beginArray()
+                .value(Long.MIN_VALUE).value(1.0E10).value(0.1f).value((Number) 12)
+                .value((Number) 2.5).value(new BigDecimal("1.10")).value(BigInteger.TEN.pow(20))
+                .endArray()
+                .flush();
+
+        assertEquals("[-9223372036854775808,1.0E10,0.1,12,2.5,1.10,100000000000000000000]", out.toString());
+        assertThrows(IllegalArgumentException.class, () -> jsonWriter.value(Double.NaN));
+    }
+
+    @Test
+    void deepNestingTest() {
+
+        JsonArray jsonArray = new JsonArray();
+        JsonArray inner = jsonArray;
+
+        for (int i = 0; i < 100; i++) {
+            JsonArray next = new JsonArray();
+
+            inner.add(next);
+            inner = next;
+        }
+        inner.add(new JsonObject().put("key", "value"));
+
+        String expected = JsonPrinter.printJsonArray(jsonArray, '\t', 1, false, PrintStyle.PRETTY_PRINTED);
+        StringBuilder out = new StringBuilder();
+
+        new JsonWriter(out, '\t', 1, false, PrintStyle.PRETTY_PRINTED).value(jsonArray).flush();
+
+        assertEquals(expected, out.toString());
+        assertTrue(expected.contains("\n" + "\t".repeat(101) + "{\n" + "\t".repeat(102) + "\"key\": \"value\""));
+    }
+
+    @Test
+    void largeOutputTest() {
+
+        String string = "x".repeat(10000);
+        StringBuilder out = new StringBuilder();
+
+        new JsonWriter(out, ' ', 4, false, PrintStyle.NO_WHITESPACE).value(new JsonArray().add(string).add(string))
+                                                                   .flush();
+
+        assertEquals("[\"" + string + "\",\"" + string + "\"]", out.toString());
+    }
+
+    @Test
+    void illegalStateTest() {
+
+        JsonWriter jsonWriter = new JsonWriter(new StringBuilder(), ' ', 4, false, PrintStyle.NO_WHITESPACE);
+
+        assertThrows(IllegalStateException.class, jsonWriter::endArray);
+        assertThrows(IllegalStateException.class, () -> jsonWriter.name("key"));
+
+        jsonWriter.beginObject();
+
+        assertThrows(IllegalStateException.class, () -> jsonWriter.value(1));
+        assertThrows(IllegalStateException.class, jsonWriter::endArray);
+    }
+
+    @Test
+    void ioExceptionTest() {
+
+        Writer writer = new Writer() {
+
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() {
+
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+
+        JsonWriter jsonWriter = new JsonWriter(writer, ' ', 4, false, PrintStyle.NO_WHITESPACE);
+
+        jsonWriter.value(true);
+
+        assertThrows(UncheckedIOException.class, jsonWriter::flush);
+    }
+
+
+}
@@ -0,0 +1,51 @@
+package com.github.mavolin.maxon.utils;
+
+import com.github.mavolin.maxon.Maxon;
+import com.github.mavolin.maxon.MaxonConfigurator;
+import com.github.mavolin.maxon.PrintStyle;
+import com.github.mavolin.maxon.jsonvalues.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyCacheTest {
+
+
+    @Test
+    void lookupTest() {
+
+        KeyCache keyCache = new KeyCache();
+        char[] first = keyCache.lookup("a\"b");
+
+        assertEquals("\"a\\\"b\"", new String(first));
+        assertSame(first, keyCache.lookup(new String("a\"b")));
+        assertEquals("\"x\"", new String(keyCache.lookup("x")));
+        assertEquals("\"" + "k".repeat(300) + "\"", new String(keyCache.lookup("k".repeat(300))));
+        assertThrows(IllegalArgumentException.class, () -> new KeyCache(0));
+    }
+
+    @Test
+    void boundedTest() {
+
+        KeyCache keyCache = new KeyCache(4);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("\"key\\n" + i + "\"", new String(keyCache.lookup("key\n" + i)));
+        }
+    }
+
+    @Test
+    void maxonTest() {
+
+        Maxon maxon = new MaxonConfigurator()
+                .setPrintStyle(PrintStyle.NO_WHITESPACE)
+                .setKeyCache(new KeyCache())
+                .buildMaxon();
+        JsonObject jsonObject = new JsonObject().put("id", 1).put("tab\t", "value");
+
+        assertEquals("{\"id\":1,\"tab\\t\":\"value\"}", maxon.getAsJson(jsonObject));
+        assertEquals(maxon.getAsJson(jsonObject), maxon.getAsJson(jsonObject));
+    }
+
+
+}
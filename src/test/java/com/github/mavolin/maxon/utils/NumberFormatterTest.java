@@ -0,0 +1,136 @@
+package com.github.mavolin.maxon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberFormatterTest {
+
+
+    @Test
+    void writeLongTest() {
+
+        assertEquals("0", writeLong(0));
+        assertEquals("7", writeLong(7));
+        assertEquals("-42", writeLong(-42));
+        assertEquals("100", writeLong(100));
+        assertEquals("1234567890", writeLong(1234567890));
+        assertEquals("9223372036854775807", writeLong(Long.MAX_VALUE));
+        assertEquals("-9223372036854775808", writeLong(Long.MIN_VALUE));
+
+        Random random = new Random(42);
+
+        for (int n = 0; n < 10000; n++) {
+            long value = random.nextLong() >> random.nextInt(64);
+
+            assertEquals(Long.toString(value), writeLong(value));
+        }
+    }
+
+    @Test
+    void writeDoubleTest() {
+
+        assertEquals("0.0", writeDouble(0.0));
+        assertEquals("-0.0", writeDouble(-0.0));
+        assertEquals("1.0", writeDouble(1.0));
+        assertEquals("-1.5", writeDouble(-1.5));
+        assertEquals("0.1", writeDouble(0.1));
+        assertEquals("100.0", writeDouble(100.0));
+        assertEquals("0.001", writeDouble(0.001));
+        assertEquals("1.0E-4", writeDouble(0.0001));
+        assertEquals("1234567.0", writeDouble(1234567.0));
+        assertEquals("1.0E7", writeDouble(1.0E7));
+        assertEquals("1.0E10", writeDouble(1.0E10));
+        assertEquals("0.002", writeDouble(0.002));
+        assertEquals("3.141592653589793", writeDouble(Math.PI));
+        assertEquals("1.7976931348623157E308", writeDouble(Double.MAX_VALUE));
+        assertEquals("2.2250738585072014E-308", writeDouble(Double.MIN_NORMAL));
+        assertEquals("4.9E-324", writeDouble(Double.MIN_VALUE));
+        assertEquals("1.0E23", writeDouble(1.0E23));
+        assertThrows(IllegalArgumentException.class, () -> writeDouble(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> writeDouble(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void writeDoubleRandomTest() {
+
+        Random random = new Random(42);
+
+        for (int n = 0; n < 100000; n++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+
+            String written = writeDouble(value);
+
+            assertEquals(value, Double.parseDouble(written), written);
+            assertTrue(digitCount(written) <= digitCount(Double.toString(value)), written);
+        }
+    }
+
+    @Test
+    void writeFloatTest() {
+
+        assertEquals("0.0", writeFloat(0.0f));
+        assertEquals("1.0", writeFloat(1.0f));
+        assertEquals("0.1", writeFloat(0.1f));
+        assertEquals("-3.4028235E38", writeFloat(-Float.MAX_VALUE));
+        assertEquals("1.4E-45", writeFloat(Float.MIN_VALUE));
+        assertEquals("1.1754944E-38", writeFloat(Float.MIN_NORMAL));
+        assertThrows(IllegalArgumentException.class, () -> writeFloat(Float.NaN));
+
+        Random random = new Random(42);
+
+        for (int n = 0; n < 100000; n++) {
+            float value = Float.intBitsToFloat(random.nextInt());
+
+            if (!Float.isFinite(value)) {
+                continue;
+            }
+
+            String written = writeFloat(value);
+
+            assertEquals(value, Float.parseFloat(written), written);
+            assertTrue(digitCount(written) <= digitCount(Float.toString(value)), written);
+        }
+    }
+
+    private static String writeLong(long value) {
+
+        char[] chars = new char[NumberFormatter.MAX_LONG_LENGTH];
+
+        return new String(chars, 0, NumberFormatter.writeLong(value, chars, 0));
+    }
+
+    private static String writeDouble(double value) {
+
+        char[] chars = new char[NumberFormatter.MAX_DOUBLE_LENGTH];
+
+        return new String(chars, 0, NumberFormatter.writeDouble(value, chars, 0));
+    }
+
+    private static String writeFloat(float value) {
+
+        char[] chars = new char[NumberFormatter.MAX_FLOAT_LENGTH];
+
+        return new String(chars, 0, NumberFormatter.writeFloat(value, chars, 0));
+    }
+
+    /**
+     * Returns the number of significant digits of the passed decimal.
+     */
+    private static int digitCount(String decimal) {
+
+        int exponent = decimal.indexOf('E');
+        String digits = (exponent < 0 ? decimal : decimal.substring(0, exponent)).replaceAll("[-.]", "")
+                .replaceFirst("^0+", "").replaceFirst("0+$", "");
+
+        return Math.max(digits.length(), 1);
+    }
+
+
+}
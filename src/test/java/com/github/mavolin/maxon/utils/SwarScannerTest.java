@@ -0,0 +1,70 @@
+package com.github.mavolin.maxon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwarScannerTest {
+
+
+    @Test
+    void indexOfSpecialTest() {
+
+        byte[] bytes = "abcdefghijklmnop\"qrstuvwxyz\\".getBytes();
+
+        assertEquals(16, SwarScanner.indexOfSpecial(bytes, 0, bytes.length));
+        assertEquals(27, SwarScanner.indexOfSpecial(bytes, 17, bytes.length));
+        assertEquals(10, SwarScanner.indexOfSpecial(bytes, 3, 10));
+        assertEquals(3, SwarScanner.indexOfSpecial(new byte[]{'a', 'b', 'c', 0x1F, '"'}, 0, 5));
+        assertEquals(9, SwarScanner.indexOfSpecial(new byte[]{' ', '!', '#', '[', ']', '~', 0x7F, 'a', 'b', -61},
+                                                   0, 10));
+    }
+
+    @Test
+    void randomTest() {
+
+        Random random = new Random(42);
+        byte[] alphabet = {'a', ' ', '!', '#', '"', '\\', 0x00, 0x1F, 0x20, 0x21, 0x5B, 0x5D, 0x7F, -128, -1, -61};
+
+        for (int n = 0; n < 10000; n++) {
+            byte[] bytes = new byte[random.nextInt(40)];
+
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = random.nextInt(4) == 0 ? alphabet[random.nextInt(alphabet.length)] : (byte) 'x';
+            }
+
+            int from = bytes.length == 0 ? 0 : random.nextInt(bytes.length);
+
+            assertEquals(naiveIndexOfSpecial(bytes, from), SwarScanner.indexOfSpecial(bytes, from, bytes.length));
+            assertEquals(naiveIndexOfNonAscii(bytes, from), SwarScanner.indexOfNonAscii(bytes, from, bytes.length));
+        }
+    }
+
+    private static int naiveIndexOfSpecial(byte[] bytes, int from) {
+
+        for (int i = from; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+
+            if (b < 0x20 || b >= 0x80 || b == '"' || b == '\\') {
+                return i;
+            }
+        }
+
+        return bytes.length;
+    }
+
+    private static int naiveIndexOfNonAscii(byte[] bytes, int from) {
+
+        for (int i = from; i < bytes.length; i++) {
+            if ((bytes[i] & 0xFF) >= 0x80) {
+                return i;
+            }
+        }
+
+        return bytes.length;
+    }
+
+
+}
@@ -0,0 +1,108 @@
+package com.github.mavolin.maxon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8WriterTest {
+
+
+    private static final String TEXT = "Hello W\u00F6rld \u20AC \uD83D\uDE00 \u0800\u07FF\u007F";
+
+
+    @Test
+    void encodingTest() throws IOException {
+
+        String string = TEXT.repeat(1000);
+
+        assertArrayEquals(string.getBytes(StandardCharsets.UTF_8), encode(string));
+        assertArrayEquals("a?b?".getBytes(StandardCharsets.UTF_8), encode("a\uDE00b\uD83D"));
+        assertArrayEquals("?x".getBytes(StandardCharsets.UTF_8), encode("\uD83Dx"));
+    }
+
+    @Test
+    void splitSurrogateTest() throws IOException {
+
+        Utf8Writer utf8Writer = new Utf8Writer();
+        char[] chars = "a\uD83D\uDE00b".toCharArray();
+
+        utf8Writer.write(chars, 0, 2);
+        utf8Writer.write(chars, 2, 2);
+
+        assertArrayEquals("a\uD83D\uDE00b".getBytes(StandardCharsets.UTF_8), utf8Writer.toByteArray());
+    }
+
+    @Test
+    void outputStreamTest() throws IOException {
+
+        String string = TEXT.repeat(2000);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Utf8Writer utf8Writer = new Utf8Writer(outputStream);
+
+        utf8Writer.write(string);
+        utf8Writer.flush();
+
+        assertArrayEquals(string.getBytes(StandardCharsets.UTF_8), outputStream.toByteArray());
+
+        ByteArrayOutputStream channelStream = new ByteArrayOutputStream();
+
+        try (Utf8Writer channelWriter = new Utf8Writer(Channels.newChannel(channelStream))) {
+            channelWriter.write(string);
+        }
+
+        assertArrayEquals(string.getBytes(StandardCharsets.UTF_8), channelStream.toByteArray());
+    }
+
+    @Test
+    void byteBufferTest() throws IOException {
+
+        byte[] expected = TEXT.getBytes(StandardCharsets.UTF_8);
+
+        for (ByteBuffer byteBuffer : new ByteBuffer[]{ByteBuffer.allocate(expected.length + 2),
+                                                       ByteBuffer.allocateDirect(expected.length + 2)}) {
+            byteBuffer.put((byte) '[');
+
+            Utf8Writer utf8Writer = new Utf8Writer(byteBuffer);
+
+            utf8Writer.write(TEXT);
+            utf8Writer.flush();
+
+            assertEquals(expected.length + 1, byteBuffer.position());
+
+            byte[] written = new byte[expected.length];
+
+            byteBuffer.flip().position(1);
+            byteBuffer.get(written);
+
+            assertArrayEquals(expected, written);
+        }
+
+        Utf8Writer heapWriter = new Utf8Writer(ByteBuffer.allocate(expected.length - 1));
+        Utf8Writer directWriter = new Utf8Writer(ByteBuffer.allocateDirect(expected.length - 1));
+
+        assertThrows(BufferOverflowException.class, () -> heapWriter.write(TEXT));
+        assertThrows(BufferOverflowException.class, () -> {
+            directWriter.write(TEXT);
+            directWriter.flush();
+        });
+        assertThrows(IllegalStateException.class, heapWriter::toByteArray);
+    }
+
+    private static byte[] encode(String string) throws IOException {
+
+        Utf8Writer utf8Writer = new Utf8Writer();
+
+        utf8Writer.write(string);
+
+        return utf8Writer.toByteArray();
+    }
+
+
+}